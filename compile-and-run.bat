@@ -35,8 +35,12 @@ javac -d ..\bin -encoding UTF-8 ^
     rpg\factory\*.java ^
     rpg\game\*.java ^
     rpg\inventory\*.java ^
+    rpg\logging\*.java ^
     rpg\persistence\*.java ^
     rpg\quest\*.java ^
+    rpg\replay\*.java ^
+    rpg\session\*.java ^
+    rpg\simulation\*.java ^
     rpg\ui\*.java
 
 if %ERRORLEVEL% EQU 0 (
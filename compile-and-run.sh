@@ -33,8 +33,12 @@ javac -d ../bin -encoding UTF-8 \
     rpg/factory/*.java \
     rpg/game/*.java \
     rpg/inventory/*.java \
+    rpg/logging/*.java \
     rpg/persistence/*.java \
     rpg/quest/*.java \
+    rpg/replay/*.java \
+    rpg/session/*.java \
+    rpg/simulation/*.java \
     rpg/ui/*.java
 
 if [ $? -eq 0 ]; then
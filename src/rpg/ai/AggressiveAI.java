@@ -1,8 +1,8 @@
 package rpg.ai;
 
 import rpg.core.Character;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 
 /**
  * IA agresiva - Maximiza el daño infligido.
@@ -30,24 +30,20 @@ public class AggressiveAI implements EnemyAI {
         
         // Cada 3 turnos usa habilidad especial
         if (turnCounter % 3 == 0) {
-            String message = enemy.getName() + " entra en modo FURIA!";
-            System.out.println(message);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+            CombatLog.message(MessageTemplate.ENEMY_FURY, enemy, target, 0);
             
             int initialHp = target.getCurrentHp();
             enemy.specialAbility(target);
             int damage = initialHp - target.getCurrentHp();
             
-            String damageMsg = enemy.getName() + " usa [GOLPE BRUTAL] por " + damage + " de daño!";
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMsg);
+            CombatLog.report(MessageTemplate.ENEMY_BRUTAL_STRIKE, enemy, target, damage);
         } else {
             // Ataque normal
             int initialHp = target.getCurrentHp();
             enemy.attack(target);
             int damage = initialHp - target.getCurrentHp();
             
-            String attackMsg = enemy.getName() + " ataca ferozmente por " + damage + " de daño!";
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMsg);
+            CombatLog.report(MessageTemplate.ENEMY_ATTACK_FEROCIOUS, enemy, target, damage);
         }
     }
 }
@@ -0,0 +1,424 @@
+package rpg.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import rpg.combat.MagicAttack;
+import rpg.core.BalanceParameters;
+import rpg.core.Character;
+import rpg.core.Enemy;
+import rpg.core.GameConstants;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
+
+/**
+ * IA de jefe - Planifica varios turnos por delante (expectimax).
+ *
+ * COMPORTAMIENTO:
+ * - Evalúa sus tres acciones (atacar, habilidad especial, defender) contra
+ *   las respuestas probables del jugador (atacar, golpe fuerte, defender)
+ * - Sabe cuándo se queda sin maná para MagicAttack o para su habilidad
+ *   especial, cuánto se cura o regenera y cuánto le quita la defensa del jugador
+ * - Prefiere acabar rápido con el jugador y evitar morir pronto
+ *
+ * BÚSQUEDA:
+ * - Sobre un State mínimo (unos pocos ints, copy() barato), nunca sobre
+ *   los Character reales: buscar no toca HP, maná ni aleatoriedad del juego
+ * - Profundización iterativa hasta GameConstants.BOSS_AI_MAX_DEPTH turnos;
+ *   las tres acciones raíz se evalúan en paralelo (Fork/Join)
+ * - Presupuesto de tiempo DURO por turno (GameConstants.BOSS_AI_TIME_BUDGET_MS):
+ *   si se agota, se usa la mejor acción de la última profundidad completa,
+ *   así el turno nunca se traba
+ * - Sin presupuesto (siempre la profundidad máxima) cuando CombatLog está
+ *   en silencio (simulador) o en una repetición (setFixedDepth())
+ * - Tabla de transposición: las posiciones repetidas (mismo estado, misma
+ *   profundidad) no se vuelven a evaluar, ni en este turno ni en los siguientes
+ *
+ * DETERMINISMO:
+ * La búsqueda no usa el GameRandom de la batalla y, a profundidad fija,
+ * decide siempre lo mismo para el mismo estado: las simulaciones con semilla
+ * y las repeticiones no dependen de la carga de la máquina. Si una batalla
+ * en vivo agota el presupuesto (lastTurnTimedOut()), BattleManager marca su
+ * diario como no repetible.
+ *
+ * IDEAL PARA:
+ * - Jefes: DragonWhelp, DarkMage
+ */
+public class BossAI implements EnemyAI {
+
+    // --- Acciones del jefe ---
+    private static final int ATTACK = 0;
+    private static final int SPECIAL = 1;
+    private static final int DEFEND = 2;
+    private static final int ACTIONS = 3;
+
+    // --- Respuestas probables del jugador (y su probabilidad) ---
+    private static final double[] RESPONSE_WEIGHTS = { 0.60, 0.25, 0.15 }; // ataque, golpe fuerte, defensa
+    private static final double STRONG_HIT_MULTIPLIER = 1.5; // Aproxima las habilidades especiales
+
+    // --- Evaluación ---
+    private static final double PLAYER_DEFEATED = 1000.0;
+    private static final double BOSS_DEFEATED = -1000.0;
+
+    // Límite de la tabla de transposición (se vacía al llenarse)
+    private static final int MAX_CACHED_POSITIONS = 100_000;
+
+    // Se lanza al agotar el presupuesto (sin stack trace: es control de flujo)
+    private static final RuntimeException OUT_OF_TIME = new RuntimeException("Presupuesto agotado", null, false, false) { };
+
+    // Búsqueda a profundidad fija en este hilo (ver setFixedDepth)
+    private static final ThreadLocal<Boolean> FIXED_DEPTH = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final long budgetNanos;
+    private final int maxDepth;
+    private final Map<Long, Double> transpositions = new ConcurrentHashMap<>();
+    private Model cachedModel; // Las posiciones guardadas valen solo para este modelo
+
+    // Estadísticas del último turno (para depurar y ajustar)
+    private int lastDepth;
+    private boolean lastTimedOut;
+
+    public BossAI() {
+        this(GameConstants.BOSS_AI_TIME_BUDGET_MS, GameConstants.BOSS_AI_MAX_DEPTH);
+    }
+
+    /**
+     * @param budgetMillis Tiempo máximo de búsqueda por turno
+     * @param maxDepth Turnos del jefe que mira por delante
+     */
+    public BossAI(long budgetMillis, int maxDepth) {
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.maxDepth = Math.max(1, maxDepth);
+    }
+
+    /**
+     * Ignora el presupuesto de tiempo en el hilo actual: siempre busca hasta
+     * la profundidad máxima (lo usan las repeticiones de rpg.replay).
+     * @return El valor anterior, para poder restaurarlo
+     */
+    public static boolean setFixedDepth(boolean fixed) {
+        boolean previous = FIXED_DEPTH.get();
+        FIXED_DEPTH.set(fixed);
+        return previous;
+    }
+
+    @Override
+    public void takeTurn(Character enemy, Character target) {
+        int action = chooseAction(enemy, target);
+
+        if (action == DEFEND) {
+            CombatLog.message(MessageTemplate.BOSS_ANTICIPATE, enemy, target, 0);
+            enemy.defend();
+            return;
+        }
+
+        int initialHp = target.getCurrentHp();
+        if (action == SPECIAL) {
+            enemy.specialAbility(target);
+        } else {
+            enemy.attack(target);
+        }
+        CombatLog.report(action == SPECIAL ? MessageTemplate.ENEMY_UNLEASH : MessageTemplate.ENEMY_ATTACK,
+            enemy, target, initialHp - target.getCurrentHp());
+    }
+
+    /**
+     * Busca la mejor acción dentro del presupuesto de tiempo (o a
+     * profundidad fija, sin simulador ni repetición de por medio).
+     */
+    int chooseAction(Character enemy, Character target) {
+        boolean timed = CombatLog.isEnabled() && !FIXED_DEPTH.get();
+        long deadline = timed ? System.nanoTime() + budgetNanos : Long.MAX_VALUE;
+        Model model = Model.of(enemy, target);
+        if (!model.equals(cachedModel)) {
+            transpositions.clear();
+            cachedModel = model;
+        } else if (transpositions.size() > MAX_CACHED_POSITIONS) {
+            transpositions.clear();
+        }
+        State root = State.of(enemy, target);
+
+        int best = ATTACK;
+        lastDepth = 0;
+        lastTimedOut = false;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            double[] values = evaluateRoot(model, root, depth, deadline);
+            if (values == null) {
+                lastTimedOut = true;
+                break;
+            }
+            best = argMax(values);
+            lastDepth = depth;
+        }
+        return best;
+    }
+
+    // Las acciones raíz en paralelo; null si se agotó el tiempo
+    private double[] evaluateRoot(Model model, State root, int depth, long deadline) {
+        List<ForkJoinTask<Double>> tasks = new ArrayList<>(ACTIONS);
+        for (int action = 0; action < ACTIONS; action++) {
+            final int a = action;
+            tasks.add(ForkJoinTask.adapt(() -> actionValue(model, root, a, depth, deadline)));
+        }
+        try {
+            ForkJoinTask.invokeAll(tasks);
+        } catch (RuntimeException e) {
+            if (System.nanoTime() > deadline) {
+                return null; // Se agotó el tiempo
+            }
+            throw e;
+        }
+        double[] values = new double[ACTIONS];
+        for (int a = 0; a < ACTIONS; a++) {
+            values[a] = tasks.get(a).join();
+        }
+        return values;
+    }
+
+    private static int argMax(double[] values) {
+        int best = 0;
+        for (int a = 1; a < values.length; a++) {
+            if (values[a] > values[best]) {
+                best = a;
+            }
+        }
+        return best;
+    }
+
+    // --- Expectimax ---
+
+    // Valor de que el jefe haga 'action' y luego responda el jugador
+    private double actionValue(Model model, State state, int action, int depth, long deadline) {
+        State afterBoss = state.copy();
+        model.bossTurn(afterBoss, action);
+        if (afterBoss.playerHp <= 0) {
+            return PLAYER_DEFEATED + depth; // Cuanto antes, mejor
+        }
+        double value = 0;
+        for (int response = 0; response < RESPONSE_WEIGHTS.length; response++) {
+            State afterPlayer = afterBoss.copy();
+            model.playerTurn(afterPlayer, response);
+            double v;
+            if (afterPlayer.bossHp <= 0) {
+                v = BOSS_DEFEATED - depth; // Cuanto antes, peor
+            } else if (depth == 1) {
+                v = model.evaluate(afterPlayer);
+            } else {
+                v = bestValue(model, afterPlayer, depth - 1, deadline);
+            }
+            value += RESPONSE_WEIGHTS[response] * v;
+        }
+        return value;
+    }
+
+    private double bestValue(Model model, State state, int depth, long deadline) {
+        if (System.nanoTime() > deadline) {
+            throw OUT_OF_TIME;
+        }
+        long key = state.key(depth);
+        if (key >= 0) {
+            Double cached = transpositions.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Un turno nuevo del jefe: primero se regenera (en la raíz ya lo hizo el juego)
+        State start = state;
+        if (model.bossRegen > 0) {
+            start = state.copy();
+            model.regenerate(start);
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        for (int action = 0; action < ACTIONS; action++) {
+            best = Math.max(best, actionValue(model, start, action, depth, deadline));
+        }
+        if (key >= 0) {
+            transpositions.put(key, best);
+        }
+        return best;
+    }
+
+    /**
+     * @return Profundidad completada en el último turno
+     */
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * @return true si el último turno agotó el presupuesto de tiempo
+     */
+    public boolean lastTurnTimedOut() {
+        return lastTimedOut;
+    }
+
+    // --- Modelo de la batalla ---
+
+    /**
+     * Lo que cambia durante la búsqueda: unos pocos números, copia barata.
+     */
+    static final class State {
+        int bossHp;
+        int bossMana;
+        boolean bossDefending;
+        int playerHp;
+        boolean playerDefending;
+
+        static State of(Character boss, Character player) {
+            State state = new State();
+            state.bossHp = boss.getCurrentHp();
+            state.bossMana = boss.getCurrentMana();
+            state.bossDefending = boss.isDefending();
+            state.playerHp = player.getCurrentHp();
+            state.playerDefending = player.isDefending();
+            return state;
+        }
+
+        State copy() {
+            State copy = new State();
+            copy.bossHp = bossHp;
+            copy.bossMana = bossMana;
+            copy.bossDefending = bossDefending;
+            copy.playerHp = playerHp;
+            copy.playerDefending = playerDefending;
+            return copy;
+        }
+
+        // Clave de la tabla de transposición; -1 si el estado no cabe en 64 bits
+        long key(int depth) {
+            if (bossHp > 0xFFFF || playerHp > 0xFFFF || bossMana > 0xFFF || depth > 0xF) {
+                return -1;
+            }
+            return ((long) bossHp << 34) | ((long) playerHp << 18) | ((long) bossMana << 6)
+                | (bossDefending ? 1 << 5 : 0) | (playerDefending ? 1 << 4 : 0) | depth;
+        }
+    }
+
+    /**
+     * Lo que no cambia durante la búsqueda: stats y reglas de daño.
+     */
+    static final class Model {
+        final int bossMaxHp;
+        final int bossDefense;
+        final int bossRegen;
+        final boolean bossUsesMana;
+        final int bossAttackDamage;
+        final int bossSpecialDamage;
+        final int bossSpecialHealing;
+        final int bossSpecialManaCost;
+        final int playerMaxHp;
+        final int playerDefense;
+        final int playerAttackDamage;
+        final int minimumDamage;
+        final double defenseMultiplier;
+
+        private Model(Character boss, Character player) {
+            BalanceParameters balance = BalanceParameters.current();
+            this.minimumDamage = balance.getMinimumDamage();
+            this.defenseMultiplier = balance.getDefenseDamageMultiplier();
+            this.bossMaxHp = boss.getMaxHp();
+            this.bossDefense = boss.getDefense();
+            this.bossUsesMana = boss.getAttackStrategy() instanceof MagicAttack;
+            this.bossAttackDamage = bossUsesMana ? boss.getBaseMagic() : boss.getBaseAttack();
+            if (boss instanceof Enemy) {
+                Enemy enemy = (Enemy) boss;
+                this.bossRegen = enemy.getRegenPerTurn();
+                this.bossSpecialDamage = enemy.estimateSpecialDamage();
+                this.bossSpecialHealing = enemy.estimateSpecialHealing(bossSpecialDamage);
+                this.bossSpecialManaCost = enemy.getSpecialManaCost();
+            } else {
+                this.bossRegen = 0;
+                this.bossSpecialDamage = (int) (boss.getBaseAttack() * 1.5);
+                this.bossSpecialHealing = 0;
+                this.bossSpecialManaCost = 0;
+            }
+            this.playerMaxHp = player.getMaxHp();
+            this.playerDefense = player.getDefense();
+            this.playerAttackDamage = player.getAttackStrategy() instanceof MagicAttack
+                ? player.getBaseMagic() : player.getBaseAttack();
+        }
+
+        static Model of(Character boss, Character player) {
+            return new Model(boss, player);
+        }
+
+        // Mismas reglas que Character.takeDamage()
+        int damageTaken(int amount, int defense, boolean defending) {
+            int damage = Math.max(minimumDamage, amount - defense);
+            return defending ? (int) (damage * defenseMultiplier) : damage;
+        }
+
+        void regenerate(State s) {
+            if (s.bossHp < bossMaxHp) {
+                s.bossHp = Math.min(bossMaxHp, s.bossHp + bossRegen);
+            }
+        }
+
+        void bossTurn(State s, int action) {
+            if (action == DEFEND) {
+                s.bossDefending = true;
+                return;
+            }
+            if (action == ATTACK) {
+                s.bossDefending = false; // Atacar rompe la defensa
+                if (bossUsesMana) {
+                    if (s.bossMana < GameConstants.MAGIC_ATTACK_MANA_COST) {
+                        return; // Sin maná, el hechizo falla
+                    }
+                    s.bossMana -= GameConstants.MAGIC_ATTACK_MANA_COST;
+                }
+                hitPlayer(s, bossAttackDamage);
+            } else {
+                if (s.bossMana < bossSpecialManaCost) {
+                    return; // Sin maná, la habilidad falla
+                }
+                s.bossMana -= bossSpecialManaCost;
+                hitPlayer(s, bossSpecialDamage);
+                s.bossHp = Math.min(bossMaxHp, s.bossHp + bossSpecialHealing);
+            }
+        }
+
+        private void hitPlayer(State s, int amount) {
+            s.playerHp = Math.max(0, s.playerHp - damageTaken(amount, playerDefense, s.playerDefending));
+            s.playerDefending = false;
+        }
+
+        void playerTurn(State s, int response) {
+            if (response == 2) {
+                s.playerDefending = true;
+                return;
+            }
+            s.playerDefending = false;
+            int amount = response == 1 ? (int) (playerAttackDamage * STRONG_HIT_MULTIPLIER) : playerAttackDamage;
+            s.bossHp = Math.max(0, s.bossHp - damageTaken(amount, bossDefense, s.bossDefending));
+            s.bossDefending = false;
+        }
+
+        // Posición sin terminar: ventaja relativa de HP (-100 a 100)
+        double evaluate(State s) {
+            return 100.0 * ((double) s.bossHp / Math.max(1, bossMaxHp)
+                - (double) s.playerHp / Math.max(1, playerMaxHp));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Model)) return false;
+            Model m = (Model) o;
+            return bossMaxHp == m.bossMaxHp && bossDefense == m.bossDefense && bossRegen == m.bossRegen
+                && bossUsesMana == m.bossUsesMana && bossAttackDamage == m.bossAttackDamage
+                && bossSpecialDamage == m.bossSpecialDamage && bossSpecialHealing == m.bossSpecialHealing
+                && bossSpecialManaCost == m.bossSpecialManaCost
+                && playerMaxHp == m.playerMaxHp && playerDefense == m.playerDefense
+                && playerAttackDamage == m.playerAttackDamage
+                && minimumDamage == m.minimumDamage && defenseMultiplier == m.defenseMultiplier;
+        }
+
+        @Override
+        public int hashCode() {
+            return java.util.Objects.hash(bossMaxHp, bossDefense, bossAttackDamage, bossSpecialDamage,
+                playerMaxHp, playerDefense, playerAttackDamage);
+        }
+    }
+}
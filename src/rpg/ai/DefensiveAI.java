@@ -1,8 +1,8 @@
 package rpg.ai;
 
 import rpg.core.Character;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 
 /**
  * IA defensiva - Prioriza la supervivencia sobre el daño.
@@ -31,10 +31,8 @@ public class DefensiveAI implements EnemyAI {
         
         if (hpPercent < 0.5) {
             // Bajo HP: defiende 2 de cada 3 turnos
-            if (shouldDefend || Math.random() < 0.66) {
-                String message = enemy.getName() + " toma una postura defensiva cautelosa!";
-                System.out.println(message);
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+            if (shouldDefend || enemy.getRandom().chance(0.66)) {
+                CombatLog.message(MessageTemplate.ENEMY_GUARD_CAUTIOUS, enemy, target, 0);
                 enemy.defend();
                 shouldDefend = false;
             } else {
@@ -42,16 +40,13 @@ public class DefensiveAI implements EnemyAI {
                 enemy.attack(target);
                 int damage = initialHp - target.getCurrentHp();
                 
-                String attackMsg = enemy.getName() + " ataca cautelosamente por " + damage + " de daño!";
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMsg);
+                CombatLog.report(MessageTemplate.ENEMY_ATTACK_CAUTIOUS, enemy, target, damage);
                 shouldDefend = true;
             }
         } else {
             // HP normal: alterna ataque y defensa
             if (shouldDefend) {
-                String message = enemy.getName() + " se prepara para defenderse!";
-                System.out.println(message);
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+                CombatLog.message(MessageTemplate.ENEMY_GUARD, enemy, target, 0);
                 enemy.defend();
                 shouldDefend = false;
             } else {
@@ -59,8 +54,7 @@ public class DefensiveAI implements EnemyAI {
                 enemy.attack(target);
                 int damage = initialHp - target.getCurrentHp();
                 
-                String attackMsg = enemy.getName() + " ataca por " + damage + " de daño!";
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMsg);
+                CombatLog.report(MessageTemplate.ENEMY_ATTACK, enemy, target, damage);
                 shouldDefend = true;
             }
         }
@@ -14,6 +14,7 @@ import rpg.core.Character;
  * - AggressiveAI: Ataca constantemente con habilidades especiales
  * - DefensiveAI: Alterna entre ataque y defensa según HP
  * - EvasiveAI: Comportamiento impredecible y aleatorio
+ * - MageAI: Ataca con magia y se protege con poco HP
  * 
  * @see rpg.combat.AttackStrategy
  */
@@ -1,8 +1,8 @@
 package rpg.ai;
 
 import rpg.core.Character;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 
 /**
  * IA evasiva - Comportamiento impredecible y errático.
@@ -24,7 +24,7 @@ public class EvasiveAI implements EnemyAI {
     
     @Override
     public void takeTurn(Character enemy, Character target) {
-        double roll = Math.random();
+        double roll = enemy.getRandom().nextDouble();
         
         // 50% ataque normal
         // 30% defensa
@@ -35,24 +35,18 @@ public class EvasiveAI implements EnemyAI {
             enemy.attack(target);
             int damage = initialHp - target.getCurrentHp();
             
-            String attackMsg = enemy.getName() + " ataca velozmente por " + damage + " de daño!";
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMsg);
+            CombatLog.report(MessageTemplate.ENEMY_ATTACK_SWIFT, enemy, target, damage);
         } else if (roll < 0.80) {
-            String message = enemy.getName() + " esquiva ágilmente!";
-            System.out.println(message);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+            CombatLog.message(MessageTemplate.ENEMY_DODGE, enemy, target, 0);
             enemy.defend();
         } else {
-            String message = enemy.getName() + " realiza un movimiento inesperado!";
-            System.out.println(message);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+            CombatLog.message(MessageTemplate.ENEMY_FEINT, enemy, target, 0);
             
             int initialHp = target.getCurrentHp();
             enemy.specialAbility(target);
             int damage = initialHp - target.getCurrentHp();
             
-            String damageMsg = enemy.getName() + " te sorprende por " + damage + " de daño!";
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMsg);
+            CombatLog.report(MessageTemplate.ENEMY_AMBUSH, enemy, target, damage);
         }
     }
 }
@@ -1,8 +1,8 @@
 package rpg.ai;
 
 import rpg.core.Character;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 
 /**
  * IA Mágica - Gestiona el maná inteligentemente.
@@ -28,9 +28,7 @@ public class MageAI implements EnemyAI {
         
         // Si HP es muy bajo, defiende para sobrevivir
         if (hpPercent < 0.30) {
-            String message = enemy.getName() + " se concentra en una barrera mágica protectora!";
-            System.out.println(message);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+            CombatLog.message(MessageTemplate.ENEMY_BARRIER, enemy, target, 0);
             enemy.defend();
             return;
         }
@@ -41,8 +39,7 @@ public class MageAI implements EnemyAI {
         int damage = initialHp - target.getCurrentHp();
         
         if (damage > 0) {
-            String attackMsg = enemy.getName() + " ataca por " + damage + " de daño!";
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMsg);
+            CombatLog.report(MessageTemplate.ENEMY_ATTACK, enemy, target, damage);
         }
     }
 }
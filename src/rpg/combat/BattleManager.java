@@ -1,33 +1,96 @@
 package rpg.combat;
 
+import rpg.ai.BossAI;
+import rpg.core.BalanceParameters;
 import rpg.core.Character;
 import rpg.core.Enemy;
 import rpg.core.EnemyGroup;
-import rpg.events.GameEventManager;
+import rpg.core.GameConstants;
+import rpg.core.GameRandom;
+import rpg.events.CombatLog;
 import rpg.events.EventType;
+import rpg.events.MessageTemplate;
 import rpg.inventory.Item;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+import rpg.replay.BattleJournal;
 import java.util.List;
 import java.util.ArrayList;
 
 /**
  * Gestor del sistema de combate por turnos.
+ * 
+ * DIARIO DE BATALLA:
+ * Cada acción pública (playerAttack(), enemyTurn(), tryFlee(), ...) se anota
+ * en un BattleJournal. Con getJournal() se puede guardar y repetir la batalla
+ * exacta con rpg.replay.ReplayEngine.
+ * 
+ * ORDEN DE TURNOS:
+ * Los enemigos actúan por iniciativa (TurnScheduler, según su velocidad).
+ * En cada enemyTurn() actúan los que tienen turno antes de la siguiente
+ * acción del jugador: con todas las velocidades iguales, cada enemigo una
+ * vez y en el orden del grupo; un enemigo con prisa actúa dos veces.
  */
 public class BattleManager {
 
     private Character player;
     private Character enemies; // ¡Esto puede ser UN enemigo o un GRUPO! (Composite)
     private boolean isBattleOver = false;
+    
+    // Enemigos que participan en la batalla (se capturan al empezar para
+    // repartir XP y loot al final)
+    private List<Enemy> participants = new ArrayList<>();
+    private BattleRewards rewards;
+    
+    // Aleatoriedad propia de esta batalla (se puede repetir con la misma semilla)
+    private GameRandom random;
+    
+    // Diario para repetir la batalla (null si no se puede reconstruir o está desactivado)
+    private BattleJournal journal;
+    private boolean fled = false;
+    
+    // Orden de turnos de los enemigos y fin de la ronda actual (en ticks)
+    private final TurnScheduler enemyTurns = new TurnScheduler();
+    private long roundEnd = 0;
 
     // Constructor: le pasamos los combatientes
     public BattleManager(Character player, Character enemies) {
+        this(player, enemies, GameRandom.create());
+    }
+    
+    /**
+     * Crea una batalla reproducible: toda la aleatoriedad del combate,
+     * la IA y el loot sale de 'random'.
+     */
+    public BattleManager(Character player, Character enemies, GameRandom random) {
         this.player = player;
         this.enemies = enemies;
+        this.random = random;
+        player.setRandom(random);
+        enemies.setRandom(random);
+        
+        if (enemies instanceof EnemyGroup) {
+            ((EnemyGroup) enemies).setTurnScheduler(enemyTurns);
+            for (Character member : ((EnemyGroup) enemies).getMembers()) {
+                if (member instanceof Enemy) {
+                    participants.add((Enemy) member);
+                }
+                enemyTurns.add(member);
+            }
+        } else {
+            if (enemies instanceof Enemy) {
+                participants.add((Enemy) enemies);
+            }
+            enemyTurns.add(enemies);
+        }
+        
+        this.journal = BattleJournal.begin(player, enemies, random.getSeed());
     }
 
     // Método principal para iniciar y correr la batalla
     public void startBattle() {
         logMessage("¡Comienza la batalla!");
-        logMessage(player.getName() + " se enfrenta a " + enemies.getName() + "!");
+        logMessage(MessageTemplate.BATTLE_ENGAGE, player, enemies, 0);
 
         // Loop de batalla (simplificado)
         // En tu GUI real, esto no sería un 'while',
@@ -42,18 +105,73 @@ public class BattleManager {
 
     // Lógica para el turno del jugador
     public void playerTurn() {
+        journal(BattleJournal.PLAYER_TURN);
         if (!player.isAlive()) {
             logMessage("¡El jugador ha sido derrotado!");
             isBattleOver = true;
+            journalOutcome();
             return;
         }
 
         // En un juego real, aquí esperarías el input de la GUI.
         // Por ahora, solo atacamos.
-        logMessage(player.getName() + " ataca!");
+        logMessage(MessageTemplate.BATTLE_ACTOR_ATTACKS, player, enemies, 0);
         player.attack(enemies); // El jugador ataca al grupo
 
         checkVictory();
+        journalOutcome();
+    }
+    
+    // --- Acciones del jugador desde la GUI (siempre contra el enemigo actual) ---
+    
+    /**
+     * El jugador ataca al enemigo actual y se verifica la victoria.
+     */
+    public void playerAttack() {
+        journal(BattleJournal.ATTACK);
+        Enemy enemy = getCurrentEnemy();
+        if (enemy != null) {
+            player.attack(enemy);
+            checkVictory();
+        }
+        journalOutcome();
+    }
+    
+    /**
+     * El jugador usa su habilidad especial contra el enemigo actual.
+     */
+    public void playerSpecialAbility() {
+        journal(BattleJournal.SPECIAL);
+        Enemy enemy = getCurrentEnemy();
+        if (enemy != null) {
+            player.specialAbility(enemy);
+            checkVictory();
+        }
+        journalOutcome();
+    }
+    
+    /**
+     * El jugador se pone en guardia (recibe la mitad de daño en el próximo golpe).
+     */
+    public void playerDefend() {
+        journal(BattleJournal.DEFEND);
+        player.defend();
+        journalOutcome();
+    }
+    
+    /**
+     * Intenta huir (FLEE_SUCCESS_RATE de BalanceParameters). Si lo logra, la batalla termina.
+     * @return true si el jugador escapó
+     */
+    public boolean tryFlee() {
+        journal(BattleJournal.FLEE);
+        boolean escaped = random.chance(BalanceParameters.current().getFleeSuccessRate());
+        if (escaped) {
+            fled = true;
+            isBattleOver = true;
+        }
+        journalOutcome();
+        return escaped;
     }
 
     /**
@@ -61,43 +179,34 @@ public class BattleManager {
      * @return true si la batalla terminó con victoria, false en caso contrario
      */
     public boolean checkVictory() {
+        if (rewards != null) {
+            return true; // Las recompensas ya se entregaron
+        }
         if (!enemies.isAlive()) {
             logMessage("¡El jugador ha ganado la batalla!");
             
-            // Otorgar XP por victoria
-            int totalXp = 0;
-            int totalGold = 0;
-            List<Item> allLoot = new ArrayList<>();
-            
-            if (enemies instanceof EnemyGroup) {
-                EnemyGroup group = (EnemyGroup) enemies;
-                for (Character member : group.getMembers()) {
-                    if (member instanceof Enemy) {
-                        Enemy enemy = (Enemy) member;
-                        totalXp += enemy.getExperienceValue();
-                        
-                        // Generar loot de cada enemigo
-                        totalGold += enemy.generateGold();
-                        List<Item> enemyLoot = enemy.generateLoot();
-                        allLoot.addAll(enemyLoot);
-                    }
-                }
-            } else if (enemies instanceof Enemy) {
-                Enemy enemy = (Enemy) enemies;
-                totalXp = enemy.getExperienceValue();
-                totalGold = enemy.generateGold();
-                allLoot = enemy.generateLoot();
+            // Otorgar XP y loot de cada enemigo que participó
+            rewards = new BattleRewards();
+            BalanceParameters balance = BalanceParameters.current();
+            for (Enemy enemy : participants) {
+                rewards.addExperience(balance.scaleExperience(enemy.getExperienceValue()));
+                rewards.addGold(enemy.generateGold());
+                rewards.addItems(enemy.generateLoot());
             }
             
+            int totalXp = rewards.getExperience();
+            int totalGold = rewards.getGold();
+            List<Item> allLoot = rewards.getItems();
+            
             // Otorgar recompensas
             if (totalXp > 0) {
                 player.gainExperience(totalXp);
-                logMessage("¡Ganaste " + totalXp + " XP!");
+                logMessage(MessageTemplate.BATTLE_XP_GAINED, player, null, totalXp);
             }
             
             if (totalGold > 0) {
                 player.addGold(totalGold);
-                logMessage("¡Conseguiste " + totalGold + " monedas de oro!");
+                logMessage(MessageTemplate.BATTLE_GOLD_GAINED, player, null, totalGold);
             }
             
             if (!allLoot.isEmpty()) {
@@ -109,7 +218,7 @@ public class BattleManager {
                 logMessage("¡Los items se añadieron a tu inventario!");
             }
             
-            GameEventManager.getInstance().notify(EventType.ENEMY_DEFEATED, enemies);
+            CombatLog.event(EventType.ENEMY_DEFEATED, enemies);
             isBattleOver = true;
             return true;
         }
@@ -118,41 +227,175 @@ public class BattleManager {
 
     // Lógica para el turno del enemigo
     public void enemyTurn() {
+        journal(BattleJournal.ENEMY_TURN);
         if (!enemies.isAlive()) {
             isBattleOver = true;
+            journalOutcome();
             return;
         }
         
         // Si 'enemies' es un EnemyGroup, su 'attack' no hace nada (PassiveStrategy)
-        // Necesitamos atacar CON SUS MIEMBROS
-        if (enemies instanceof EnemyGroup) {
-            EnemyGroup group = (EnemyGroup) enemies;
-            for (Character member : group.getMembers()) {
-                if (member.isAlive() && player.isAlive()) {
-                    logMessage(member.getName() + " ataca!");
-                    member.attack(player);
-                }
-            }
-        } else {
-            // Es un solo enemigo
-            logMessage(enemies.getName() + " ataca!");
-            enemies.attack(player);
+        // Actúan SUS MIEMBROS (cada uno con su IA), por orden de iniciativa,
+        // hasta que le toque otra vez al jugador
+        roundEnd += TurnScheduler.delayOf(player.getSpeed());
+        Character actor;
+        while (player.isAlive() && (actor = enemyTurns.nextBefore(roundEnd)) != null) {
+            logMessage(MessageTemplate.BATTLE_ACTOR_ATTACKS, actor, player, 0);
+            act(actor);
         }
 
         if (!player.isAlive()) {
             logMessage("¡El jugador ha sido derrotado!");
             isBattleOver = true;
         }
+        journalOutcome();
+    }
+    
+    /**
+     * Turno de un solo enemigo: el enemigo actual (no usa la iniciativa).
+     * La GUI usa enemyTurn(); este se conserva para repetir diarios antiguos.
+     */
+    public void currentEnemyTurn() {
+        journal(BattleJournal.CURRENT_ENEMY_TURN);
+        Enemy enemy = getCurrentEnemy();
+        if (enemy != null && enemy.isAlive()) {
+            // Usa la IA del enemigo para decidir la acción
+            enemy.performAIAction(player);
+            checkBossSearch(enemy);
+            if (!player.isAlive()) {
+                isBattleOver = true;
+            }
+        }
+        journalOutcome();
     }
 
+    /**
+     * Cambia la velocidad de un combatiente en plena batalla (prisa/lentitud)
+     * y reordena los turnos. El diario deja de poder repetirse.
+     */
+    public void setSpeed(Character combatant, int speed) {
+        if (combatant == player) {
+            player.setSpeed(speed); // Cambia la duración de las rondas enemigas
+        } else {
+            enemyTurns.setSpeed(combatant, speed);
+        }
+        if (journal != null) {
+            journal.markTruncated();
+        }
+    }
+
+    /**
+     * Activa la elección de objetivo por amenaza en el grupo enemigo (ver
+     * EnemyGroup.setThreatTargeting()): los golpes del jugador caen más en
+     * quien más daño hace o quien provoca. Cambia las tiradas de la batalla,
+     * así que el diario deja de poder repetirse. Sin efecto con un solo enemigo.
+     */
+    public void setThreatTargeting(boolean enabled) {
+        if (!(enemies instanceof EnemyGroup)) return;
+        EnemyGroup group = (EnemyGroup) enemies;
+        if (enabled && !group.isThreatTargeting() && journal != null) {
+            journal.markTruncated();
+        }
+        group.setThreatTargeting(enabled);
+    }
+
+    // Un Enemy decide con su IA; cualquier otro Character simplemente ataca
+    private void act(Character combatant) {
+        int hpBefore = player.getCurrentHp();
+        if (combatant instanceof Enemy) {
+            ((Enemy) combatant).performAIAction(player);
+            checkBossSearch((Enemy) combatant);
+        } else {
+            combatant.attack(player);
+        }
+        recordThreat(combatant, hpBefore);
+    }
+
+    // Un jefe que agotó su tiempo de búsqueda decidió según el reloj: la
+    // repetición (a profundidad fija) podría elegir otra cosa
+    private void checkBossSearch(Enemy enemy) {
+        if (journal != null && enemy.getAI() instanceof BossAI
+                && ((BossAI) enemy.getAI()).lastTurnTimedOut()) {
+            journal.markTruncated();
+        }
+    }
+
+    // El daño que hace un miembro del grupo le suma amenaza (si está activada)
+    private void recordThreat(Character actor, int playerHpBefore) {
+        int damage = playerHpBefore - player.getCurrentHp();
+        if (damage > 0 && enemies instanceof EnemyGroup) {
+            ((EnemyGroup) enemies).addThreat(actor, damage * GameConstants.THREAT_PER_DAMAGE);
+        }
+    }
+
+    private void journal(byte action) {
+        if (journal != null) {
+            journal.record(action);
+        }
+    }
+    
+    private void journalOutcome() {
+        if (journal != null) {
+            journal.recordOutcome(player.getCurrentHp(), enemies.getCurrentHp());
+        }
+    }
+    
     // Método de ayuda para enviar mensajes a la consola/GUI
     private void logMessage(String message) {
-        System.out.println("BATTLE: " + message);
+        if (CombatLog.isEnabled()) {
+            GameLogger.info(Category.COMBAT, "BATTLE: {}", message);
+        }
         // ¡Patrón Observer! Notificamos a la GUI (Consola de Eventos)
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+        CombatLog.event(EventType.NEW_MESSAGE_LOGGED, message);
+    }
+
+    // Igual, con plantilla: el texto solo se construye si alguien lo lee
+    private void logMessage(MessageTemplate template, Character source, Character target, int amount) {
+        CombatLog.message(template, source, target, amount);
+    }
+    
+    // Getters para la GUI y el simulador
+    public boolean isBattleOver() {
+        return isBattleOver;
+    }
+    
+    /**
+     * @return Las recompensas de la victoria, o null si aún no se ganó.
+     */
+    public BattleRewards getRewards() {
+        return rewards;
+    }
+    
+    public Character getPlayer() {
+        return player;
+    }
+    
+    public Character getEnemies() {
+        return enemies;
+    }
+    
+    public GameRandom getRandom() {
+        return random;
+    }
+    
+    public boolean hasFled() {
+        return fled;
+    }
+    
+    /**
+     * @return El diario de esta batalla, o null si no se está grabando.
+     */
+    public BattleJournal getJournal() {
+        return journal;
+    }
+    
+    /**
+     * Deja de grabar el diario (ej. el simulador, que no necesita repeticiones).
+     */
+    public void stopJournal() {
+        this.journal = null;
     }
     
-    // Getter para la GUI
     public Enemy getCurrentEnemy() {
         if (enemies instanceof Enemy) {
             return (Enemy) enemies;
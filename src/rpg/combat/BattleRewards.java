@@ -0,0 +1,26 @@
+package rpg.combat;
+
+import java.util.ArrayList;
+import java.util.List;
+import rpg.inventory.Item;
+
+/**
+ * Recompensas obtenidas al ganar una batalla (XP, oro e items).
+ *
+ * BattleManager las calcula una sola vez al detectar la victoria.
+ * La GUI las aplica al jugador y el simulador solo las contabiliza.
+ */
+public class BattleRewards {
+
+    private int experience;
+    private int gold;
+    private List<Item> items = new ArrayList<>();
+
+    public void addExperience(int amount) { this.experience += amount; }
+    public void addGold(int amount) { this.gold += amount; }
+    public void addItems(List<Item> dropped) { this.items.addAll(dropped); }
+
+    public int getExperience() { return experience; }
+    public int getGold() { return gold; }
+    public List<Item> getItems() { return items; }
+}
@@ -0,0 +1,120 @@
+package rpg.combat;
+
+import rpg.core.Character;
+
+/**
+ * Resultado estructurado de un golpe (sin Strings).
+ *
+ * PROPÓSITO:
+ * - Character.takeDamage() devuelve los números del golpe, no un mensaje
+ * - Cada personaje reutiliza SIEMPRE la misma instancia: recibir daño no crea objetos
+ * - El texto solo se genera con describe(), y solo si alguien lo va a leer
+ *
+ * CAMPOS:
+ * - rawDamage: daño que llegó antes de defensas
+ * - mitigated: daño evitado (armadura + postura defensiva)
+ * - finalDamage: daño que realmente se aplicó a la vida
+ * - defended: el objetivo estaba defendiéndose
+ * - dodged: el golpe fue esquivado por completo (ej. Skeleton)
+ * - overkill: daño que sobró después de llegar a 0 HP
+ * - killed: este golpe mató al objetivo
+ *
+ * IMPORTANTE: los valores se sobrescriben en el siguiente golpe al mismo
+ * personaje. Si necesitas guardarlos, cópialos.
+ */
+public class DamageResult {
+
+    private Character target;
+    private int rawDamage;
+    private int armorBlocked;
+    private int defendBlocked;
+    private int finalDamage;
+    private boolean defended;
+    private boolean dodged;
+    private int overkill;
+    private boolean killed;
+
+    /**
+     * Deja el resultado vacío (ej. golpe a un grupo ya derrotado).
+     */
+    public DamageResult clear() {
+        this.target = null;
+        this.rawDamage = 0;
+        this.armorBlocked = 0;
+        this.defendBlocked = 0;
+        this.finalDamage = 0;
+        this.defended = false;
+        this.dodged = false;
+        this.overkill = 0;
+        this.killed = false;
+        return this;
+    }
+
+    /**
+     * Registra un golpe aplicado.
+     */
+    public DamageResult record(Character target, int rawDamage, int armorBlocked, int defendBlocked,
+                               int finalDamage, boolean defended, int hpBefore, int hpAfter) {
+        this.target = target;
+        this.rawDamage = rawDamage;
+        this.armorBlocked = armorBlocked;
+        this.defendBlocked = defendBlocked;
+        this.finalDamage = finalDamage;
+        this.defended = defended;
+        this.dodged = false;
+        this.overkill = Math.max(0, finalDamage - hpBefore);
+        this.killed = hpBefore > 0 && hpAfter == 0;
+        return this;
+    }
+
+    /**
+     * Registra un golpe esquivado por completo.
+     */
+    public DamageResult recordDodge(Character target, int rawDamage) {
+        clear();
+        this.target = target;
+        this.rawDamage = rawDamage;
+        this.dodged = true;
+        return this;
+    }
+
+    // Getters
+    public Character getTarget() { return target; }
+    public int getRawDamage() { return rawDamage; }
+    public int getMitigated() { return armorBlocked + defendBlocked; }
+    public int getArmorBlocked() { return armorBlocked; }
+    public int getFinalDamage() { return finalDamage; }
+    public boolean isDefended() { return defended; }
+    public boolean isDodged() { return dodged; }
+    public int getOverkill() { return overkill; }
+    public boolean isKilled() { return killed; }
+
+    /**
+     * @return true si el golpe llegó a algún objetivo (hay algo que contar).
+     */
+    public boolean hasMessage() {
+        return target != null;
+    }
+
+    /**
+     * Genera el mensaje legible del golpe. Solo llamarlo si hay un consumidor
+     * del texto (ej. CombatLog.isEnabled()).
+     */
+    public String describe() {
+        if (target == null) {
+            return "";
+        }
+        if (dodged) {
+            return "[ESQUIVA] ¡La flecha atraviesa entre los huesos sin hacer daño!";
+        }
+        if (defended) {
+            int beforeDefend = finalDamage + defendBlocked;
+            return target.getName() + " se defiende y reduce el daño de " + beforeDefend + " a " + finalDamage + "!";
+        }
+        String message = target.getName() + " recibe " + finalDamage + " de daño";
+        if (armorBlocked > 0) {
+            message += " (bloqueó " + armorBlocked + " con armadura)";
+        }
+        return message + "!";
+    }
+}
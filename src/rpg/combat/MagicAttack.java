@@ -2,13 +2,13 @@
 package rpg.combat;
 
 import rpg.core.Character;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.core.GameConstants;
+import rpg.events.CombatLog;
 
 public class MagicAttack implements AttackStrategy {
     
     private static final long serialVersionUID = 1L;
-    private static final int MANA_COST = 5; // Costo de maná del ataque básico
+    private static final int MANA_COST = GameConstants.MAGIC_ATTACK_MANA_COST; // Costo de maná del ataque básico
 
     @Override
     public void execute(Character attacker, Character target) {
@@ -18,21 +18,20 @@ public class MagicAttack implements AttackStrategy {
             // 2. Si tiene, calcula el daño con la magia base
             int damage = attacker.getBaseMagic();
             
-            String attackMessage = attacker.getName() + " lanza un hechizo a " + target.getName() + " por " + damage + " de daño!";
-            System.out.println(attackMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMessage);
+            if (CombatLog.isEnabled()) {
+                CombatLog.message(attacker.getName() + " lanza un hechizo a " + target.getName() + " por " + damage + " de daño!");
+            }
             
-            String damageMessage = target.receiveDamage(damage);
-            if (!damageMessage.isEmpty()) {
-                System.out.println(damageMessage);
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+            DamageResult result = target.takeDamage(damage);
+            if (CombatLog.isEnabled() && result.hasMessage()) {
+                CombatLog.message(result.describe());
             }
         
         } else {
             // 3. Si no tiene maná, no hace nada
-            String noManaMessage = attacker.getName() + " intenta lanzar un hechizo, ¡pero no tiene maná!";
-            System.out.println(noManaMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, noManaMessage);
+            if (CombatLog.isEnabled()) {
+                CombatLog.message(attacker.getName() + " intenta lanzar un hechizo, ¡pero no tiene maná!");
+            }
         }
     }
 }
\ No newline at end of file
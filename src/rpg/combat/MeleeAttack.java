@@ -2,6 +2,7 @@
 package rpg.combat;
 
 import rpg.core.Character;
+import rpg.events.CombatLog;
 
 public class MeleeAttack implements AttackStrategy {
     
@@ -13,12 +14,14 @@ public class MeleeAttack implements AttackStrategy {
         // Obtiene el ataque base del atacante
         int damage = attacker.getBaseAttack();
         
-        System.out.println(attacker.getName() + " ataca a " + target.getName() + " por " + damage + " de daño!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(attacker.getName() + " ataca a " + target.getName() + " por " + damage + " de daño!");
+        }
         
         // Llama al método que ya programamos en Character y muestra el resultado
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.print(result.describe());
         }
     }
 }
\ No newline at end of file
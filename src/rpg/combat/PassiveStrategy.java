@@ -1,6 +1,7 @@
 package rpg.combat;
 
 import rpg.core.Character;
+import rpg.events.CombatLog;
 
 /**
  * Una estrategia de ataque para NPCs que no hacen nada en combate.
@@ -12,6 +13,8 @@ public class PassiveStrategy implements AttackStrategy {
     @Override
     public void execute(Character attacker, Character target) {
         // No hace nada
-        System.out.println(attacker.getName() + " está en una postura pasiva.");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(attacker.getName() + " está en una postura pasiva.");
+        }
     }
 }
@@ -2,6 +2,7 @@
 package rpg.combat;
 
 import rpg.core.Character;
+import rpg.events.CombatLog;
 
 public class RangedAttack implements AttackStrategy {
     
@@ -13,11 +14,13 @@ public class RangedAttack implements AttackStrategy {
         // Usa el 'baseAttack' del arquero
         int damage = attacker.getBaseAttack();
         
-        System.out.println(attacker.getName() + " dispara una flecha a " + target.getName() + " por " + damage + " de daño!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(attacker.getName() + " dispara una flecha a " + target.getName() + " por " + damage + " de daño!");
+        }
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.print(result.describe());
         }
     }
 }
\ No newline at end of file
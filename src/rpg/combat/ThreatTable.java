@@ -0,0 +1,188 @@
+package rpg.combat;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import rpg.core.Character;
+import rpg.core.GameRandom;
+
+/**
+ * Tabla de amenaza (aggro): elige un objetivo con probabilidad
+ * proporcional a la amenaza que ha generado.
+ *
+ * PROPÓSITO:
+ * - Con amenaza, quien más daño hace o quien provoca (defend()) atrae los golpes
+ * - EnemyGroup la usa para decidir qué miembro recibe cada golpe del jugador
+ *   (ver EnemyGroup.setThreatTargeting()); sirve igual para un grupo de héroes
+ *
+ * ESTRUCTURA:
+ * Árbol de Fenwick (Binary Indexed Tree) sobre las amenazas:
+ * - addThreat() / setThreat() / remove(): O(log n)
+ * - pick(): O(log n), un solo nextDouble() del GameRandom
+ * - Cada combatiente ocupa una posición fija (su orden de llegada); la de
+ *   uno que sale de la tabla (remove()) la reutiliza el siguiente que entra
+ * Miles de objetivos cuestan lo mismo que unos pocos.
+ *
+ * AMENAZA:
+ * - Cada combatiente empieza con 'baseThreat' (con todos iguales, la
+ *   elección es uniforme)
+ * - Amenaza 0 = nunca se elige (ej. los muertos, con setThreat(actor, 0))
+ *
+ * NO ES THREAD-SAFE: una tabla por grupo.
+ */
+public class ThreatTable {
+
+    private final long baseThreat;
+
+    private Character[] actors = new Character[16];
+    private long[] threat = new long[16];   // Amenaza de cada posición
+    private long[] tree = new long[17];     // Fenwick, 1-indexado
+    private int size;                       // Posiciones usadas alguna vez
+    private int[] free = new int[16];       // Posiciones vacías (de remove())
+    private int freeCount;
+    private long total;
+    private final Map<Character, Integer> slots = new IdentityHashMap<>();
+
+    /**
+     * @param baseThreat Amenaza inicial de cada combatiente (mayor que 0)
+     */
+    public ThreatTable(long baseThreat) {
+        if (baseThreat <= 0) {
+            throw new IllegalArgumentException("La amenaza base debe ser mayor que 0: " + baseThreat);
+        }
+        this.baseThreat = baseThreat;
+    }
+
+    /**
+     * Añade un combatiente con la amenaza base.
+     */
+    public void add(Character actor) {
+        if (slots.containsKey(actor)) {
+            throw new IllegalArgumentException(actor.getName() + " ya está en la tabla de amenaza");
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = free[--freeCount];
+        } else {
+            if (size == actors.length) {
+                grow();
+            }
+            slot = size++;
+        }
+        actors[slot] = actor;
+        slots.put(actor, slot);
+        update(slot, baseThreat);
+    }
+
+    /**
+     * Saca a un combatiente de la tabla (su posición queda libre). Sin
+     * efecto si no está.
+     */
+    public void remove(Character actor) {
+        Integer slot = slots.remove(actor);
+        if (slot == null) {
+            return;
+        }
+        update(slot, -threat[slot]);
+        actors[slot] = null;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, free.length * 2);
+        }
+        free[freeCount++] = slot;
+    }
+
+    public boolean contains(Character actor) {
+        return slots.containsKey(actor);
+    }
+
+    /**
+     * Suma amenaza (ej. el daño que acaba de hacer). Sin efecto si no está en la tabla.
+     */
+    public void addThreat(Character actor, long amount) {
+        Integer slot = slots.get(actor);
+        if (slot != null && amount != 0) {
+            update(slot, Math.max(-threat[slot], amount));
+        }
+    }
+
+    /**
+     * Fija la amenaza de un combatiente (0 = no se puede elegir).
+     */
+    public void setThreat(Character actor, long value) {
+        Integer slot = slots.get(actor);
+        if (slot != null) {
+            update(slot, Math.max(0, value) - threat[slot]);
+        }
+    }
+
+    /**
+     * Vuelve a la amenaza base (ej. un miembro que revive).
+     */
+    public void resetThreat(Character actor) {
+        setThreat(actor, baseThreat);
+    }
+
+    public long getThreat(Character actor) {
+        Integer slot = slots.get(actor);
+        return slot == null ? 0 : threat[slot];
+    }
+
+    public long getTotalThreat() {
+        return total;
+    }
+
+    /**
+     * @return Combatientes en la tabla
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Elige un combatiente con probabilidad amenaza / amenaza total.
+     * @return null si nadie tiene amenaza
+     */
+    public Character pick(GameRandom random) {
+        if (total <= 0) return null;
+        long target = (long) (random.nextDouble() * total);
+        return actors[search(Math.min(target, total - 1))];
+    }
+
+    // Posición cuya franja acumulada contiene 'target' (0 <= target < total)
+    private int search(long target) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        // 'position' es la última con suma acumulada <= target: el elegido es
+        // la siguiente (1-based), que en 0-based es 'position'
+        return position;
+    }
+
+    private void update(int slot, long delta) {
+        threat[slot] += delta;
+        total += delta;
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // Duplica la capacidad y reconstruye el árbol en O(n)
+    private void grow() {
+        int capacity = actors.length * 2;
+        actors = Arrays.copyOf(actors, capacity);
+        threat = Arrays.copyOf(threat, capacity);
+        tree = new long[capacity + 1];
+        for (int i = 1; i <= size; i++) {
+            tree[i] += threat[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
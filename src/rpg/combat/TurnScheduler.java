@@ -0,0 +1,254 @@
+package rpg.combat;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import rpg.core.Character;
+import rpg.core.GameConstants;
+
+/**
+ * Planificador de turnos por iniciativa (velocidad).
+ *
+ * PROPÓSITO:
+ * - Decide QUIÉN actúa a continuación según su velocidad (Character.getSpeed()):
+ *   con el doble de velocidad se actúa el doble de veces; a mitad, la mitad
+ * - Prisa y lentitud (haste/slow) en mitad de la batalla con setSpeed()
+ *
+ * FUNCIONAMIENTO (tipo "barra de tiempo"):
+ * - Cada combatiente tiene el instante de su próxima acción
+ * - Un personaje con GameConstants.BASE_SPEED actúa cada TICKS_PER_ROUND ticks
+ * - A igual instante, actúa primero el que se añadió antes: con todas las
+ *   velocidades iguales el orden es exactamente el de la lista original
+ *
+ * ESTRUCTURA:
+ * Montículo binario (min-heap) indexado: cada entrada sabe su posición en el
+ * arreglo, así que añadir, quitar y cambiar la velocidad son O(log n) y ver
+ * el siguiente es O(1). Un grupo de miles de enemigos cuesta lo mismo por turno.
+ *
+ * Los muertos salen del montículo (quedan apartados, sin coste por turno):
+ * EnemyGroup avisa con died()/revived() cuando un miembro muere o se cura
+ * desde 0, y un muerto que llega a la cima sin aviso se aparta solo. Quien
+ * vuelve a la vida actúa en el siguiente turno de su ritmo. Solo remove()
+ * lo olvida del todo.
+ *
+ * NO ES THREAD-SAFE: un planificador por batalla.
+ */
+public class TurnScheduler {
+
+    /** Ticks entre dos acciones de un personaje con velocidad GameConstants.BASE_SPEED */
+    public static final long TICKS_PER_ROUND = 1000;
+
+    private static final class Entry {
+        final Character actor;
+        final long order;   // Desempate: orden de llegada
+        long lastTime;      // Cuándo actuó (o llegó) por última vez
+        long nextTime;      // Cuándo le toca
+        int heapIndex;      // -1 = apartado (muerto)
+
+        Entry(Character actor, long order, long time) {
+            this.actor = actor;
+            this.order = order;
+            this.lastTime = time;
+            this.nextTime = time;
+        }
+    }
+
+    private Entry[] heap = new Entry[16];
+    private int size;
+    private final Map<Character, Entry> entries = new IdentityHashMap<>();
+    private long nextOrder;
+    private long now;
+
+    /**
+     * @return Ticks que espera un personaje con esta velocidad entre acciones
+     */
+    public static long delayOf(int speed) {
+        return Math.max(1, TICKS_PER_ROUND * GameConstants.BASE_SPEED / Math.max(1, speed));
+    }
+
+    /**
+     * Añade un combatiente; su primera acción es en el instante actual
+     * (después de los que ya esperaban en ese mismo instante). Si está
+     * muerto queda apartado hasta revived().
+     */
+    public void add(Character actor) {
+        if (entries.containsKey(actor)) {
+            throw new IllegalArgumentException(actor.getName() + " ya está en el planificador");
+        }
+        Entry entry = new Entry(actor, nextOrder++, now);
+        entries.put(actor, entry);
+        if (actor.isAlive()) {
+            insert(entry);
+        } else {
+            entry.heapIndex = -1;
+        }
+    }
+
+    /**
+     * Quita un combatiente (ej. si huye). No hace nada si no estaba.
+     */
+    public void remove(Character actor) {
+        Entry entry = entries.remove(actor);
+        if (entry != null && entry.heapIndex >= 0) {
+            removeAt(entry.heapIndex);
+        }
+    }
+
+    public boolean contains(Character actor) {
+        return entries.containsKey(actor);
+    }
+
+    /**
+     * Aparta a un combatiente que acaba de morir: deja de costar nada por turno.
+     * No hace nada si no estaba o ya estaba apartado.
+     */
+    public void died(Character actor) {
+        Entry entry = entries.get(actor);
+        if (entry != null && entry.heapIndex >= 0) {
+            removeAt(entry.heapIndex);
+            entry.heapIndex = -1;
+        }
+    }
+
+    /**
+     * Vuelve a agendar a un combatiente apartado que ha vuelto a la vida:
+     * actúa en el primer turno de su ritmo posterior al instante actual.
+     * No hace nada si no estaba o no estaba apartado.
+     */
+    public void revived(Character actor) {
+        Entry entry = entries.get(actor);
+        if (entry == null || entry.heapIndex >= 0) return;
+
+        long delay = delayOf(actor.getSpeed());
+        if (entry.nextTime <= now) {
+            entry.nextTime += ((now - entry.nextTime) / delay + 1) * delay;
+        }
+        insert(entry);
+    }
+
+    /**
+     * Cambia la velocidad de un combatiente (prisa/lentitud) y reordena su turno:
+     * su próxima acción pasa a ser "última acción + espera con la nueva velocidad"
+     * (nunca antes del instante actual).
+     */
+    public void setSpeed(Character actor, int speed) {
+        actor.setSpeed(speed);
+        Entry entry = entries.get(actor);
+        if (entry == null) return;
+
+        long before = entry.nextTime;
+        entry.nextTime = Math.max(now, entry.lastTime + delayOf(actor.getSpeed()));
+        if (entry.heapIndex < 0) {
+            return; // Apartado: revived() parte de este turno
+        }
+        if (entry.nextTime < before) {
+            siftUp(entry.heapIndex);
+        } else {
+            siftDown(entry.heapIndex);
+        }
+    }
+
+    /**
+     * Saca al siguiente combatiente vivo cuyo turno sea antes de 'limit',
+     * avanza el reloj hasta su turno y le agenda el siguiente.
+     * Un muerto del que no se avisó (died()) se aparta al llegar a la cima.
+     * @return El combatiente, o null si no le toca a nadie antes de 'limit'
+     */
+    public Character nextBefore(long limit) {
+        while (size > 0) {
+            Entry top = heap[0];
+            if (!top.actor.isAlive()) {
+                removeAt(0);
+                top.heapIndex = -1;
+                continue;
+            }
+            if (top.nextTime >= limit) {
+                return null;
+            }
+            now = top.nextTime;
+            top.lastTime = top.nextTime;
+            top.nextTime += delayOf(top.actor.getSpeed());
+            siftDown(0);
+            return top.actor;
+        }
+        return null;
+    }
+
+    /**
+     * @return El siguiente combatiente vivo (sin límite de tiempo), o null si no queda ninguno
+     */
+    public Character next() {
+        return nextBefore(Long.MAX_VALUE);
+    }
+
+    /**
+     * @return El instante del último turno entregado
+     */
+    public long getTime() {
+        return now;
+    }
+
+    /**
+     * @return Combatientes agendados (sin los muertos apartados)
+     */
+    public int size() {
+        return size;
+    }
+
+    // --- Montículo ---
+
+    private void insert(Entry entry) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        entry.heapIndex = size;
+        heap[size++] = entry;
+        siftUp(entry.heapIndex);
+    }
+
+    private void removeAt(int index) {
+        Entry last = heap[--size];
+        heap[size] = null;
+        if (index == size) return;
+        heap[index] = last;
+        last.heapIndex = index;
+        siftDown(index);
+        siftUp(last.heapIndex);
+    }
+
+    private static boolean before(Entry a, Entry b) {
+        return a.nextTime < b.nextTime || (a.nextTime == b.nextTime && a.order < b.order);
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            Entry p = heap[parent];
+            if (!before(entry, p)) break;
+            heap[index] = p;
+            p.heapIndex = index;
+            index = parent;
+        }
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && before(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!before(heap[child], entry)) break;
+            heap[index] = heap[child];
+            heap[index].heapIndex = index;
+            index = child;
+        }
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+}
@@ -2,6 +2,7 @@
 package rpg.core;
 
 import rpg.combat.RangedAttack;
+import rpg.events.CombatLog;
 
 public class Archer extends Character {
 
@@ -26,10 +27,14 @@ public class Archer extends Character {
         
         if (this.consumeMana(manaCost)) {
             int damage = (int) (this.baseAttack * 2.0); // Daño x2.0
-            System.out.println(this.name + " usa [Disparo Perforante] contra " + target.getName() + " por " + damage + " de daño!");
-            target.receiveDamage(damage);
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " usa [Disparo Perforante] contra " + target.getName() + " por " + damage + " de daño!");
+            }
+            target.takeDamage(damage);
         } else {
-            System.out.println(this.name + " intenta usar [Disparo Perforante], ¡pero no tiene maná!");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " intenta usar [Disparo Perforante], ¡pero no tiene maná!");
+            }
         }
     }
 
@@ -45,7 +50,10 @@ public class Archer extends Character {
         // Rellena la vida y el maná al subir de nivel
         this.currentHp = this.maxHp;
         this.currentMana = this.maxMana;
+        invalidateStats(); // Cambiaron los stats base
         
-        System.out.println(this.name + " ha subido al nivel " + this.level + "!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " ha subido al nivel " + this.level + "!");
+        }
     }
 }
\ No newline at end of file
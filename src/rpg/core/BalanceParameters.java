@@ -0,0 +1,179 @@
+package rpg.core;
+
+import java.util.Arrays;
+
+/**
+ * Valores de balanceo que se pueden cambiar SIN recompilar.
+ *
+ * PROPÓSITO:
+ * - Las constantes de GameConstants son static final: el compilador las
+ *   copia en cada uso y probar otro valor obliga a recompilar
+ * - BalanceParameters guarda los "perillas" (Knob) que afectan al combate;
+ *   por defecto valen lo mismo que el juego base
+ * - El barrido de balanceo (rpg.simulation.BalanceSweep) prueba muchas
+ *   combinaciones a la vez, cada una en sus propios hilos
+ *
+ * PARÁMETROS ACTIVOS (por hilo, igual que CombatLog y GameContext):
+ * - BalanceParameters.current() son los del hilo actual (DEFAULTS si no hay)
+ * - Character.takeDamage(), BattleManager y EnemyFactory los consultan
+ * - Para usar otros:
+ *   BalanceParameters previous = BalanceParameters.bind(params);
+ *   try { ... } finally { BalanceParameters.bind(previous); }
+ *
+ * USO:
+ * BalanceParameters params = BalanceParameters.DEFAULTS
+ *     .with(Knob.DEFENSE_DAMAGE_MULTIPLIER, 0.4)
+ *     .with(Knob.HERO_HP_BONUS, 20);
+ *
+ * INMUTABLE: with() devuelve una copia. equals()/hashCode() por valor,
+ * para poder usarlos como clave de memoización.
+ *
+ * @see GameConstants
+ */
+public final class BalanceParameters {
+
+    /**
+     * Cada valor ajustable, con su valor del juego base.
+     */
+    public enum Knob {
+        /** Multiplicador de daño al defenderse (GameConstants.DEFENSE_DAMAGE_MULTIPLIER) */
+        DEFENSE_DAMAGE_MULTIPLIER(GameConstants.DEFENSE_DAMAGE_MULTIPLIER),
+        /** Daño mínimo de un golpe (GameConstants.MINIMUM_DAMAGE) */
+        MINIMUM_DAMAGE(GameConstants.MINIMUM_DAMAGE),
+        /** Probabilidad de huir (GameConstants.FLEE_SUCCESS_RATE) */
+        FLEE_SUCCESS_RATE(GameConstants.FLEE_SUCCESS_RATE),
+        /** Multiplicador de la XP que da cada enemigo (1.0 = la de su clase) */
+        XP_REWARD_MULTIPLIER(1.0),
+        /** HP máximo extra del héroe al empezar (0 = el de su clase) */
+        HERO_HP_BONUS(0),
+        /** Probabilidad de encuentro individual (GameConstants.SINGLE_ENEMY_PROBABILITY) */
+        SINGLE_ENEMY_PROBABILITY(GameConstants.SINGLE_ENEMY_PROBABILITY),
+        /** Acumulada hasta patrulla (GameConstants.SMALL_GROUP_PROBABILITY) */
+        SMALL_GROUP_PROBABILITY(GameConstants.SMALL_GROUP_PROBABILITY),
+        /** Acumulada hasta horda (GameConstants.MEDIUM_GROUP_PROBABILITY) */
+        MEDIUM_GROUP_PROBABILITY(GameConstants.MEDIUM_GROUP_PROBABILITY);
+
+        private final double defaultValue;
+
+        Knob(double defaultValue) {
+            this.defaultValue = defaultValue;
+        }
+
+        public double getDefaultValue() {
+            return defaultValue;
+        }
+    }
+
+    private static final Knob[] KNOBS = Knob.values();
+
+    /** Los valores del juego base */
+    public static final BalanceParameters DEFAULTS = new BalanceParameters(defaultValues());
+
+    // Parámetros activos de cada hilo (null = DEFAULTS)
+    private static final ThreadLocal<BalanceParameters> CURRENT = new ThreadLocal<>();
+
+    private final double[] values; // [knob.ordinal()]
+
+    private BalanceParameters(double[] values) {
+        this.values = values;
+    }
+
+    private static double[] defaultValues() {
+        double[] values = new double[KNOBS.length];
+        for (Knob knob : KNOBS) {
+            values[knob.ordinal()] = knob.getDefaultValue();
+        }
+        return values;
+    }
+
+    // --- Parámetros activos ---
+
+    /**
+     * @return Los parámetros del hilo actual (DEFAULTS si no se asignaron)
+     */
+    public static BalanceParameters current() {
+        BalanceParameters params = CURRENT.get();
+        return params != null ? params : DEFAULTS;
+    }
+
+    /**
+     * Asigna los parámetros del hilo actual.
+     * @return Los anteriores, para poder restaurarlos
+     */
+    public static BalanceParameters bind(BalanceParameters params) {
+        BalanceParameters previous = CURRENT.get();
+        if (params == null || params == DEFAULTS) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(params);
+        }
+        return previous != null ? previous : DEFAULTS;
+    }
+
+    // --- Valores ---
+
+    /**
+     * @return Una copia con 'knob' cambiado
+     */
+    public BalanceParameters with(Knob knob, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(knob + " no es un número: " + value);
+        }
+        double[] copy = values.clone();
+        copy[knob.ordinal()] = value;
+        return new BalanceParameters(copy);
+    }
+
+    public double get(Knob knob) {
+        return values[knob.ordinal()];
+    }
+
+    public boolean isDefault() {
+        return equals(DEFAULTS);
+    }
+
+    public double getDefenseDamageMultiplier() { return values[Knob.DEFENSE_DAMAGE_MULTIPLIER.ordinal()]; }
+    public int getMinimumDamage() { return (int) values[Knob.MINIMUM_DAMAGE.ordinal()]; }
+    public double getFleeSuccessRate() { return values[Knob.FLEE_SUCCESS_RATE.ordinal()]; }
+    public int getHeroHpBonus() { return (int) values[Knob.HERO_HP_BONUS.ordinal()]; }
+    public double getSingleEnemyProbability() { return values[Knob.SINGLE_ENEMY_PROBABILITY.ordinal()]; }
+    public double getSmallGroupProbability() { return values[Knob.SMALL_GROUP_PROBABILITY.ordinal()]; }
+    public double getMediumGroupProbability() { return values[Knob.MEDIUM_GROUP_PROBABILITY.ordinal()]; }
+
+    /**
+     * Aplica XP_REWARD_MULTIPLIER a la XP de un enemigo.
+     */
+    public int scaleExperience(int experience) {
+        double multiplier = values[Knob.XP_REWARD_MULTIPLIER.ordinal()];
+        return multiplier == 1.0 ? experience : (int) Math.round(experience * multiplier);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BalanceParameters)) return false;
+        return Arrays.equals(values, ((BalanceParameters) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * Solo los valores distintos del juego base (ej. "{DEFENSE_DAMAGE_MULTIPLIER=0.4}").
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (Knob knob : KNOBS) {
+            double value = values[knob.ordinal()];
+            if (value != knob.getDefaultValue()) {
+                if (sb.length() > 1) sb.append(", ");
+                sb.append(knob).append('=');
+                sb.append(value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value));
+            }
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -1,9 +1,9 @@
 package rpg.core;
 
 import rpg.combat.RangedAttack;
+import rpg.combat.DamageResult;
 import rpg.ai.EvasiveAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
 import rpg.inventory.*;
 
 /**
@@ -47,28 +47,25 @@ public class Bandit extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String aimMessage = "[APUNTAR] " + this.name + " apunta cuidadosamente...";
-        System.out.println(aimMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, aimMessage);
+        if (CombatLog.isEnabled()) {
+            CombatLog.message("[APUNTAR] " + this.name + " apunta cuidadosamente...");
+        }
         
         int damage = (int) (this.baseAttack * 2.2);
-        boolean isCrit = Math.random() < CRIT_CHANCE;
+        boolean isCrit = getRandom().chance(CRIT_CHANCE);
         
         if (isCrit) {
             damage = (int) (this.baseAttack * 3.0);
             String critMessage = "*** ¡¡CRITICO!! ***";
-            System.out.println(critMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, critMessage);
+            CombatLog.message(critMessage);
         }
         
         String shootMessage = ">>> ¡DISPARO CRITICO! <<<";
-        System.out.println(shootMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, shootMessage);
+        CombatLog.message(shootMessage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
     }
 }
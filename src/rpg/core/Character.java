@@ -1,13 +1,15 @@
 package rpg.core;
 
 import rpg.combat.AttackStrategy;
+import rpg.combat.DamageResult;
 import rpg.inventory.Equipment;
 import rpg.inventory.Equippable;
 import rpg.inventory.Inventory;
 import rpg.inventory.Item;
 import rpg.inventory.Slot;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
 import rpg.events.EventType;
+import rpg.events.MessageTemplate;
 import java.io.Serializable;
 
 /**
@@ -65,6 +67,24 @@ public abstract class Character implements Healable, Serializable {
     protected int attackBonus = 0;
     protected int magicBonus = 0;
     protected int defenseBonus = 0;
+    
+    // Iniciativa: cuántas veces actúa por ronda (ver rpg.combat.TurnScheduler)
+    protected int speed = GameConstants.BASE_SPEED;
+    
+    // Aleatoriedad de la batalla actual (no se guarda en el save)
+    private transient GameRandom random;
+    
+    // Resultado del último golpe recibido (se reutiliza, no se guarda en el save)
+    private transient DamageResult damageResult;
+    
+    // Grupo al que pertenece (si es miembro de un EnemyGroup) y su posición
+    // en la lista de vivos del grupo
+    private transient EnemyGroup group;
+    private transient int groupSlot = -1;
+    
+    // Stats derivados ya calculados (null = hay que recalcular) y su versión
+    private transient StatBlock stats;
+    private transient long statsVersion;
 
     // --- Constructor ---
     public Character(String name, int level, int baseAttack, int baseMagic, int maxHp, int maxMana) {
@@ -102,6 +122,10 @@ public abstract class Character implements Healable, Serializable {
     public void setAttackStrategy(AttackStrategy strategy) {
         this.attackStrategy = strategy;
     }
+    
+    public AttackStrategy getAttackStrategy() {
+        return this.attackStrategy;
+    }
 
     /**
      * Ejecuta la AttackStrategy actual contra un objetivo.
@@ -117,45 +141,96 @@ public abstract class Character implements Healable, Serializable {
      */
     public void defend() {
         this.isDefending = true;
+        // Defenderse en un grupo con amenaza es provocar (atrae los golpes)
+        if (this.group != null) {
+            this.group.memberTaunted(this);
+        }
+    }
+    
+    public boolean isDefending() {
+        return this.isDefending;
     }
 
     /**
      * Recibe una cantidad de daño, la reduce si se está defendiendo.
-     * @return Un mensaje describiendo el daño recibido
+     * @return Un mensaje describiendo el daño recibido ("" si nadie lo va a leer)
      */
     @Override
     public String receiveDamage(int amount) {
-        int originalDamage = amount;
-        
+        DamageResult result = takeDamage(amount);
+        return CombatLog.isEnabled() ? result.describe() : "";
+    }
+    
+    /**
+     * Versión sin Strings de receiveDamage(): aplica el daño y devuelve los números.
+     * El DamageResult devuelto se reutiliza en el siguiente golpe a este personaje.
+     */
+    public DamageResult takeDamage(int amount) {
+        BalanceParameters balance = BalanceParameters.current();
+
         // Restamos la defensa
         int finalDamage = amount - this.defenseBonus;
-        if (finalDamage < 1) finalDamage = 1; // Siempre al menos 1 de daño
+        int minimumDamage = balance.getMinimumDamage();
+        if (finalDamage < minimumDamage) finalDamage = minimumDamage; // Siempre un daño mínimo
+        int armorBlocked = Math.max(0, amount - finalDamage);
 
-        String message = "";
-        if (this.isDefending) {
+        int defendBlocked = 0;
+        boolean defended = this.isDefending;
+        if (defended) {
             int beforeDefend = finalDamage;
-            finalDamage = (int)(finalDamage * 0.5);
-            message = this.name + " se defiende y reduce el daño de " + beforeDefend + " a " + finalDamage + "!";
+            finalDamage = (int)(finalDamage * balance.getDefenseDamageMultiplier());
+            defendBlocked = beforeDefend - finalDamage;
             this.isDefending = false;
-        } else {
-            message = this.name + " recibe " + finalDamage + " de daño";
-            if (this.defenseBonus > 0) {
-                message += " (bloqueó " + (originalDamage - amount) + " con armadura)";
-            }
-            message += "!";
         }
         
+        int hpBefore = this.currentHp;
         this.currentHp -= finalDamage;
         if (this.currentHp < 0) this.currentHp = 0;
+        hpChanged(hpBefore);
+        
+        DamageResult result = damageResultBuffer().record(this, amount, armorBlocked, defendBlocked,
+            finalDamage, defended, hpBefore, this.currentHp);
         
-        GameEventManager.getInstance().notify(EventType.PLAYER_HP_CHANGED, this);
+        CombatLog.stateChanged(EventType.PLAYER_HP_CHANGED, this, this.currentHp);
         
         // Notificar si el jugador ha muerto
-        if (this.currentHp == 0 && this == GameFacade.getInstance().getPlayer()) {
-            GameEventManager.getInstance().notify(EventType.PLAYER_DIED, this);
+        // (Solo se consulta la sesión activa al morir, y nunca en modo silencioso)
+        if (this.currentHp == 0 && CombatLog.isEnabled() && this == GameContext.current().getPlayer()) {
+            CombatLog.event(EventType.PLAYER_DIED, this);
         }
         
-        return message;
+        return result;
+    }
+    
+    /**
+     * Avisa al EnemyGroup (si lo hay) de que la vida de este miembro cambió.
+     * Las subclases que modifican currentHp directamente (ej. regeneración,
+     * drenaje de vida) deben llamarlo para que los totales del grupo cuadren.
+     */
+    protected void hpChanged(int hpBefore) {
+        hpChanged(hpBefore, this.maxHp);
+    }
+    
+    protected void hpChanged(int hpBefore, int maxHpBefore) {
+        if (this.group != null) {
+            this.group.memberHpChanged(this, hpBefore, maxHpBefore);
+        }
+    }
+    
+    // Enlace con el grupo (lo gestiona EnemyGroup)
+    EnemyGroup getGroup() { return this.group; }
+    void setGroup(EnemyGroup group) { this.group = group; }
+    int getGroupSlot() { return this.groupSlot; }
+    void setGroupSlot(int slot) { this.groupSlot = slot; }
+    
+    /**
+     * @return La instancia reutilizable donde este personaje anota los golpes recibidos.
+     */
+    protected DamageResult damageResultBuffer() {
+        if (this.damageResult == null) {
+            this.damageResult = new DamageResult();
+        }
+        return this.damageResult;
     }
   
 
@@ -182,7 +257,7 @@ public abstract class Character implements Healable, Serializable {
         if (this.currentMana >= amount) {
         	
             this.currentMana -= amount;
-            GameEventManager.getInstance().notify(EventType.PLAYER_MANA_CHANGED, this);
+            CombatLog.stateChanged(EventType.PLAYER_MANA_CHANGED, this, this.currentMana);
             return true; // Se pudo consumir
         }
         return false; // No hay suficiente maná
@@ -191,11 +266,13 @@ public abstract class Character implements Healable, Serializable {
     // Interfaz Healable (Requisito 2)
     @Override
     public void heal(int amount) {
+        int hpBefore = this.currentHp;
         this.currentHp += amount;
         if (this.currentHp > this.maxHp) {
             this.currentHp = this.maxHp; 
         }
-        GameEventManager.getInstance().notify(EventType.PLAYER_HP_CHANGED, this);
+        hpChanged(hpBefore);
+        CombatLog.stateChanged(EventType.PLAYER_HP_CHANGED, this, this.currentHp);
     }
     
     // --- Getters (Requisito 4 - Para la GUI y otros sistemas) ---
@@ -204,6 +281,30 @@ public abstract class Character implements Healable, Serializable {
         return this.inventory;
     }
     
+    /**
+     * @return Los items equipados con equip() (con lo que sumó cada uno)
+     */
+    public Equipment getEquipment() {
+        return this.equipment;
+    }
+    
+    /**
+     * @return El generador aleatorio de la batalla/sesión en la que participa este personaje.
+     */
+    public GameRandom getRandom() {
+        if (this.random == null) {
+            this.random = GameRandom.create();
+        }
+        return this.random;
+    }
+    
+    /**
+     * Asigna el generador aleatorio (lo hace BattleManager al empezar la batalla).
+     */
+    public void setRandom(GameRandom random) {
+        this.random = random;
+    }
+    
     public String getName() { return this.name; }
     public int getLevel() { return this.level; }
     @Override
@@ -213,46 +314,189 @@ public abstract class Character implements Healable, Serializable {
     public int getCurrentMana() { return this.currentMana; }
     public int getMaxMana() { return this.maxMana; }
     
+    public void setCurrentHp(int hp) {
+        int hpBefore = this.currentHp;
+        this.currentHp = Math.max(0, Math.min(hp, this.maxHp));
+        hpChanged(hpBefore);
+        CombatLog.stateChanged(EventType.PLAYER_HP_CHANGED, this, this.currentHp);
+    }
+    
     public void setCurrentMana(int mana) {
         this.currentMana = Math.max(0, Math.min(mana, this.maxMana));
-        GameEventManager.getInstance().notify(EventType.PLAYER_MANA_CHANGED, this);
+        CombatLog.stateChanged(EventType.PLAYER_MANA_CHANGED, this, this.currentMana);
     }
     
     public int getBaseAttack() {
-        return this.baseAttack + this.attackBonus; 
+        return getStats().getAttack();
     }
     
     public int getBaseMagic() {
-        return this.baseMagic + this.magicBonus; 
+        return getStats().getMagic();
     }
     @Override
     public boolean isAlive() { return this.currentHp > 0; }
     
-    public void addAttackBonus(int amount) { this.attackBonus += amount; }
-    public void addMagicBonus(int amount) { this.magicBonus += amount; }
-    public void addDefenseBonus(int amount) { this.defenseBonus += amount; }
+    /**
+     * @return La velocidad (GameConstants.BASE_SPEED = un turno por ronda).
+     *         Las partidas guardadas antes de existir la velocidad la cargan como 0:
+     *         se toma como la base.
+     */
+    public int getSpeed() {
+        return this.speed > 0 ? this.speed : GameConstants.BASE_SPEED;
+    }
+    
+    /**
+     * Cambia la velocidad. Durante una batalla usar BattleManager.setSpeed()
+     * para que el orden de turnos se actualice.
+     */
+    public void setSpeed(int speed) {
+        this.speed = Math.max(1, speed);
+        invalidateStats();
+    }
+    
+    public void addAttackBonus(int amount) { this.attackBonus += amount; invalidateStats(); }
+    public void addMagicBonus(int amount) { this.magicBonus += amount; invalidateStats(); }
+    public void addDefenseBonus(int amount) { this.defenseBonus += amount; invalidateStats(); }
     public void addMaxHp(int amount) { 
+        int hpBefore = this.currentHp;
+        int maxHpBefore = this.maxHp;
         this.maxHp += amount; 
         // Ajusta currentHp si es necesario
         if (this.currentHp > this.maxHp) {
             this.currentHp = this.maxHp;
         }
+        invalidateStats();
+        hpChanged(hpBefore, maxHpBefore);
+    }
+    
+    /**
+     * Suma de una vez todos los bonus de un item ya horneado
+     * (lo usa Equipment con Equippable.bake()).
+     */
+    public void addStatBonus(StatBlock bonus) {
+        applyStatBonus(bonus, 1);
+    }
+    
+    /**
+     * Quita exactamente lo que sumó un item al equiparse (lo usa Equipment,
+     * que guarda esa diferencia; así no importa cómo estén encadenados
+     * los decoradores del item).
+     */
+    public void removeStatBonus(StatBlock bonus) {
+        applyStatBonus(bonus, -1);
+    }
+    
+    private void applyStatBonus(StatBlock bonus, int sign) {
+        this.attackBonus += sign * bonus.getAttack();
+        this.magicBonus += sign * bonus.getMagic();
+        this.defenseBonus += sign * bonus.getDefense();
+        this.maxMana += sign * bonus.getMaxMana();
+        this.currentMana = Math.min(this.currentMana, this.maxMana);
+        if (bonus.getSpeed() != 0) {
+            this.speed = Math.max(1, getSpeed() + sign * bonus.getSpeed());
+        }
+        addMaxHp(sign * bonus.getMaxHp()); // También invalida los stats
+    }
+    
+    // --- Stats derivados (caché) ---
+    
+    /**
+     * @return Los stats derivados (base + bonus). Se calculan una vez cada vez
+     *         que cambian sus entradas; las demás lecturas son O(1).
+     */
+    public StatBlock getStats() {
+        StatBlock current = this.stats;
+        if (current == null) {
+            current = new StatBlock(this.baseAttack + this.attackBonus, this.baseMagic + this.magicBonus,
+                this.defenseBonus, this.maxHp, this.maxMana, getSpeed(), this.statsVersion);
+            this.stats = current;
+        }
+        return current;
     }
     
+    /**
+     * @return Sube cada vez que cambian los stats derivados
+     */
+    public long getStatsVersion() {
+        return this.statsVersion;
+    }
+    
+    /**
+     * Descarta los stats calculados. Las subclases que tocan directamente
+     * baseAttack, baseMagic, maxHp o maxMana deben llamarlo.
+     */
+    protected void invalidateStats() {
+        this.stats = null;
+        this.statsVersion++;
+    }
+    
+    /**
+     * Restaura el estado de combate de un personaje recién creado, sin
+     * bonus de equipo de ataque ni magia (defenseBonus ya los incluye).
+     * Para un héroe equipado, usar restoreSavedState(): las habilidades
+     * especiales escalan solo baseAttack y baseMagic.
+     */
+    public void restoreCombatState(int level, int baseAttack, int baseMagic, int defenseBonus,
+                                   int maxHp, int currentHp, int maxMana, int currentMana,
+                                   int currentExp, int expToNextLevel, int gold, boolean defending) {
+        int hpBefore = this.currentHp;
+        int maxHpBefore = this.maxHp;
+        this.level = level;
+        this.baseAttack = baseAttack;
+        this.baseMagic = baseMagic;
+        this.attackBonus = 0;
+        this.magicBonus = 0;
+        this.defenseBonus = defenseBonus;
+        this.maxHp = maxHp;
+        this.currentHp = currentHp;
+        this.maxMana = maxMana;
+        this.currentMana = currentMana;
+        this.currentExp = currentExp;
+        this.expToNextLevel = expToNextLevel;
+        this.gold = gold;
+        this.isDefending = defending;
+        invalidateStats();
+        hpChanged(hpBefore, maxHpBefore);
+    }
+    
+    /**
+     * Restaura el estado guardado de un personaje recién creado (lo usan
+     * rpg.persistence.SaveCodec y las repeticiones de rpg.replay). A diferencia
+     * de restoreCombatState(), los bonus de equipo llegan por separado:
+     * desequipar los resta como siempre.
+     */
+    public void restoreSavedState(int level, int baseAttack, int baseMagic,
+                                  int attackBonus, int magicBonus, int defenseBonus,
+                                  int maxHp, int currentHp, int maxMana, int currentMana, int speed,
+                                  int currentExp, int expToNextLevel, int gold, boolean defending) {
+        restoreCombatState(level, baseAttack, baseMagic, defenseBonus, maxHp, currentHp, maxMana,
+            currentMana, currentExp, expToNextLevel, gold, defending);
+        this.attackBonus = attackBonus;
+        this.magicBonus = magicBonus;
+        this.speed = speed;
+        invalidateStats();
+    }
+    
+    // Bonus de equipo por separado (getAttack() y getMagic() ya los incluyen)
+    public int getAttackBonus() { return this.attackBonus; }
+    public int getMagicBonus() { return this.magicBonus; }
+    
     // --- Getters para GUI ---
-    public int getAttack() { return this.baseAttack + this.attackBonus; }
-    public int getDefense() { return this.defenseBonus; }
-    public int getMagic() { return this.baseMagic + this.magicBonus; }
+    public int getAttack() { return getStats().getAttack(); }
+    public int getDefense() { return getStats().getDefense(); }
+    public int getMagic() { return getStats().getMagic(); }
     public int getGold() { return this.gold; }
     
     public void addGold(int amount) {
         this.gold += amount;
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, "Has obtenido " + amount + " de oro.");
+        CombatLog.report(MessageTemplate.GOLD_GAINED, this, null, amount);
+        CombatLog.stateChanged(EventType.PLAYER_GOLD_CHANGED, this, this.gold);
     }
     
     public boolean removeGold(int amount) {
         if (this.gold >= amount) {
             this.gold -= amount;
+            CombatLog.stateChanged(EventType.PLAYER_GOLD_CHANGED, this, this.gold);
             return true;
         }
         return false;
@@ -263,15 +507,24 @@ public abstract class Character implements Healable, Serializable {
     public int getCurrentExp() { return this.currentExp; }
     public int getExpToNextLevel() { return this.expToNextLevel; }
     
+    /**
+     * Fija el oro y la XP tal cual, sin eventos ni subidas de nivel
+     * (lo usa SessionJournal al recuperar una partida).
+     */
+    public void restoreProgress(int gold, int currentExp) {
+        this.gold = Math.max(0, gold);
+        this.currentExp = Math.max(0, currentExp);
+    }
+    
     /**
      * Añade experiencia al personaje y sube de nivel automáticamente si es necesario.
      * @param amount Cantidad de XP a añadir
      */
     public void gainExperience(int amount) {
         this.currentExp += amount;
-        System.out.println(this.name + " gana " + amount + " XP!");
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, 
-            this.name + " gana " + amount + " XP!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.message(this.name + " gana " + amount + " XP!");
+        }
         
         // Revisa si sube de nivel
         while (this.currentExp >= this.expToNextLevel) {
@@ -280,6 +533,7 @@ public abstract class Character implements Healable, Serializable {
             // La XP necesaria aumenta cada nivel (fórmula: nivel * 100)
             this.expToNextLevel = this.level * 100;
         }
+        CombatLog.stateChanged(EventType.PLAYER_XP_CHANGED, this, this.currentExp);
     }
 }
 
@@ -1,7 +1,7 @@
 package rpg.core;
 
 import rpg.factory.CharacterType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
 import rpg.events.EventType;
 
 /**
@@ -53,25 +53,33 @@ public class CustomCharacter extends Character {
             default:
                 // Ataque básico potenciado
                 int damage = (int) (this.baseAttack * 1.5);
-                System.out.println(this.name + " usa [Golpe Especial] por " + damage + " de daño!");
-                target.receiveDamage(damage);
+                if (CombatLog.isEnabled()) {
+                    CombatLog.print(this.name + " usa [Golpe Especial] por " + damage + " de daño!");
+                }
+                target.takeDamage(damage);
         }
     }
     
     private void warriorAbility(Character target) {
         int damage = (int) (this.baseAttack * 1.5);
-        System.out.println(this.name + " usa [Carga Brutal] por " + damage + " de daño!");
-        target.receiveDamage(damage);
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " usa [Carga Brutal] por " + damage + " de daño!");
+        }
+        target.takeDamage(damage);
     }
     
     private void mageAbility(Character target) {
         int manaCost = 15;
         if (this.consumeMana(manaCost)) {
             int damage = (int) (this.baseMagic * 2.5);
-            System.out.println(this.name + " lanza [Bola de Fuego] por " + damage + " de daño!");
-            target.receiveDamage(damage);
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " lanza [Bola de Fuego] por " + damage + " de daño!");
+            }
+            target.takeDamage(damage);
         } else {
-            System.out.println(this.name + " no tiene maná suficiente!");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " no tiene maná suficiente!");
+            }
         }
     }
     
@@ -79,10 +87,14 @@ public class CustomCharacter extends Character {
         int manaCost = 10;
         if (this.consumeMana(manaCost)) {
             int damage = (int) (this.baseAttack * 2.0);
-            System.out.println(this.name + " usa [Disparo Perforante] por " + damage + " de daño!");
-            target.receiveDamage(damage);
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " usa [Disparo Perforante] por " + damage + " de daño!");
+            }
+            target.takeDamage(damage);
         } else {
-            System.out.println(this.name + " no tiene maná suficiente!");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " no tiene maná suficiente!");
+            }
         }
     }
 
@@ -117,9 +129,12 @@ public class CustomCharacter extends Character {
         
         this.currentHp = this.maxHp;
         this.currentMana = this.maxMana;
+        invalidateStats(); // Cambiaron los stats base
         
-        GameEventManager.getInstance().notify(EventType.PLAYER_LEVELED_UP, this);
-        System.out.println(this.name + " ha subido al nivel " + this.level + "!");
+        CombatLog.event(EventType.PLAYER_LEVELED_UP, this);
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " ha subido al nivel " + this.level + "!");
+        }
     }
     
     public CharacterType getCharacterType() {
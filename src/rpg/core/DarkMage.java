@@ -1,9 +1,10 @@
 package rpg.core;
 
 import rpg.combat.MagicAttack;
-import rpg.ai.MageAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.combat.DamageResult;
+import rpg.ai.BossAI;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 import rpg.inventory.*;
 
 /**
@@ -13,10 +14,12 @@ import rpg.inventory.*;
  * - Usa magia oscura
  * - Puede drenar vida del enemigo
  * - Barrera mágica más efectiva
+ * - Planifica sus turnos por delante (BossAI): sabe cuándo drenar vida
  * 
  * HABILIDAD ESPECIAL: [DRENAJE DE VIDA]
  * - Daño: Magia × 1.8
  * - Cura 50% del daño infligido
+ * - Cuesta GameConstants.DARK_MAGE_DRAIN_MANA_COST de maná (sin maná, falla)
  */
 public class DarkMage extends Enemy {
     
@@ -24,7 +27,7 @@ public class DarkMage extends Enemy {
     
     public DarkMage() {
         super("Mago Oscuro", 8, 8, 15, 60, 
-              new MagicAttack(), new MageAI(), 80);
+              new MagicAttack(), new BossAI(), 80);
         
         // Maná inicial para hechizos
         this.currentMana = 40;
@@ -50,29 +53,44 @@ public class DarkMage extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String castMessage = "[MAGIA] " + this.name + " invoca magia prohibida...";
-        System.out.println(castMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, castMessage);
+        if (!consumeMana(GameConstants.DARK_MAGE_DRAIN_MANA_COST)) {
+            CombatLog.message(MessageTemplate.DARK_MAGE_NO_MANA, this, target, 0);
+            return;
+        }
+        
+        CombatLog.message(MessageTemplate.DARK_MAGE_CAST, this, target, 0);
         
         // Drenaje de Vida - 1.8x daño mágico
         int damage = (int) (this.baseMagic * 1.8);
         
-        String drainMessage = ">>> ¡DRENAJE DE VIDA! <<<";
-        System.out.println(drainMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, drainMessage);
+        CombatLog.message(MessageTemplate.DARK_MAGE_DRAIN, this, target, damage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
         
         // Curación por 50% del daño
         int healing = damage / 2;
+        int hpBefore = this.currentHp;
         this.currentHp = Math.min(this.currentHp + healing, this.maxHp);
+        hpChanged(hpBefore);
         
-        String healMessage = "[ABSORCION] " + this.name + " absorbe " + healing + " HP de energia vital!";
-        System.out.println(healMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, healMessage);
+        CombatLog.message(MessageTemplate.DARK_MAGE_ABSORB, this, null, healing);
+    }
+    
+    @Override
+    public int estimateSpecialDamage() {
+        return (int) (this.baseMagic * 1.8);
+    }
+    
+    @Override
+    public int estimateSpecialHealing(int damage) {
+        return damage / 2;
+    }
+    
+    @Override
+    public int getSpecialManaCost() {
+        return GameConstants.DARK_MAGE_DRAIN_MANA_COST;
     }
 }
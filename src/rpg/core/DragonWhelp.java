@@ -1,9 +1,10 @@
 package rpg.core;
 
 import rpg.combat.MagicAttack;
-import rpg.ai.MageAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.combat.DamageResult;
+import rpg.ai.BossAI;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 import rpg.inventory.*;
 
 /**
@@ -13,10 +14,12 @@ import rpg.inventory.*;
  * - Puede usar Aliento de Fuego (daño mágico masivo)
  * - Regenera 5 HP por turno (pasivo)
  * - Cambia a modo Furia cuando HP < 30%
+ * - Planifica sus turnos por delante (BossAI)
  * 
  * HABILIDAD ESPECIAL: [ALIENTO DE FUEGO]
  * - Daño: Magia × 2.5
  * - Efecto visual único
+ * - Cuesta GameConstants.DRAGON_BREATH_MANA_COST de maná (sin maná, falla)
  */
 public class DragonWhelp extends Enemy {
     
@@ -26,7 +29,7 @@ public class DragonWhelp extends Enemy {
     
     public DragonWhelp() {
         super("Cachorro de Dragón", 12, 12, 10, 120, 
-              new MagicAttack(), new MageAI(), 150);
+              new MagicAttack(), new BossAI(), 150);
         
         // Inicializar con maná para ataques mágicos
         this.currentMana = 50;
@@ -53,24 +56,39 @@ public class DragonWhelp extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String message = "*** " + this.name + " inhala profundamente...";
-        System.out.println(message);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+        if (!consumeMana(GameConstants.DRAGON_BREATH_MANA_COST)) {
+            CombatLog.message(MessageTemplate.DRAGON_NO_MANA, this, target, 0);
+            return;
+        }
+        
+        CombatLog.message(MessageTemplate.DRAGON_INHALE, this, target, 0);
         
         // Aliento de Fuego - 2.5x daño mágico
         int damage = (int) (this.baseMagic * 2.5);
         
-        String fireMessage = ">>> ¡¡¡ALIENTO DE FUEGO!!! <<<";
-        System.out.println(fireMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, fireMessage);
+        CombatLog.message(MessageTemplate.DRAGON_FIRE_BREATH, this, target, damage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
     }
     
+    @Override
+    public int estimateSpecialDamage() {
+        return (int) (this.baseMagic * 2.5);
+    }
+    
+    @Override
+    public int getSpecialManaCost() {
+        return GameConstants.DRAGON_BREATH_MANA_COST;
+    }
+    
+    @Override
+    public int getRegenPerTurn() {
+        return REGEN_AMOUNT;
+    }
+    
     @Override
     public void performAIAction(Character target) {
         // Regeneración pasiva
@@ -90,12 +108,11 @@ public class DragonWhelp extends Enemy {
         if (this.currentHp < this.maxHp) {
             int oldHp = this.currentHp;
             this.currentHp = Math.min(this.currentHp + REGEN_AMOUNT, this.maxHp);
+            hpChanged(oldHp);
             int healed = this.currentHp - oldHp;
             
             if (healed > 0) {
-                String regenMsg = "[REGEN] " + this.name + " regenera " + healed + " HP (escamas draconicas)";
-                System.out.println(regenMsg);
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, regenMsg);
+                CombatLog.message(MessageTemplate.DRAGON_REGEN, this, null, healed);
             }
         }
     }
@@ -104,10 +121,8 @@ public class DragonWhelp extends Enemy {
         furyMode = true;
         this.baseAttack += 5;
         this.baseMagic += 5;
+        invalidateStats();
         
-        String furyMsg = "*** ¡¡" + this.name + " entra en MODO FURIA!! ***\n" +
-                        "¡Ataque y Magia aumentados!";
-        System.out.println(furyMsg);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, furyMsg);
+        CombatLog.message(MessageTemplate.DRAGON_FURY, this, null, 0);
     }
 }
@@ -3,11 +3,13 @@ package rpg.core;
 
 // Importa las clases de otros paquetes
 import rpg.combat.AttackStrategy;
+import rpg.combat.DamageResult;
 import rpg.ai.EnemyAI;
 import rpg.ai.AggressiveAI;
 import rpg.inventory.LootTable;
 import rpg.inventory.Item;
 import java.util.List;
+import rpg.events.CombatLog;
 
 public class Enemy extends Character {
     
@@ -43,9 +45,9 @@ public class Enemy extends Character {
         // La "habilidad especial" de un enemigo es solo un golpe fuerte
         int damage = (int) (this.baseAttack * 1.5);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.print(result.describe());
         }
     }
 
@@ -53,7 +55,39 @@ public class Enemy extends Character {
     public void levelUp() {
         // Los enemigos no suben de nivel. Dejamos este método vacío.
         // Opcional: imprimir un mensaje de burla.
-        System.out.println(this.name + " se ríe de tu intento de 'levelUp'!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " se ríe de tu intento de 'levelUp'!");
+        }
+    }
+    
+    // --- Previsión (para IA que planifican, ej. rpg.ai.BossAI) ---
+    
+    /**
+     * @return El daño (antes de defensas) que haría specialAbility() ahora mismo
+     */
+    public int estimateSpecialDamage() {
+        return (int) (this.baseAttack * 1.5);
+    }
+    
+    /**
+     * @return Lo que se cura con specialAbility() si hace 'damage' de daño
+     */
+    public int estimateSpecialHealing(int damage) {
+        return 0;
+    }
+    
+    /**
+     * @return Maná que gasta specialAbility() (sin ese maná, no hace nada)
+     */
+    public int getSpecialManaCost() {
+        return 0;
+    }
+    
+    /**
+     * @return HP que recupera al empezar cada turno (regeneración pasiva)
+     */
+    public int getRegenPerTurn() {
+        return 0;
     }
     
     /**
@@ -74,7 +108,7 @@ public class Enemy extends Character {
      */
     public List<Item> generateLoot() {
         if (lootTable != null) {
-            return lootTable.generateDrops();
+            return lootTable.generateDrops(getRandom());
         }
         return new java.util.ArrayList<>();
     }
@@ -85,7 +119,7 @@ public class Enemy extends Character {
      */
     public int generateGold() {
         if (lootTable != null) {
-            return lootTable.generateGold();
+            return lootTable.generateGold(getRandom());
         }
         return 0;
     }
@@ -95,6 +129,10 @@ public class Enemy extends Character {
         return experienceValue;
     }
     
+    public EnemyAI getAI() {
+        return ai;
+    }
+    
     public void setAI(EnemyAI ai) {
         this.ai = ai;
     }
@@ -1,8 +1,12 @@
 package rpg.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import rpg.combat.PassiveStrategy;
+import rpg.combat.DamageResult;
+import rpg.combat.ThreatTable;
+import rpg.combat.TurnScheduler;
 
 /**
  * Grupo de enemigos - Patrón Composite (GoF).
@@ -18,10 +22,27 @@ import rpg.combat.PassiveStrategy;
  *    └── Composite (EnemyGroup) ← contiene múltiples Characters
  * 
  * COMPORTAMIENTO:
- * - receiveDamage(): Distribuye el daño a un miembro aleatorio
+ * - takeDamage(): Distribuye el daño a un miembro vivo aleatorio
  * - isAlive(): El grupo vive mientras al menos un miembro esté vivo
  * - attack(): No hace nada (PassiveStrategy), cada miembro ataca individualmente
  * 
+ * CONTABILIDAD INCREMENTAL:
+ * - Cada miembro avisa al grupo cuando cambia su vida (Character.hpChanged())
+ * - El grupo mantiene la vida total y la lista de vivos al día: isAlive(),
+ *   getCurrentHp() y getRandomLivingMember() son O(1)
+ * - Un miembro que muere sale de la lista de vivos con swap-remove (O(1));
+ *   si se cura desde 0 vuelve a entrar
+ * - getMembers() nunca cambia durante la batalla (incluye a los muertos)
+ * - Si hay un TurnScheduler (setTurnScheduler()), se le avisa de cada muerte
+ *   y resurrección: los muertos no le cuestan nada por turno
+ * 
+ * AMENAZA (opcional, setThreatTargeting(true)):
+ * - Los golpes ya no caen en un miembro uniforme: la probabilidad es
+ *   proporcional a su amenaza (ThreatTable, árbol de Fenwick, O(log n))
+ * - Amenaza = GameConstants.THREAT_BASE + daño hecho al jugador (lo anota
+ *   BattleManager) + GameConstants.THREAT_TAUNT cada vez que se defiende
+ * - Los muertos tienen amenaza 0; si reviven vuelven a la base
+ * 
  * EJEMPLO:
  * EnemyGroup grupo = new EnemyGroup("Banda de Goblins");
  * grupo.addMember(new Enemy("Goblin 1", ...));
@@ -30,7 +51,17 @@ import rpg.combat.PassiveStrategy;
  */
 public class EnemyGroup extends Character {
 
+    // Todos los miembros, en el orden en que se añadieron
     private List<Character> members = new ArrayList<>();
+    
+    // Solo los vivos (el orden cambia al retirar muertos con swap-remove)
+    private List<Character> living = new ArrayList<>();
+    
+    // Amenaza de cada miembro (null = golpes uniformes)
+    private transient ThreatTable threat;
+    
+    // Turnos de la batalla en curso (null = fuera de batalla)
+    private transient TurnScheduler turns;
 
     public EnemyGroup(String groupName) {
         // Un 'Grupo' no tiene stats por sí mismo, así que ponemos 0
@@ -43,45 +74,194 @@ public class EnemyGroup extends Character {
     // --- Métodos para manejar el grupo ---
     
     public void addMember(Character enemy) {
+        if (enemy.getGroup() != null) {
+            throw new IllegalArgumentException(enemy.getName() + " ya pertenece a un grupo");
+        }
         this.members.add(enemy);
+        enemy.setGroup(this);
+        // Los miembros comparten la aleatoriedad del grupo
+        enemy.setRandom(this.getRandom());
         // La vida total del grupo es la suma de sus miembros
         this.maxHp += enemy.getMaxHp();
         this.currentHp += enemy.getCurrentHp();
+        if (enemy.isAlive()) {
+            addLiving(enemy);
+        }
+        if (threat != null) {
+            addToThreat(enemy);
+        }
     }
 
     public void removeMember(Character enemy) {
+        if (enemy.getGroup() != this) return;
+        
         this.members.remove(enemy);
+        if (enemy.getGroupSlot() >= 0) {
+            removeLiving(enemy);
+        }
+        enemy.setGroup(null);
+        if (threat != null) {
+            threat.remove(enemy);
+        }
+        this.maxHp -= enemy.getMaxHp();
+        this.currentHp -= enemy.getCurrentHp();
     }
     
+    /**
+     * @return Todos los miembros (vivos y muertos), en orden de llegada. Solo lectura.
+     */
     public List<Character> getMembers() {
-        return this.members;
+        return Collections.unmodifiableList(this.members);
+    }
+    
+    /**
+     * @return Los miembros vivos (sin orden fijo). Solo lectura.
+     */
+    public List<Character> getLivingMembers() {
+        return Collections.unmodifiableList(this.living);
+    }
+    
+    public int getAliveCount() {
+        return this.living.size();
+    }
+    
+    /**
+     * @return Un miembro vivo al azar (según su amenaza, si está activada),
+     *         o null si no queda ninguno.
+     */
+    public Character getRandomLivingMember() {
+        if (living.isEmpty()) return null;
+        if (threat != null) {
+            return threat.pick(getRandom());
+        }
+        return living.get(getRandom().nextInt(living.size()));
+    }
+    
+    /**
+     * Planificador al que avisar cuando un miembro muere o revive
+     * (lo llama BattleManager al empezar la batalla).
+     */
+    public void setTurnScheduler(TurnScheduler turns) {
+        this.turns = turns;
+    }
+    
+    // --- Amenaza ---
+    
+    /**
+     * Activa o desactiva la elección de objetivo por amenaza.
+     * Al activarla, todos los vivos empiezan con GameConstants.THREAT_BASE.
+     */
+    public void setThreatTargeting(boolean enabled) {
+        if (!enabled) {
+            threat = null;
+        } else if (threat == null) {
+            threat = new ThreatTable(GameConstants.THREAT_BASE);
+            for (Character member : members) {
+                addToThreat(member);
+            }
+        }
+    }
+    
+    public boolean isThreatTargeting() {
+        return threat != null;
+    }
+    
+    /**
+     * Suma amenaza a un miembro (ej. el daño que hizo). Sin efecto si la amenaza está desactivada.
+     */
+    public void addThreat(Character member, long amount) {
+        if (threat != null) {
+            threat.addThreat(member, amount);
+        }
+    }
+    
+    public long getThreat(Character member) {
+        return threat == null ? 0 : threat.getThreat(member);
+    }
+    
+    /**
+     * Lo llama Character.defend() cuando un miembro se defiende.
+     */
+    void memberTaunted(Character member) {
+        if (threat != null && member.isAlive()) {
+            threat.addThreat(member, GameConstants.THREAT_TAUNT);
+        }
+    }
+    
+    private void addToThreat(Character member) {
+        threat.add(member);
+        if (!member.isAlive()) {
+            threat.setThreat(member, 0);
+        }
+    }
+    
+    /**
+     * Lo llama Character.hpChanged() cuando cambia la vida de un miembro.
+     */
+    void memberHpChanged(Character member, int hpBefore, int maxHpBefore) {
+        this.currentHp += member.getCurrentHp() - hpBefore;
+        this.maxHp += member.getMaxHp() - maxHpBefore;
+        
+        boolean wasAlive = hpBefore > 0;
+        if (wasAlive && !member.isAlive()) {
+            removeLiving(member);
+            if (threat != null) {
+                threat.setThreat(member, 0);
+            }
+            if (turns != null) {
+                turns.died(member);
+            }
+        } else if (!wasAlive && member.isAlive()) {
+            addLiving(member);
+            if (threat != null) {
+                threat.resetThreat(member);
+            }
+            if (turns != null) {
+                turns.revived(member);
+            }
+        }
+    }
+    
+    private void addLiving(Character member) {
+        member.setGroupSlot(living.size());
+        living.add(member);
+    }
+    
+    // Swap-remove: el último vivo ocupa el hueco del que muere
+    private void removeLiving(Character member) {
+        int slot = member.getGroupSlot();
+        int last = living.size() - 1;
+        Character moved = living.get(last);
+        living.set(slot, moved);
+        moved.setGroupSlot(slot);
+        living.remove(last);
+        member.setGroupSlot(-1);
+    }
+    
+    @Override
+    public void setRandom(GameRandom random) {
+        super.setRandom(random);
+        for (Character member : members) {
+            member.setRandom(random);
+        }
     }
 
     // --- Sobrescribimos los métodos de Character ---
 
     @Override
-    public String receiveDamage(int amount) {
-        // Cuando el 'Grupo' recibe daño, se lo pasa a un miembro aleatorio
-        if (!this.isAlive()) return "";
-        
-        Character randomMember = members.get((int) (Math.random() * members.size()));
-        String message = randomMember.receiveDamage(amount);
-        
-        // Actualizamos la vida total del grupo
-        this.currentHp = 0;
-        for (Character member : members) {
-            this.currentHp += member.getCurrentHp();
-        }
+    public DamageResult takeDamage(int amount) {
+        // Cuando el 'Grupo' recibe daño, se lo pasa a un miembro vivo aleatorio
+        // (la vida total se actualiza sola vía memberHpChanged)
+        Character randomMember = getRandomLivingMember();
+        if (randomMember == null) return damageResultBuffer().clear();
         
-        return message;
+        return randomMember.takeDamage(amount);
     }
 
     @Override
     public boolean isAlive() {
         // El grupo está vivo si al menos un miembro lo está
-        // (Aprovechamos para limpiar muertos)
-        members.removeIf(member -> !member.isAlive());
-        return !members.isEmpty();
+        return !living.isEmpty();
     }
     
     // Los métodos abstractos deben ser implementados, aunque no hagan nada
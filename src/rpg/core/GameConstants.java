@@ -9,6 +9,9 @@ package rpg.core;
  * - Facilitar ajustes de balanceo
  * - Mejorar legibilidad del código
  * 
+ * Para probar otros valores sin recompilar (simulador, barridos de balanceo)
+ * ver BalanceParameters: sus valores por defecto son los de aquí.
+ * 
  * @author RPGv3 Team
  * @version 1.0
  */
@@ -30,6 +33,37 @@ public final class GameConstants {
     /** Daño base mínimo garantizado en ataques */
     public static final int MINIMUM_DAMAGE = 1;
     
+    /** Velocidad base: un turno por ronda (el doble de velocidad, el doble de turnos) */
+    public static final int BASE_SPEED = 10;
+    
+    /** Costo de maná del ataque básico mágico (MagicAttack) */
+    public static final int MAGIC_ATTACK_MANA_COST = 5;
+    
+    /** Costo de maná del Drenaje de Vida del Mago Oscuro (su habilidad especial) */
+    public static final int DARK_MAGE_DRAIN_MANA_COST = 25;
+    
+    /** Costo de maná del Aliento de Fuego del Cachorro de Dragón (su habilidad especial) */
+    public static final int DRAGON_BREATH_MANA_COST = 40;
+    
+    // ==================== AMENAZA (AGGRO) ====================
+    
+    /** Amenaza inicial de cada miembro de un grupo con amenaza */
+    public static final long THREAT_BASE = 10;
+    
+    /** Amenaza por cada punto de daño infligido al jugador */
+    public static final long THREAT_PER_DAMAGE = 1;
+    
+    /** Amenaza al provocar (defenderse) */
+    public static final long THREAT_TAUNT = 50;
+    
+    // ==================== IA DE JEFES ====================
+    
+    /** Tiempo máximo que BossAI puede pensar en un turno (milisegundos) */
+    public static final long BOSS_AI_TIME_BUDGET_MS = 20;
+    
+    /** Turnos del jefe que BossAI mira por delante */
+    public static final int BOSS_AI_MAX_DEPTH = 4;
+    
     // ==================== EXPERIENCIA ====================
     
     /** XP base requerida para nivel 2 */
@@ -130,6 +164,9 @@ public final class GameConstants {
     /** Altura del panel inferior (log) */
     public static final int BOTTOM_PANEL_HEIGHT = 150;
     
+    /** Duración de un frame de la interfaz: los cambios de HP/maná se agrupan por frame (ms) */
+    public static final long UI_FRAME_MILLIS = 16;
+    
     // ==================== COLORES (RGB) ====================
     
     /** Color primario oscuro */
@@ -160,4 +197,42 @@ public final class GameConstants {
     
     /** Oro inicial del jugador */
     public static final int STARTING_GOLD = 0;
+    
+    // ==================== EVENTOS ====================
+    
+    /** Casillas del buffer circular del despacho asíncrono de eventos (potencia de 2) */
+    public static final int ASYNC_EVENT_BUFFER_SIZE = 4096;
+    
+    /** Tiempo máximo de un listener por evento antes de marcarlo como lento (EventMetrics) */
+    public static final long EVENT_LISTENER_BUDGET_MICROS = 1_000;
+    
+    /** Eventos que acumula cada suscriptor de un GameEventPublisher antes de descartar */
+    public static final int FLOW_BUFFER_SIZE = 256;
+    
+    // ==================== LOG ====================
+    
+    /** Casillas del buffer circular del GameLogger asíncrono (potencia de 2) */
+    public static final int LOG_BUFFER_SIZE = 8192;
+    
+    /** Tamaño a partir del cual RollingFileSink rota el archivo de log */
+    public static final long LOG_FILE_MAX_BYTES = 5L * 1024 * 1024;
+    
+    /** Archivos de log que conserva RollingFileSink (contando el actual) */
+    public static final int LOG_FILE_COUNT = 5;
+    
+    // ==================== REPETICIONES ====================
+    
+    /** Batallas recientes cuyo diario se conserva en memoria (para reportes de bugs) */
+    public static final int MAX_RECORDED_BATTLES = 20;
+    
+    /** Acciones máximas por diario de batalla (las siguientes no se graban) */
+    public static final int MAX_JOURNAL_ACTIONS = 4096;
+    
+    // ==================== PERSISTENCIA ====================
+    
+    /** Registros del diario de sesión en disco (SessionJournal, 32 bytes cada uno) */
+    public static final int SESSION_JOURNAL_CAPACITY = 16_384;
+    
+    /** Registros del diario tras los que se toma un snapshot aunque no haya pasado nada importante */
+    public static final int SESSION_SNAPSHOT_INTERVAL = 4_096;
 }
@@ -0,0 +1,303 @@
+package rpg.core;
+
+import rpg.factory.*;
+import rpg.combat.*;
+import rpg.events.*;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+import rpg.quest.Quest;
+import rpg.quest.QuestManager;
+import rpg.replay.BattleJournal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Estado completo de UNA partida (sesión de juego).
+ *
+ * PROPÓSITO:
+ * - Antes, GameFacade y GameEventManager eran singletons de proceso:
+ *   una JVM solo podía tener un jugador
+ * - Cada GameContext tiene su propio jugador, batalla, misiones,
+ *   bus de eventos (GameEventManager) y aleatoriedad (GameRandom)
+ * - Muchas sesiones pueden correr a la vez sin compartir nada
+ *   (ver rpg.session.GameSessionHost)
+ *
+ * CONTEXTO ACTIVO (por hilo):
+ * - GameContext.current() es el contexto del hilo actual; el código del
+ *   modelo (Character, CombatLog, ...) lo usa en lugar de los singletons
+ * - Si el hilo no tiene uno asignado, se usa getDefault(): el de la GUI,
+ *   que es el que envuelve GameFacade
+ * - Las acciones de una sesión deben correr con su contexto activo:
+ *   GameContext previous = GameContext.bind(context);
+ *   try { ... } finally { GameContext.bind(previous); }
+ *   (o context.call(...), o GameSession, que lo hace solo)
+ *
+ * NO ES THREAD-SAFE: una sesión se usa desde un solo hilo a la vez.
+ *
+ * @see GameFacade
+ */
+public class GameContext {
+
+    // Contexto activo de cada hilo (null = usar el de por defecto)
+    private static final ThreadLocal<GameContext> CURRENT = new ThreadLocal<>();
+
+    // Contexto de la GUI (el de GameFacade)
+    private static volatile GameContext defaultContext;
+
+    // --- Subsistemas ---
+    private final GameEventManager events;
+    private final CharacterFactory charFactory;
+    private final EnemyFactory enemyFactory;
+    private final QuestManager questManager;
+
+    // --- Estado del Juego ---
+    private Character player;
+    private CharacterType currentCharacterType; // Tipo de clase actual
+    private final GameRandom random; // Aleatoriedad de la sesión
+    private BattleManager currentBattle;
+
+    // Diarios de las últimas batallas (como mucho GameConstants.MAX_RECORDED_BATTLES)
+    private final Deque<BattleJournal> recentBattles = new ArrayDeque<>();
+
+    /**
+     * Crea una sesión nueva con su propio bus de eventos y semilla aleatoria.
+     */
+    public GameContext() {
+        this(new GameEventManager(), GameRandom.create());
+    }
+
+    public GameContext(GameEventManager events, GameRandom random) {
+        this.events = events;
+        this.random = random;
+        this.charFactory = new CharacterFactory();
+        this.enemyFactory = new EnemyFactory(random.split());
+        this.questManager = new QuestManager();
+    }
+
+    // --- Contexto activo ---
+
+    /**
+     * @return El contexto del hilo actual, o el de por defecto si no tiene uno.
+     */
+    public static GameContext current() {
+        GameContext context = CURRENT.get();
+        return context != null ? context : getDefault();
+    }
+
+    /**
+     * @return El contexto de la GUI (usa el GameEventManager.getInstance() de siempre).
+     */
+    public static GameContext getDefault() {
+        GameContext context = defaultContext;
+        if (context == null) {
+            synchronized (GameContext.class) {
+                context = defaultContext;
+                if (context == null) {
+                    context = new GameContext(GameEventManager.getInstance(), GameRandom.create());
+                    defaultContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Activa 'context' en el hilo actual (null = volver al de por defecto).
+     * @return El contexto que estaba activo antes, para poder restaurarlo.
+     */
+    public static GameContext bind(GameContext context) {
+        GameContext previous = CURRENT.get();
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+        return previous;
+    }
+
+    /**
+     * Ejecuta 'action' con este contexto activo en el hilo actual.
+     */
+    public <T> T call(Supplier<T> action) {
+        GameContext previous = bind(this);
+        try {
+            return action.get();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    // --- API de la partida ---
+
+    /**
+     * Inicia un juego nuevo, creando al jugador.
+     */
+    public void startNewGame(CharacterType type, String name) {
+        this.player = this.charFactory.createCharacter(type, name);
+        this.currentCharacterType = type;
+        log("Un nuevo héroe, " + player.getName() + ", ha aparecido!");
+    }
+
+    /**
+     * Reemplaza al jugador (ej. al cargar una partida) y avisa a la GUI.
+     */
+    public void loadPlayer(Character player, CharacterType type) {
+        this.player = player;
+        this.currentCharacterType = type;
+        log("¡Partida cargada! Bienvenido de nuevo, " + player.getName());
+        // ¡Notifica a la GUI que todo cambió!
+        events.notify(EventType.PLAYER_HP_CHANGED, player);
+        events.notify(EventType.PLAYER_MANA_CHANGED, player);
+        events.notify(EventType.PLAYER_LEVELED_UP, player);
+    }
+
+    // --- API DE MISIONES ---
+
+    public void startQuest(String questId) {
+        questManager.startQuest(questId);
+    }
+
+    public void completeQuest(String questId) {
+        questManager.completeQuest(questId);
+    }
+
+    public List<Quest> getActiveQuests() {
+        return questManager.getActiveQuests();
+    }
+
+    // --- API para Combate ---
+
+    /**
+     * Inicia una batalla contra un encuentro aleatorio.
+     */
+    public void startBattle() {
+        if (player == null || !player.isAlive()) {
+            log("No se puede iniciar una batalla sin un jugador vivo.");
+            return;
+        }
+
+        // 1. Crea el encuentro (¡usando el Composite!)
+        Character encounter = this.enemyFactory.createEncounter();
+
+        // 2. Crea el BattleManager (con su propia semilla) y guárdalo
+        currentBattle = new BattleManager(player, encounter, random.split());
+        rememberJournal(currentBattle.getJournal());
+
+        // Notifica a la GUI que la batalla comenzó
+        events.notify(EventType.NEW_MESSAGE_LOGGED, "¡Batalla iniciada!");
+    }
+
+    public String playerAttack() {
+        if (currentBattle != null && player != null) {
+            Enemy enemy = currentBattle.getCurrentEnemy();
+            if (enemy != null) {
+                int initialHp = enemy.getCurrentHp();
+                currentBattle.playerAttack(); // Ataca y verifica la victoria inmediatamente
+                int damage = initialHp - enemy.getCurrentHp();
+
+                String message = player.getName() + " ataca a " + enemy.getName() + " por " + damage + " de daño!";
+                events.notify(EventType.NEW_MESSAGE_LOGGED, message);
+
+                return message;
+            }
+        }
+        return "No hay batalla activa";
+    }
+
+    public String playerSpecialAbility() {
+        if (currentBattle != null && player != null) {
+            Enemy enemy = currentBattle.getCurrentEnemy();
+            if (enemy != null) {
+                int initialHp = enemy.getCurrentHp();
+                currentBattle.playerSpecialAbility(); // Usa la habilidad y verifica la victoria
+                int damage = initialHp - enemy.getCurrentHp();
+
+                String message = player.getName() + " usa [Habilidad Especial] contra " + enemy.getName() + " por " + damage + " de daño!";
+                events.notify(EventType.NEW_MESSAGE_LOGGED, message);
+
+                return message;
+            }
+        }
+        return "No se puede usar habilidad";
+    }
+
+    public void playerDefend() {
+        if (currentBattle != null && player != null) {
+            currentBattle.playerDefend();
+        }
+    }
+
+    /**
+     * Intenta huir de la batalla actual (usa la aleatoriedad de la batalla).
+     * @return true si el jugador escapó
+     */
+    public boolean tryFlee() {
+        return currentBattle != null && currentBattle.tryFlee();
+    }
+
+    public String enemyTurn() {
+        if (currentBattle != null) {
+            if (currentBattle.getEnemies().isAlive()) {
+                // Actúan los enemigos por orden de iniciativa (igual que en el simulador)
+                currentBattle.enemyTurn();
+                return "Turno del enemigo completado";
+            }
+        }
+        return "";
+    }
+
+    private void rememberJournal(BattleJournal journal) {
+        if (journal == null) return;
+        if (recentBattles.size() == GameConstants.MAX_RECORDED_BATTLES) {
+            recentBattles.removeFirst();
+        }
+        recentBattles.addLast(journal);
+    }
+
+    /**
+     * Envía un mensaje tanto a la consola como al bus de eventos de esta sesión.
+     */
+    public void log(String message) {
+        if (CombatLog.isEnabled()) {
+            GameLogger.info(Category.GENERAL, "FACADE: {}", message);
+            events.notify(EventType.NEW_MESSAGE_LOGGED, message);
+        }
+    }
+
+    // --- Getters ---
+
+    public GameEventManager getEvents() {
+        return events;
+    }
+
+    public Character getPlayer() {
+        return player;
+    }
+
+    public CharacterType getCharacterType() {
+        return currentCharacterType;
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public BattleManager getBattleManager() {
+        return currentBattle;
+    }
+
+    public QuestManager getQuestManager() {
+        return questManager;
+    }
+
+    /**
+     * @return Los diarios de las últimas batallas, de la más antigua a la más reciente
+     *         (para adjuntarlos a un reporte de bug y repetirlos con ReplayEngine).
+     */
+    public List<BattleJournal> getRecentBattleJournals() {
+        return new ArrayList<>(recentBattles);
+    }
+}
@@ -3,14 +3,19 @@ package rpg.core;
 // Importa todos tus subsistemas
 import rpg.factory.*;
 import rpg.combat.*;
-import rpg.events.*;
 import rpg.quest.Quest;
 import rpg.quest.QuestManager;
 import rpg.persistence.SaveManager;
+import rpg.replay.BattleJournal;
 import java.util.List;
 
 /**
  * Fachada principal del juego - Patrones Facade + Singleton (GoF).
+ *
+ * La GUI sigue hablando con un único GameFacade, pero el estado de la
+ * partida ya no vive aquí: vive en GameContext.getDefault(). Para correr
+ * varias partidas en la misma JVM (ej. un servidor), usar un GameContext
+ * por sesión (rpg.session.GameSessionHost).
  */
 public class GameFacade {
 
@@ -25,20 +30,12 @@ public class GameFacade {
     // --- Fin Singleton ---
 
     // --- Subsistemas ---
-    private CharacterFactory charFactory;
-    private EnemyFactory enemyFactory;
-    private QuestManager questManager;
+    private final GameContext context;
     private SaveManager saveManager;
-    
-    // --- Estado del Juego ---
-    private Character player;
-    private CharacterType currentCharacterType; // Tipo de clase actual
-    
+
     // El constructor privado inicializa todos los subsistemas
     private GameFacade() {
-        this.charFactory = new CharacterFactory();
-        this.enemyFactory = new EnemyFactory();
-        this.questManager = new QuestManager();
+        this.context = GameContext.getDefault();
         this.saveManager = new SaveManager();
     }
 
@@ -48,193 +45,154 @@ public class GameFacade {
      * Inicia un juego nuevo, creando al jugador.
      */
     public void startNewGame(CharacterType type, String name) {
-        this.player = this.charFactory.createCharacter(type, name);
-        this.currentCharacterType = type;
-        log("Un nuevo héroe, " + player.getName() + ", ha aparecido!");
+        context.startNewGame(type, name);
     }
-    
+
     // --- API DE MISIONES ---
 
     public void startQuest(String questId) {
-        questManager.startQuest(questId);
+        context.startQuest(questId);
     }
-    
+
     public void completeQuest(String questId) {
-        questManager.completeQuest(questId);
+        context.completeQuest(questId);
     }
-    
+
     public List<Quest> getActiveQuests() {
-        return questManager.getActiveQuests();
+        return context.getActiveQuests();
     }
 
     /**
      * Inicia una batalla contra un encuentro aleatorio.
      */
     public void startBattle() {
-        if (player == null || !player.isAlive()) {
-            log("No se puede iniciar una batalla sin un jugador vivo.");
-            return;
-        }
-        
-        // 1. Crea el encuentro (¡usando el Composite!)
-        Character encounter = this.enemyFactory.createEncounter();
-        
-        // 2. Crea el BattleManager y guárdalo
-        currentBattle = new BattleManager(player, encounter);
-        
-        // Notifica a la GUI que la batalla comenzó
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, "¡Batalla iniciada!");
-    }
-    
+        context.startBattle();
+    }
+
     /**
      * Devuelve el objeto del jugador para que la GUI muestre sus stats.
      */
     public Character getPlayer() {
-        return this.player;
+        return context.getPlayer();
+    }
+
+    /**
+     * Devuelve la aleatoriedad de la sesión.
+     */
+    public GameRandom getRandom() {
+        return context.getRandom();
     }
 
-    // --- Método de Ayuda para Log ---
-    
     /**
-     * Envía un mensaje tanto a la consola como al sistema de eventos (Observer).
+     * @return La sesión que envuelve esta fachada.
      */
-    private void log(String message) {
-        System.out.println("FACADE: " + message);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
+    public GameContext getContext() {
+        return context;
     }
-    
+
+    /**
+     * @return Los diarios de las últimas batallas, de la más antigua a la más reciente
+     *         (para adjuntarlos a un reporte de bug y repetirlos con ReplayEngine).
+     */
+    public List<BattleJournal> getRecentBattleJournals() {
+        return context.getRecentBattleJournals();
+    }
+
     /**
      * Guarda el estado actual del jugador en un archivo.
      */
     public boolean saveGame(String filename) {
+        Character player = context.getPlayer();
+        CharacterType currentCharacterType = context.getCharacterType();
         if (player != null && currentCharacterType != null) {
             return saveManager.saveGame(player, currentCharacterType, filename);
         } else {
-            log("No hay jugador que guardar.");
+            context.log("No hay jugador que guardar.");
             return false;
         }
     }
-    
+
     /**
      * Guarda en un slot específico (1-5).
      */
     public boolean saveGameToSlot(int slotNumber, String saveName) {
+        Character player = context.getPlayer();
+        CharacterType currentCharacterType = context.getCharacterType();
         if (player != null && currentCharacterType != null) {
             return saveManager.saveGame(player, currentCharacterType, slotNumber, saveName);
         } else {
-            log("No hay jugador que guardar.");
+            context.log("No hay jugador que guardar.");
             return false;
         }
     }
-    
+
     /**
      * Carga el estado del jugador desde un archivo.
      */
     public boolean loadGame(String filename) {
         rpg.persistence.GameState gameState = saveManager.loadGame(filename);
         if (gameState != null) {
-            this.player = gameState.getPlayer();
-            this.currentCharacterType = gameState.getCharacterType();
-            log("¡Partida cargada! Bienvenido de nuevo, " + this.player.getName());
-            // ¡Notifica a la GUI que todo cambió!
-            GameEventManager.getInstance().notify(EventType.PLAYER_HP_CHANGED, player);
-            GameEventManager.getInstance().notify(EventType.PLAYER_MANA_CHANGED, player);
-            GameEventManager.getInstance().notify(EventType.PLAYER_LEVELED_UP, player);
+            context.loadPlayer(gameState.getPlayer(), gameState.getCharacterType());
             return true;
         } else {
-            log("Falló la carga del archivo: " + filename);
+            context.log("Falló la carga del archivo: " + filename);
             return false;
         }
     }
-    
+
     /**
      * Carga desde un slot específico.
      */
     public boolean loadGameFromSlot(int slotNumber) {
         rpg.persistence.GameState gameState = saveManager.loadGameFromSlot(slotNumber);
         if (gameState != null) {
-            this.player = gameState.getPlayer();
-            this.currentCharacterType = gameState.getCharacterType();
-            log("¡Partida cargada! Bienvenido de nuevo, " + this.player.getName());
-            GameEventManager.getInstance().notify(EventType.PLAYER_HP_CHANGED, player);
-            GameEventManager.getInstance().notify(EventType.PLAYER_MANA_CHANGED, player);
-            GameEventManager.getInstance().notify(EventType.PLAYER_LEVELED_UP, player);
+            context.loadPlayer(gameState.getPlayer(), gameState.getCharacterType());
             return true;
         } else {
-            log("No hay partida guardada en el slot " + slotNumber);
+            context.log("No hay partida guardada en el slot " + slotNumber);
             return false;
         }
     }
-    
+
     /**
      * Obtiene el SaveManager para acceso directo a funciones avanzadas.
      */
     public SaveManager getSaveManager() {
         return saveManager;
     }
-    
+
     // --- API para Combate (GUI) ---
-    
-    private BattleManager currentBattle;
-    
+
     public BattleManager getBattleManager() {
-        return currentBattle;
+        return context.getBattleManager();
     }
-    
+
     public String playerAttack() {
-        if (currentBattle != null && player != null) {
-            Enemy enemy = currentBattle.getCurrentEnemy();
-            if (enemy != null) {
-                int initialHp = enemy.getCurrentHp();
-                player.attack(enemy);
-                int damage = initialHp - enemy.getCurrentHp();
-                
-                String message = player.getName() + " ataca a " + enemy.getName() + " por " + damage + " de daño!";
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
-                
-                // Verificar victoria inmediatamente
-                currentBattle.checkVictory();
-                
-                return message;
-            }
-        }
-        return "No hay batalla activa";
+        return context.playerAttack();
     }
-    
+
     public String playerSpecialAbility() {
-        if (currentBattle != null && player != null) {
-            Enemy enemy = currentBattle.getCurrentEnemy();
-            if (enemy != null) {
-                int initialHp = enemy.getCurrentHp();
-                player.specialAbility(enemy);
-                int damage = initialHp - enemy.getCurrentHp();
-                
-                String message = player.getName() + " usa [Habilidad Especial] contra " + enemy.getName() + " por " + damage + " de daño!";
-                GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, message);
-                
-                // Verificar victoria inmediatamente
-                currentBattle.checkVictory();
-                
-                return message;
-            }
-        }
-        return "No se puede usar habilidad";
+        return context.playerSpecialAbility();
     }
-    
+
+    public void playerDefend() {
+        context.playerDefend();
+    }
+
+    /**
+     * Intenta huir de la batalla actual (usa la aleatoriedad de la batalla).
+     * @return true si el jugador escapó
+     */
+    public boolean tryFlee() {
+        return context.tryFlee();
+    }
+
     public String enemyTurn() {
-        if (currentBattle != null) {
-            Enemy enemy = currentBattle.getCurrentEnemy();
-            if (enemy != null && enemy.isAlive()) {
-                // Usa la IA del enemigo para decidir la acción
-                enemy.performAIAction(player);
-                return "Turno del enemigo completado";
-            }
-        }
-        return "";
+        return context.enemyTurn();
     }
-    
+
     public QuestManager getQuestManager() {
-        return questManager;
+        return context.getQuestManager();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package rpg.core;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fuente de números aleatorios del juego, con semilla reproducible.
+ *
+ * PROPÓSITO:
+ * - Reemplaza Math.random() (una semilla global compartida entre hilos)
+ * - Cada batalla/sesión lleva su propia instancia: sin contención entre hilos
+ * - Con la misma semilla, la misma batalla se repite exactamente
+ *
+ * BASADO EN SplittableRandom:
+ * - split() crea un generador independiente (ej. uno por hilo o por batalla)
+ * - seedFor(base, i) da la semilla de la batalla i de forma determinista,
+ *   sin importar cuántos hilos ni en qué orden se ejecuten
+ *
+ * NO ES THREAD-SAFE: una instancia debe usarse desde un solo hilo a la vez.
+ *
+ * USO:
+ * GameRandom random = new GameRandom(12345L);
+ * if (random.chance(GameConstants.FLEE_SUCCESS_RATE)) { ... }
+ */
+public class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final SplittableRandom random;
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Crea un generador con una semilla nueva (no reproducible a menos que se guarde getSeed()).
+     */
+    public static GameRandom create() {
+        return new GameRandom(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Semilla determinista para la batalla número 'index' de una serie.
+     * Mezcla los bits para que semillas consecutivas no estén correlacionadas.
+     */
+    public static long seedFor(long baseSeed, long index) {
+        long z = baseSeed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Crea un generador hijo independiente (avanza este generador).
+     */
+    public GameRandom split() {
+        return new GameRandom(random.nextLong());
+    }
+
+    /**
+     * @return Un double en [0.0, 1.0), igual que Math.random()
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * @return Un entero en [0, bound)
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * @return true con probabilidad 'probability' (0.0 a 1.0)
+     */
+    public boolean chance(double probability) {
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * @return La semilla con la que se creó este generador (para repetir la batalla)
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
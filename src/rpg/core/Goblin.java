@@ -1,9 +1,10 @@
 package rpg.core;
 
 import rpg.combat.MeleeAttack;
+import rpg.combat.DamageResult;
 import rpg.ai.EvasiveAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 import rpg.inventory.*;
 
 /**
@@ -45,28 +46,20 @@ public class Goblin extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String sneakMessage = "[TRAMPA] " + this.name + " se prepara para hacer trampa...";
-        System.out.println(sneakMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, sneakMessage);
+        CombatLog.message(MessageTemplate.GOBLIN_TRICK, this, target, 0);
         
         int damage = (int) (this.baseAttack * 1.5);
         
-        String dirtyMessage = ">>> ¡ATAQUE SUCIO! <<<";
-        System.out.println(dirtyMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, dirtyMessage);
+        CombatLog.message(MessageTemplate.GOBLIN_DIRTY_ATTACK, this, target, damage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
         
         // Truco sucio: arena en los ojos
-        if (Math.random() < DIRTY_TRICK_CHANCE) {
-            String trickMsg = "[CIEGO] " + this.name + " lanza arena a los ojos!\n" +
-                            "¡Tu vision esta borrosa!";
-            System.out.println(trickMsg);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, trickMsg);
+        if (getRandom().chance(DIRTY_TRICK_CHANCE)) {
+            CombatLog.message(MessageTemplate.GOBLIN_SAND, this, target, 0);
         }
     }
 }
@@ -2,7 +2,7 @@
 package rpg.core;
 
 import rpg.combat.MagicAttack;
-import rpg.events.GameEventManager; // <-- ¡Importa el manager!
+import rpg.events.CombatLog;
 import rpg.events.EventType;      // <-- ¡Importa los tipos de evento!
 
 public class Mage extends Character {
@@ -26,10 +26,14 @@ public class Mage extends Character {
         
         if (this.consumeMana(manaCost)) {
             int damage = (int) (this.baseMagic * 2.5); // Daño x2.5
-            System.out.println(this.name + " lanza una [Bola de Fuego] contra " + target.getName() + " por " + damage + " de daño!");
-            target.receiveDamage(damage);
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " lanza una [Bola de Fuego] contra " + target.getName() + " por " + damage + " de daño!");
+            }
+            target.takeDamage(damage);
         } else {
-            System.out.println(this.name + " intenta lanzar [Bola de Fuego], ¡pero no tiene maná!");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " intenta lanzar [Bola de Fuego], ¡pero no tiene maná!");
+            }
         }
     }
 
@@ -45,8 +49,11 @@ public class Mage extends Character {
         // Rellena la vida y el maná al subir de nivel
         this.currentHp = this.maxHp;
         this.currentMana = this.maxMana;
-        GameEventManager.getInstance().notify(EventType.PLAYER_LEVELED_UP, this);
+        invalidateStats(); // Cambiaron los stats base
+        CombatLog.event(EventType.PLAYER_LEVELED_UP, this);
         
-        System.out.println(this.name + " ha subido al nivel " + this.level + "!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " ha subido al nivel " + this.level + "!");
+        }
     }
 }
\ No newline at end of file
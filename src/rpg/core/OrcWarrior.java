@@ -1,9 +1,9 @@
 package rpg.core;
 
 import rpg.combat.MeleeAttack;
+import rpg.combat.DamageResult;
 import rpg.ai.DefensiveAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
 import rpg.inventory.*;
 
 /**
@@ -49,25 +49,22 @@ public class OrcWarrior extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String chargeMessage = "[CARGA] " + this.name + " carga con toda su fuerza...";
-        System.out.println(chargeMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, chargeMessage);
+        if (CombatLog.isEnabled()) {
+            CombatLog.message("[CARGA] " + this.name + " carga con toda su fuerza...");
+        }
         
         // Carga Salvaje - 2.0x daño
         int damage = (int) (this.baseAttack * 2.0);
         
         String attackMessage = ">>> ¡CARGA SALVAJE! <<<";
-        System.out.println(attackMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, attackMessage);
+        CombatLog.message(attackMessage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
         
         String impactMsg = "*** ¡Impacto devastador! ***";
-        System.out.println(impactMsg);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, impactMsg);
+        CombatLog.message(impactMsg);
     }
 }
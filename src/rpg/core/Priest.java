@@ -1,6 +1,7 @@
 package rpg.core;
 
 import rpg.combat.PassiveStrategy; 
+import rpg.events.CombatLog;
 
 /**
  * Un NPC que puede curar al jugador.
@@ -36,10 +37,14 @@ public class Priest extends Character {
         
         int manaCost = 10;
         if (this.consumeMana(manaCost)) {
-            System.out.println(this.name + " lanza [Curación Menor] sobre " + target.getName() + "!");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " lanza [Curación Menor] sobre " + target.getName() + "!");
+            }
             target.heal(amount);
         } else {
-            System.out.println(this.name + " intenta curar pero no tiene maná.");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + " intenta curar pero no tiene maná.");
+            }
         }
 	}
 
@@ -56,19 +61,27 @@ public class Priest extends Character {
      * ¡Usa la interfaz Healable para no depender de la clase 'Character'!
      */
     public void offerHeal(Healable target) {
-        System.out.println(this.name + ": 'Permíteme sanar tus heridas.'");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + ": 'Permíteme sanar tus heridas.'");
+        }
 
         if (!target.isAlive()) {
-            System.out.println(this.name + ": 'Es demasiado tarde para este...'");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + ": 'Es demasiado tarde para este...'");
+            }
             return;
         }
 
         if (target.getCurrentHp() < target.getMaxHp()) {
             int amountToHeal = target.getMaxHp() - target.getCurrentHp();
             target.heal(amountToHeal); // ¡Cura completa!
-            System.out.println(this.name + ": '¡Que la luz te restaure! (Curado por " + amountToHeal + " HP)'");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + ": '¡Que la luz te restaure! (Curado por " + amountToHeal + " HP)'");
+            }
         } else {
-            System.out.println(this.name + ": 'Pareces estar en perfecto estado de salud.'");
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(this.name + ": 'Pareces estar en perfecto estado de salud.'");
+            }
         }
     }
 }
\ No newline at end of file
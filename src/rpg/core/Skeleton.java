@@ -1,9 +1,11 @@
 package rpg.core;
 
 import rpg.combat.RangedAttack;
+import rpg.combat.DamageResult;
 import rpg.ai.AggressiveAI;
+import rpg.events.CombatLog;
 import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.MessageTemplate;
 import rpg.inventory.*;
 
 /**
@@ -46,36 +48,31 @@ public class Skeleton extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String prepMessage = "[NO-MUERTO] " + this.name + " prepara una flecha oscura...";
-        System.out.println(prepMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, prepMessage);
+        CombatLog.message(MessageTemplate.SKELETON_AIM, this, target, 0);
         
         int damage = (int) (this.baseAttack * 1.7);
         
-        String poisonMessage = ">>> ¡FLECHA ENVENENADA! <<<";
-        System.out.println(poisonMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, poisonMessage);
+        CombatLog.message(MessageTemplate.SKELETON_POISON_ARROW, this, target, damage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
         
-        String effectMsg = "[VENENO] El veneno se infiltra en las venas...";
-        System.out.println(effectMsg);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, effectMsg);
+        CombatLog.message(MessageTemplate.SKELETON_POISON, this, target, result.getFinalDamage());
     }
     
     @Override
-    public String receiveDamage(int amount) {
+    public DamageResult takeDamage(int amount) {
         // 20% probabilidad de esquivar por estructura ósea
-        if (Math.random() < DODGE_CHANCE) {
-            String dodgeMsg = "[ESQUIVA] ¡La flecha atraviesa entre los huesos sin hacer daño!";
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, dodgeMsg);
-            return dodgeMsg;
+        if (getRandom().chance(DODGE_CHANCE)) {
+            DamageResult dodge = damageResultBuffer().recordDodge(this, amount);
+            if (CombatLog.isEnabled()) {
+                CombatLog.event(EventType.NEW_MESSAGE_LOGGED, dodge.describe());
+            }
+            return dodge;
         }
         
-        return super.receiveDamage(amount);
+        return super.takeDamage(amount);
     }
 }
@@ -1,9 +1,10 @@
 package rpg.core;
 
 import rpg.combat.MeleeAttack;
+import rpg.combat.DamageResult;
 import rpg.ai.AggressiveAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
+import rpg.events.MessageTemplate;
 import rpg.inventory.*;
 
 /**
@@ -47,35 +48,27 @@ public class Slime extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String bounceMessage = "[REBOTE] " + this.name + " rebota amenazadoramente...";
-        System.out.println(bounceMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, bounceMessage);
+        CombatLog.message(MessageTemplate.SLIME_BOUNCE, this, target, 0);
         
         int damage = (int) (this.baseAttack * 1.3);
         
-        String acidMessage = ">>> ¡SALPICADURA ACIDA! <<<";
-        System.out.println(acidMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, acidMessage);
+        CombatLog.message(MessageTemplate.SLIME_ACID_SPLASH, this, target, damage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
         
-        String sizzleMsg = "[ACIDO] ¡El acido quema!";
-        System.out.println(sizzleMsg);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, sizzleMsg);
+        CombatLog.message(MessageTemplate.SLIME_ACID_BURN, this, target, result.getFinalDamage());
     }
     
     @Override
-    public String receiveDamage(int amount) {
+    public DamageResult takeDamage(int amount) {
         // Cuerpo gelatinoso: mensaje especial
-        String result = super.receiveDamage(amount);
+        DamageResult result = super.takeDamage(amount);
         
         if (this.isAlive()) {
-            String wobbleMsg = "[GELATINA] El slime tiembla pero se mantiene cohesionado...";
-            System.out.println(wobbleMsg);
+            CombatLog.print(MessageTemplate.SLIME_WOBBLE, this, null, result.getFinalDamage());
         }
         
         return result;
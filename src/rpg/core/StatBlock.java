@@ -0,0 +1,66 @@
+package rpg.core;
+
+import java.io.Serializable;
+
+/**
+ * Bloque inmutable de stats derivados (base + bonus de equipo).
+ *
+ * PROPÓSITO:
+ * - Character.getStats() lo calcula una sola vez cuando cambian sus entradas
+ *   (equipar/desequipar, subir de nivel, ...) y lo reutiliza en cada lectura
+ * - Todos los valores son del mismo instante: quien lee ataque, magia y
+ *   defensa por separado nunca mezcla un estado viejo con uno nuevo
+ * - getVersion() sube cada vez que cambian los stats: la IA, la GUI o el
+ *   simulador pueden guardar lo que calcularon y recalcular solo si cambió
+ *
+ * También sirve como diferencia entre dos bloques (minus()): así Equipment
+ * recuerda exactamente qué sumó cada item al equiparlo.
+ */
+public final class StatBlock implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int attack;
+    private final int magic;
+    private final int defense;
+    private final int maxHp;
+    private final int maxMana;
+    private final int speed;
+    private final long version;
+
+    public StatBlock(int attack, int magic, int defense, int maxHp, int maxMana, int speed, long version) {
+        this.attack = attack;
+        this.magic = magic;
+        this.defense = defense;
+        this.maxHp = maxHp;
+        this.maxMana = maxMana;
+        this.speed = speed;
+        this.version = version;
+    }
+
+    /**
+     * @return Lo que cambió de 'before' a este bloque (la versión queda en 0)
+     */
+    public StatBlock minus(StatBlock before) {
+        return new StatBlock(attack - before.attack, magic - before.magic, defense - before.defense,
+            maxHp - before.maxHp, maxMana - before.maxMana, speed - before.speed, 0);
+    }
+
+    public int getAttack() { return attack; }
+    public int getMagic() { return magic; }
+    public int getDefense() { return defense; }
+    public int getMaxHp() { return maxHp; }
+    public int getMaxMana() { return maxMana; }
+    public int getSpeed() { return speed; }
+
+    /**
+     * @return La versión de los stats del personaje cuando se calculó este bloque
+     */
+    public long getVersion() { return version; }
+
+    @Override
+    public String toString() {
+        return "ATK " + attack + ", MAG " + magic + ", DEF " + defense
+            + ", HP " + maxHp + ", MP " + maxMana + ", VEL " + speed;
+    }
+}
@@ -2,7 +2,7 @@
 package rpg.core;
 
 import rpg.combat.MeleeAttack;
-import rpg.events.GameEventManager; // <-- ¡Importa el manager!
+import rpg.events.CombatLog;
 import rpg.events.EventType;      // <-- ¡Importa los tipos de evento!
 
 public class Warrior extends Character {
@@ -25,9 +25,11 @@ public class Warrior extends Character {
         // (Como no tenemos maná, simplemente hace más daño)
         
         int damage = (int) (this.baseAttack * 1.5); // Daño x1.5
-        System.out.println(this.name + " usa [Carga Brutal] contra " + target.getName() + " por " + damage + " de daño!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " usa [Carga Brutal] contra " + target.getName() + " por " + damage + " de daño!");
+        }
         
-        target.receiveDamage(damage);
+        target.takeDamage(damage);
     }
 
     @Override
@@ -41,8 +43,11 @@ public class Warrior extends Character {
         // Rellena la vida y el maná al subir de nivel
         this.currentHp = this.maxHp;
         this.currentMana = this.maxMana;
-        GameEventManager.getInstance().notify(EventType.PLAYER_LEVELED_UP, this);
+        invalidateStats(); // Cambiaron los stats base
+        CombatLog.event(EventType.PLAYER_LEVELED_UP, this);
         
-        System.out.println(this.name + " ha subido al nivel " + this.level + "!");
+        if (CombatLog.isEnabled()) {
+            CombatLog.print(this.name + " ha subido al nivel " + this.level + "!");
+        }
     }
 }
\ No newline at end of file
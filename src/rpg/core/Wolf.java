@@ -1,9 +1,9 @@
 package rpg.core;
 
 import rpg.combat.MeleeAttack;
+import rpg.combat.DamageResult;
 import rpg.ai.AggressiveAI;
-import rpg.events.EventType;
-import rpg.events.GameEventManager;
+import rpg.events.CombatLog;
 import rpg.inventory.*;
 
 /**
@@ -44,9 +44,9 @@ public class Wolf extends Enemy {
     
     @Override
     public void specialAbility(Character target) {
-        String growlMessage = "[GRUÑIDO] " + this.name + " gruñe amenazadoramente...";
-        System.out.println(growlMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, growlMessage);
+        if (CombatLog.isEnabled()) {
+            CombatLog.message("[GRUÑIDO] " + this.name + " gruñe amenazadoramente...");
+        }
         
         int damage = (int) (this.baseAttack * 1.8);
         
@@ -55,18 +55,15 @@ public class Wolf extends Enemy {
         if (targetHpPercent < 0.50) {
             damage = (int) (damage * 1.5);
             String huntMessage = "[CAZADOR] ¡Instinto de cazador activado!";
-            System.out.println(huntMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, huntMessage);
+            CombatLog.message(huntMessage);
         }
         
         String biteMessage = ">>> ¡MORDIDA SALVAJE! <<<";
-        System.out.println(biteMessage);
-        GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, biteMessage);
+        CombatLog.message(biteMessage);
         
-        String damageMessage = target.receiveDamage(damage);
-        if (!damageMessage.isEmpty()) {
-            System.out.println(damageMessage);
-            GameEventManager.getInstance().notify(EventType.NEW_MESSAGE_LOGGED, damageMessage);
+        DamageResult result = target.takeDamage(damage);
+        if (CombatLog.isEnabled() && result.hasMessage()) {
+            CombatLog.message(result.describe());
         }
     }
 }
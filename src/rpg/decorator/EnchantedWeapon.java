@@ -1,7 +1,10 @@
 package rpg.decorator;
 
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 import rpg.inventory.Equippable;
+import rpg.inventory.StatModifiers;
 
 /**
  * Decorador que añade encantamiento mágico a un arma.
@@ -42,8 +45,8 @@ public class EnchantedWeapon extends EquipmentDecorator {
         character.addAttackBonus(bonusAttack);
         character.addMagicBonus(bonusMagic);
         
-        System.out.println("✨ Encantamiento [" + enchantmentName + "] aplicado! +" 
-            + bonusAttack + " ATK, +" + bonusMagic + " MAG");
+        GameLogger.info(Category.LOOT, "✨ Encantamiento [{}] aplicado! +{} ATK, +{} MAG",
+            enchantmentName, bonusAttack, bonusMagic);
     }
     
     @Override
@@ -55,7 +58,14 @@ public class EnchantedWeapon extends EquipmentDecorator {
         // Luego quita los stats del item base
         super.removeStats(character);
         
-        System.out.println("✨ Encantamiento [" + enchantmentName + "] removido.");
+        GameLogger.info(Category.LOOT, "✨ Encantamiento [{}] removido.", enchantmentName);
+    }
+    
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        if (!decoratedItem.contribute(builder)) return false;
+        builder.addAttack(bonusAttack).addMagic(bonusMagic);
+        return true;
     }
     
     public String getEnchantmentName() {
@@ -66,4 +76,12 @@ public class EnchantedWeapon extends EquipmentDecorator {
     public String getName() {
         return decoratedItem.getName() + " [" + enchantmentName + "]";
     }
+    
+    public int getBonusAttack() {
+        return this.bonusAttack;
+    }
+    
+    public int getBonusMagic() {
+        return this.bonusMagic;
+    }
 }
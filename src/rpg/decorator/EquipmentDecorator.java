@@ -3,6 +3,7 @@ package rpg.decorator;
 import rpg.core.Character;
 import rpg.inventory.Equippable;
 import rpg.inventory.Slot;
+import rpg.inventory.StatModifiers;
 
 /**
  * Decorador base para items equipables - Patrón Decorator (GoF).
@@ -16,6 +17,10 @@ import rpg.inventory.Slot;
  * Equippable espada = new Sword("Espada Larga", "Una espada común", 10);
  * espada = new EnchantedWeapon(espada, "Fuego", 5, 3); // +5 ATK, +3 MAG
  * 
+ * HORNEADO:
+ * bake() resume toda la cadena en un StatModifiers plano; Equipment lo usa
+ * para equipar en tiempo constante aunque haya muchos encantamientos.
+ * 
  * @see EnchantedWeapon
  * @see ReinforcedArmor
  */
@@ -23,6 +28,9 @@ public abstract class EquipmentDecorator implements Equippable {
     
     protected Equippable decoratedItem;
     
+    // Cadena ya horneada (la cadena no cambia una vez construida)
+    private transient StatModifiers baked;
+    
     public EquipmentDecorator(Equippable item) {
         this.decoratedItem = item;
     }
@@ -46,4 +54,24 @@ public abstract class EquipmentDecorator implements Equippable {
     public String getName() {
         return decoratedItem.getName();
     }
+    
+    /**
+     * @return El item envuelto (el siguiente eslabón de la cadena)
+     */
+    public Equippable getDecoratedItem() {
+        return decoratedItem;
+    }
+    
+    /**
+     * Hornea la cadena la primera vez y reutiliza el resultado.
+     * Un decorador que no implementa contribute() hace que bake() devuelva null
+     * (sus bonus solo los conoce applyStats()).
+     */
+    @Override
+    public StatModifiers bake() {
+        if (baked == null) {
+            baked = Equippable.super.bake();
+        }
+        return baked;
+    }
 }
@@ -1,7 +1,10 @@
 package rpg.decorator;
 
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 import rpg.inventory.Equippable;
+import rpg.inventory.StatModifiers;
 
 /**
  * Decorador que refuerza una armadura.
@@ -29,8 +32,8 @@ public class ReinforcedArmor extends EquipmentDecorator {
         character.addDefenseBonus(bonusDefense);
         character.addMaxHp(bonusHp);
         
-        System.out.println("🛡️ Refuerzo [" + reinforcementType + "] aplicado! +" 
-            + bonusDefense + " DEF, +" + bonusHp + " HP");
+        GameLogger.info(Category.LOOT, "🛡️ Refuerzo [{}] aplicado! +{} DEF, +{} HP",
+            reinforcementType, bonusDefense, bonusHp);
     }
     
     @Override
@@ -42,7 +45,14 @@ public class ReinforcedArmor extends EquipmentDecorator {
         // Luego quita los stats del item base
         super.removeStats(character);
         
-        System.out.println("🛡️ Refuerzo [" + reinforcementType + "] removido.");
+        GameLogger.info(Category.LOOT, "🛡️ Refuerzo [{}] removido.", reinforcementType);
+    }
+    
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        if (!decoratedItem.contribute(builder)) return false;
+        builder.addDefense(bonusDefense).addMaxHp(bonusHp);
+        return true;
     }
     
     public String getReinforcementType() {
@@ -53,4 +63,12 @@ public class ReinforcedArmor extends EquipmentDecorator {
     public String getName() {
         return decoratedItem.getName() + " [" + reinforcementType + "]";
     }
+    
+    public int getBonusDefense() {
+        return this.bonusDefense;
+    }
+    
+    public int getBonusHp() {
+        return this.bonusHp;
+    }
 }
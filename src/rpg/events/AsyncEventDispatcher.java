@@ -0,0 +1,422 @@
+package rpg.events;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import rpg.core.GameConstants;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+
+/**
+ * Despacho asíncrono de eventos: un buffer circular y un hilo despachador.
+ *
+ * PROPÓSITO:
+ * - En modo síncrono, GameEventManager.notify() ejecuta todos los listeners
+ *   (actualizar textos de Swing, construir Strings...) en el hilo del juego:
+ *   cada receiveDamage() paga el trabajo de la interfaz
+ * - En modo asíncrono, notify() solo deja el evento en un buffer circular
+ *   preasignado y vuelve; un hilo despachador lo entrega a los listeners
+ *
+ * ARQUITECTURA (tipo "disruptor"):
+ * Productores (cualquier hilo) → [ buffer circular de N casillas ] → despachador → listeners
+ * - Cada productor reserva una secuencia con compareAndSet y escribe su casilla;
+ *   la casilla se publica al anotar su secuencia en 'published'
+ * - El despachador lee las secuencias en orden: los eventos llegan en el
+ *   orden en que se reservaron
+ * - publish() no crea objetos (las casillas se reutilizan)
+ *
+ * ENTREGA:
+ * - Por defecto, en el propio hilo despachador
+ * - Con deliverOn(executor), el despachador agrupa lo pendiente en lotes y
+ *   los entrega con el executor, un lote a la vez y en orden
+ *   (ej. deliverOn(SwingUtilities::invokeLater): un solo Runnable por lote en el EDT)
+ *
+ * ESPERA DEL DESPACHADOR (WaitStrategy):
+ * - BUSY_SPIN: gira sin parar (latencia mínima, ocupa un núcleo entero:
+ *   solo con núcleos de sobra)
+ * - YIELDING: cede el procesador entre intentos
+ * - PARKING: duerme hasta que llega un evento (el más barato, por defecto)
+ *
+ * BUFFER LLENO (Backpressure):
+ * - BLOCK: el productor espera a que haya hueco, cediendo el procesador
+ *   (nunca se pierde nada)
+ * - DROP: el evento se descarta y se cuenta (getDroppedCount()); el juego
+ *   nunca espera a la interfaz
+ * Si un listener notifica desde el hilo despachador con el buffer lleno,
+ * ese evento se entrega en el acto (esperar sería un interbloqueo).
+ * Igual con BLOCK si el productor es el hilo de entrega (ej. el EDT con
+ * deliverOn(SwingUtilities::invokeLater)): el lote que liberaría hueco
+ * espera a ese mismo hilo. Se detecta con el hilo que ejecutó el último
+ * lote o, desde el principio, con deliverOn(executor, isDeliveryThread).
+ *
+ * PARADA:
+ * - close() cierra la puerta (los publish() nuevos devuelven false) y el
+ *   despachador sigue hasta que los productores que ya habían entrado
+ *   terminan de escribir su casilla; después entrega todo lo publicado
+ *
+ * USO:
+ * GameEventManager events = GameEventManager.getInstance();
+ * events.startAsync(AsyncEventDispatcher.builder()
+ *     .capacity(8192)
+ *     .backpressure(AsyncEventDispatcher.Backpressure.DROP)
+ *     .deliverOn(SwingUtilities::invokeLater, SwingUtilities::isEventDispatchThread));
+ * ...
+ * events.stopAsync(); // entrega lo pendiente y para el hilo
+ *
+ * @see GameEventManager#startAsync(Builder)
+ */
+public final class AsyncEventDispatcher {
+
+    public enum WaitStrategy { BUSY_SPIN, YIELDING, PARKING }
+
+    public enum Backpressure { BLOCK, DROP }
+
+    // Lo máximo que duerme el despachador con PARKING (por si se pierde un aviso)
+    private static final long PARK_NANOS = 1_000_000L;
+
+    private final GameEventManager target;
+    private final WaitStrategy waitStrategy;
+    private final Backpressure backpressure;
+    private final Executor deliveryExecutor; // null = entrega en el hilo despachador
+    private final BooleanSupplier isDeliveryThread; // null = solo se conoce al entregar
+    private volatile Thread deliveryThread;  // Hilo que ejecutó el último lote
+
+    // --- Buffer circular ---
+    private final int capacity;
+    private final int mask;
+    private final EventType[] types;
+    private final Object[] payloads;
+    private final AtomicLongArray published; // Secuencia publicada en cada casilla (-1 = ninguna)
+    private final AtomicLong next = new AtomicLong(); // Siguiente secuencia a reservar
+    private volatile long consumed;  // Siguiente secuencia que leerá el despachador
+    private volatile long delivered; // Eventos ya entregados a los listeners
+
+    // --- Lotes (solo con deliverOn) ---
+    private final Semaphore batchInFlight = new Semaphore(1);
+    private final EventType[] batchTypes;
+    private final Object[] batchPayloads;
+
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger producers = new AtomicInteger(); // Dentro de publish()
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean sleeping;
+
+    private AsyncEventDispatcher(GameEventManager target, Builder builder) {
+        this.target = target;
+        this.waitStrategy = builder.waitStrategy;
+        this.backpressure = builder.backpressure;
+        this.deliveryExecutor = builder.deliveryExecutor;
+        this.isDeliveryThread = builder.isDeliveryThread;
+        this.capacity = builder.capacity;
+        this.mask = capacity - 1;
+        this.types = new EventType[capacity];
+        this.payloads = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.batchTypes = deliveryExecutor == null ? null : new EventType[capacity];
+        this.batchPayloads = deliveryExecutor == null ? null : new Object[capacity];
+        this.thread = new Thread(this::run, "rpg-event-dispatcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Crea el despachador y arranca su hilo (lo llama GameEventManager.startAsync()).
+     */
+    static AsyncEventDispatcher start(GameEventManager target, Builder builder) {
+        AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(target, builder);
+        dispatcher.thread.start();
+        return dispatcher;
+    }
+
+    // --- Productores ---
+
+    /**
+     * Deja un evento en el buffer. No ejecuta ningún listener.
+     * @return false si el despachador ya está parado (el evento no se tomó);
+     *         un evento descartado por Backpressure.DROP cuenta como tomado
+     */
+    boolean publish(EventType type, Object data) {
+        // Se entra antes de mirar 'running': close() espera a los que ya entraron
+        producers.incrementAndGet();
+        try {
+            if (!running) {
+                return false;
+            }
+            long sequence;
+            while (true) {
+                sequence = next.get();
+                if (sequence - consumed >= capacity) {
+                    // Buffer lleno
+                    if (Thread.currentThread() == thread) {
+                        target.dispatch(type, data);
+                        return true;
+                    }
+                    if (backpressure == Backpressure.DROP) {
+                        dropped.increment();
+                        if (data instanceof GameEvent) {
+                            ((GameEvent) data).recycle(); // Nadie lo entregará: vuelve al pool aquí
+                        }
+                        return true;
+                    }
+                    if (onDeliveryThread()) {
+                        target.dispatch(type, data); // Esperar aquí bloquearía el lote pendiente
+                        return true;
+                    }
+                    Thread.yield(); // Cede el procesador al despachador (con cualquier WaitStrategy)
+                    continue;
+                }
+                if (next.compareAndSet(sequence, sequence + 1)) {
+                    break;
+                }
+            }
+
+            int slot = (int) sequence & mask;
+            types[slot] = type;
+            payloads[slot] = data;
+            published.set(slot, sequence); // Escritura volátil: publica la casilla
+        } finally {
+            producers.decrementAndGet();
+        }
+
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    // ¿El hilo actual es el que ejecuta los lotes del executor de entrega?
+    private boolean onDeliveryThread() {
+        if (deliveryExecutor == null) {
+            return false;
+        }
+        if (isDeliveryThread != null) {
+            return isDeliveryThread.getAsBoolean();
+        }
+        return Thread.currentThread() == deliveryThread;
+    }
+
+    /**
+     * Espera a que todos los eventos publicados hasta ahora se hayan entregado.
+     * No llamar desde un listener ni desde el hilo del executor de entrega.
+     */
+    public void flush() {
+        long target = next.get();
+        while (delivered < target && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Cierra la puerta a publish(), espera a los productores que ya habían
+     * entrado, entrega lo pendiente y para el hilo despachador.
+     */
+    void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive() && Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Eventos en el buffer que el despachador aún no ha leído
+     */
+    public int getPendingCount() {
+        return (int) Math.max(0, next.get() - consumed);
+    }
+
+    /**
+     * @return Eventos descartados por Backpressure.DROP
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // --- Despachador ---
+
+    private void run() {
+        long sequence = consumed;
+        // Tras close(), sigue hasta que no queda ningún productor dentro ni casilla por leer
+        while (running || producers.get() > 0 || sequence < next.get()) {
+            // Tramo contiguo de casillas ya publicadas
+            long end = sequence;
+            long limit = sequence + capacity;
+            while (end < limit && published.get((int) end & mask) == end) {
+                end++;
+            }
+            if (end == sequence) {
+                waitForEvents(sequence);
+                continue;
+            }
+            if (deliveryExecutor == null) {
+                deliverInPlace(sequence, end);
+            } else {
+                deliverBatch(sequence, end);
+            }
+            sequence = end;
+        }
+        // Espera al último lote
+        batchInFlight.acquireUninterruptibly();
+        batchInFlight.release();
+    }
+
+    private void deliverInPlace(long from, long to) {
+        for (long s = from; s < to; s++) {
+            int slot = (int) s & mask;
+            EventType type = types[slot];
+            Object data = payloads[slot];
+            payloads[slot] = null;
+            consumed = s + 1; // Libera la casilla antes de entregar
+            deliver(type, data);
+            delivered = s + 1;
+        }
+    }
+
+    // Copia el tramo a un lote y lo entrega con el executor (un lote a la vez)
+    private void deliverBatch(long from, long to) {
+        batchInFlight.acquireUninterruptibly(); // El lote anterior ya terminó: se pueden reutilizar los arreglos
+        int count = (int) (to - from);
+        EventType[] batchT = batchTypes;
+        Object[] batchP = batchPayloads;
+        for (int i = 0; i < count; i++) {
+            int slot = (int) (from + i) & mask;
+            batchT[i] = types[slot];
+            batchP[i] = payloads[slot];
+            payloads[slot] = null;
+        }
+        consumed = to;
+
+        Runnable batch = () -> {
+            deliveryThread = Thread.currentThread();
+            try {
+                for (int i = 0; i < count; i++) {
+                    deliver(batchT[i], batchP[i]);
+                    batchP[i] = null;
+                }
+            } finally {
+                delivered = to;
+                batchInFlight.release();
+            }
+        };
+        try {
+            deliveryExecutor.execute(batch);
+        } catch (RuntimeException e) {
+            batch.run(); // Executor rechazado (ej. cerrándose): se entrega aquí
+        }
+    }
+
+    private void deliver(EventType type, Object data) {
+        try {
+            target.dispatch(type, data);
+        } catch (RuntimeException e) {
+            // Un listener roto no puede parar el despachador
+            GameLogger.error(Category.GENERAL, "Error en un listener de {}: {}", type, e.getMessage(), e);
+        }
+    }
+
+    private void waitForEvents(long sequence) {
+        if (waitStrategy != WaitStrategy.PARKING) {
+            idle();
+            return;
+        }
+        sleeping = true;
+        // Se vuelve a mirar después de avisar: un publish() concurrente verá 'sleeping'
+        if (running && published.get((int) sequence & mask) != sequence) {
+            LockSupport.parkNanos(this, PARK_NANOS);
+        }
+        sleeping = false;
+    }
+
+    private void idle() {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                break;
+            case YIELDING:
+                Thread.yield();
+                break;
+            default:
+                LockSupport.parkNanos(this, 50_000L);
+                break;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Configuración del despachador (ver GameEventManager.startAsync()).
+     */
+    public static final class Builder {
+        private int capacity = GameConstants.ASYNC_EVENT_BUFFER_SIZE;
+        private WaitStrategy waitStrategy = WaitStrategy.PARKING;
+        private Backpressure backpressure = Backpressure.BLOCK;
+        private Executor deliveryExecutor;
+        private BooleanSupplier isDeliveryThread;
+
+        private Builder() {
+        }
+
+        /**
+         * @param capacity Casillas del buffer (se redondea a la siguiente potencia de 2)
+         */
+        public Builder capacity(int capacity) {
+            if (capacity < 1 || capacity > (1 << 30)) {
+                throw new IllegalArgumentException("Capacidad fuera de rango: " + capacity);
+            }
+            this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        public Builder backpressure(Backpressure backpressure) {
+            this.backpressure = backpressure;
+            return this;
+        }
+
+        /**
+         * Entrega los eventos por lotes con este executor (null = en el hilo despachador).
+         */
+        public Builder deliverOn(Executor executor) {
+            return deliverOn(executor, null);
+        }
+
+        /**
+         * Como deliverOn(executor), diciendo cómo reconocer su hilo: un productor
+         * en ese hilo con el buffer lleno entrega en el acto en vez de esperar.
+         * @param isDeliveryThread true si el hilo actual es el del executor
+         *        (null = se reconoce por el hilo que ejecutó el último lote)
+         */
+        public Builder deliverOn(Executor executor, BooleanSupplier isDeliveryThread) {
+            this.deliveryExecutor = executor;
+            this.isDeliveryThread = executor == null ? null : isDeliveryThread;
+            return this;
+        }
+    }
+}
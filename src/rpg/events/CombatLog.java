@@ -0,0 +1,142 @@
+package rpg.events;
+
+import rpg.core.Character;
+import rpg.core.GameContext;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+import rpg.logging.Level;
+
+/**
+ * Punto único de salida para los mensajes y eventos del combate.
+ *
+ * PROPÓSITO:
+ * - Centraliza la salida de texto (GameLogger, categoría COMBAT) y los
+ *   GameEventManager.notify del combate
+ * - Los eventos van al GameEventManager de la sesión activa (GameContext.current())
+ * - Permite silenciar por completo la salida en un hilo (modo headless)
+ * - El simulador de batallas lo usa para no tocar consola, GUI ni eventos
+ *
+ * USO:
+ * CombatLog.message(enemy.getName() + " ataca!");       // consola + NEW_MESSAGE_LOGGED
+ * CombatLog.print("Detalle solo para la consola");      // solo consola (GameLogger)
+ * CombatLog.event(EventType.PLAYER_HP_CHANGED, player); // solo evento
+ *
+ * MENSAJES CON PLANTILLA (MessageTemplate, ver GameEvent):
+ * CombatLog.message(MessageTemplate.DRAGON_REGEN, this, null, healed); // consola + evento
+ * CombatLog.report(MessageTemplate.ENEMY_ATTACK, enemy, target, damage); // solo evento
+ * CombatLog.stateChanged(EventType.PLAYER_HP_CHANGED, this, currentHp);
+ * El texto se construye solo si se imprime o si un listener lo pide: sin
+ * listeners, report() y stateChanged() no crean ningún objeto.
+ *
+ * MODO SILENCIOSO:
+ * boolean previous = CombatLog.setSilent(true);
+ * try { ... } finally { CombatLog.setSilent(previous); }
+ *
+ * El modo silencioso es por hilo: la GUI sigue recibiendo eventos aunque
+ * el simulador esté corriendo en otros hilos al mismo tiempo.
+ *
+ * @see GameEventManager
+ */
+public final class CombatLog {
+
+    // Cada hilo tiene su propio interruptor (por defecto: no silencioso)
+    private static final ThreadLocal<Boolean> SILENT = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private CombatLog() {
+        throw new AssertionError("Esta clase no debe ser instanciada");
+    }
+
+    /**
+     * @return true si este hilo debe producir mensajes y eventos.
+     */
+    public static boolean isEnabled() {
+        return !SILENT.get();
+    }
+
+    /**
+     * Activa o desactiva el modo silencioso para el hilo actual.
+     * @return El valor anterior, para poder restaurarlo.
+     */
+    public static boolean setSilent(boolean silent) {
+        boolean previous = SILENT.get();
+        SILENT.set(silent);
+        return previous;
+    }
+
+    /**
+     * Escribe un mensaje solo en la consola.
+     */
+    public static void print(String message) {
+        if (isEnabled()) {
+            GameLogger.info(Category.COMBAT, message);
+        }
+    }
+
+    /**
+     * Escribe un mensaje en la consola y lo envía al log de la GUI.
+     */
+    public static void message(String message) {
+        if (isEnabled()) {
+            GameLogger.info(Category.COMBAT, message);
+            GameContext.current().getEvents().notify(EventType.NEW_MESSAGE_LOGGED, message);
+        }
+    }
+
+    /**
+     * Escribe un mensaje con plantilla solo en la consola.
+     */
+    public static void print(MessageTemplate template, Character source, Character target, int amount) {
+        if (isEnabled()) {
+            GameLogger.log(Level.INFO, Category.COMBAT, template, source, target, amount);
+        }
+    }
+
+    /**
+     * Escribe un mensaje con plantilla en la consola y lo envía al log de la
+     * GUI como GameEvent (el texto se construye una sola vez).
+     */
+    public static void message(MessageTemplate template, Character source, Character target, int amount) {
+        if (!isEnabled()) {
+            return;
+        }
+        GameEventManager events = GameContext.current().getEvents();
+        if (!events.hasListeners(EventType.NEW_MESSAGE_LOGGED)) {
+            GameLogger.log(Level.INFO, Category.COMBAT, template, source, target, amount);
+            return;
+        }
+        GameEvent event = GameEvent.obtain(EventType.NEW_MESSAGE_LOGGED, template, source, target, amount);
+        if (GameLogger.isEnabled(Category.COMBAT, Level.INFO)) {
+            GameLogger.info(Category.COMBAT, event.render()); // Queda en caché para los listeners
+        }
+        events.publish(event);
+    }
+
+    /**
+     * Envía un mensaje con plantilla solo al log de la GUI. Sin listeners
+     * de NEW_MESSAGE_LOGGED no construye nada.
+     */
+    public static void report(MessageTemplate template, Character source, Character target, int amount) {
+        if (isEnabled()) {
+            GameContext.current().getEvents().publish(EventType.NEW_MESSAGE_LOGGED, template, source, target, amount);
+        }
+    }
+
+    /**
+     * Avisa de un cambio de estado (ej. PLAYER_HP_CHANGED) con el valor nuevo.
+     * Los GameEventListener clásicos reciben 'source', como con event().
+     */
+    public static void stateChanged(EventType type, Character source, int value) {
+        if (isEnabled()) {
+            GameContext.current().getEvents().publish(type, null, source, null, value);
+        }
+    }
+
+    /**
+     * Dispara un evento del juego (si el hilo no está en modo silencioso).
+     */
+    public static void event(EventType type, Object data) {
+        if (isEnabled()) {
+            GameContext.current().getEvents().notify(type, data);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package rpg.events;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa por "frame" los eventos de cambio de estado - Patrón Decorator (GoF)
+ * sobre un GameEventListener.
+ *
+ * PROPÓSITO:
+ * - PLAYER_HP_CHANGED y PLAYER_MANA_CHANGED se disparan en cada golpe,
+ *   curación y consumo de maná; un panel que rehace todo su texto en cada
+ *   uno trabaja cinco veces si llegan cinco en el mismo milisegundo
+ * - El coalescedor retiene los eventos de estado (EventType.isStateChange())
+ *   durante un frame (ej. GameConstants.UI_FRAME_MILLIS) y entrega solo el
+ *   último de cada (tipo, origen)
+ * - Los demás eventos (mensajes, subidas de nivel, ...) pasan en el acto y
+ *   en orden, sin retener nada
+ *
+ * USO (en un panel):
+ * GameEventListener coalesced = new EventCoalescer(this, GameConstants.UI_FRAME_MILLIS,
+ *     SwingUtilities::invokeLater);
+ * events.subscribe(EventType.PLAYER_HP_CHANGED, coalesced);
+ * // onGameEvent() del panel: como mucho una vez por frame y en el EDT
+ *
+ * ORIGEN: el objeto del evento (ej. el Character cuyo HP cambió), por identidad.
+ *
+ * THREAD-SAFE: los eventos pueden llegar desde cualquier hilo.
+ */
+public class EventCoalescer implements GameEventListener {
+
+    // Un solo temporizador para todos los coalescedores (hilo daemon)
+    private static final ScheduledExecutorService FRAME_TIMER =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rpg-event-frames");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final GameEventListener delegate;
+    private final long frameMillis;
+    private final Executor deliveryExecutor;
+
+    // Último evento de cada (tipo, origen) en el frame actual (protegido por 'this')
+    private final Map<EventType, Map<Object, Object>> pending = new EnumMap<>(EventType.class);
+    private boolean frameScheduled;
+
+    /**
+     * @param delegate El listener real
+     * @param frameMillis Duración del frame
+     * @param deliveryExecutor Dónde se entregan los eventos agrupados
+     *        (ej. SwingUtilities::invokeLater para el EDT)
+     */
+    public EventCoalescer(GameEventListener delegate, long frameMillis, Executor deliveryExecutor) {
+        if (frameMillis < 1) {
+            throw new IllegalArgumentException("El frame debe durar al menos 1 ms: " + frameMillis);
+        }
+        this.delegate = delegate;
+        this.frameMillis = frameMillis;
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    @Override
+    public void onGameEvent(EventType type, Object data) {
+        if (!type.isStateChange()) {
+            delegate.onGameEvent(type, data); // Sin retener: se conserva el orden
+            return;
+        }
+        synchronized (this) {
+            pending.computeIfAbsent(type, t -> new IdentityHashMap<>()).put(data, data);
+            if (frameScheduled) {
+                return;
+            }
+            frameScheduled = true;
+        }
+        FRAME_TIMER.schedule(() -> deliveryExecutor.execute(this::flush), frameMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Entrega ya lo retenido (lo llama el temporizador al acabar el frame).
+     */
+    public void flush() {
+        List<EventType> types = new ArrayList<>();
+        List<Object> data = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<EventType, Map<Object, Object>> entry : pending.entrySet()) {
+                for (Object latest : entry.getValue().values()) {
+                    types.add(entry.getKey());
+                    data.add(latest);
+                }
+                entry.getValue().clear();
+            }
+            frameScheduled = false;
+        }
+        for (int i = 0; i < types.size(); i++) {
+            delegate.onGameEvent(types.get(i), data.get(i));
+        }
+    }
+
+    public GameEventListener getDelegate() {
+        return delegate;
+    }
+}
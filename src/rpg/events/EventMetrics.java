@@ -0,0 +1,334 @@
+package rpg.events;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import rpg.core.GameConstants;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+
+/**
+ * Métricas del bus de eventos: cuántos eventos de cada tipo se entregan y
+ * cuánto tarda cada listener.
+ *
+ * PROPÓSITO:
+ * - Saber qué suscriptor hace que una batalla se sienta lenta
+ * - Cada llamada a un listener se cronometra y va a su histograma de latencia
+ * - Un listener que supera el presupuesto (ej. GameConstants.EVENT_LISTENER_BUDGET_MICROS)
+ *   queda marcado como lento y se avisa una vez por GameLogger
+ * - Las estadísticas no retienen al listener (claves débiles, por identidad):
+ *   un panel desuscrito o recogido (o su WeakListener) desaparece del resumen
+ *
+ * USO:
+ * EventMetrics metrics = new EventMetrics();
+ * events.setMetrics(metrics);
+ * metrics.startReporting(10, System.out::println); // resumen cada 10 s
+ * ...
+ * metrics.getSlowListeners();  // o metrics.getSummary()
+ * events.setMetrics(null);     // sin métricas
+ *
+ * COSTE:
+ * - Desactivadas (por defecto), GameEventManager solo lee un campo volátil
+ *   por evento
+ * - Activadas: dos System.nanoTime() por listener y contadores LongAdder /
+ *   AtomicLongArray, sin locks ni objetos nuevos (salvo el primer evento de
+ *   cada listener)
+ *
+ * HISTOGRAMA: cubetas por potencia de 2 de nanosegundos (1, 2, 4, ... ns):
+ * los percentiles son aproximados (el límite superior de la cubeta).
+ *
+ * THREAD-SAFE: los eventos pueden entregarse desde cualquier hilo.
+ *
+ * @see GameEventManager#setMetrics(EventMetrics)
+ */
+public class EventMetrics {
+
+    // Un solo hilo para los resúmenes periódicos de todas las métricas (daemon)
+    private static final ScheduledExecutorService REPORTER =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rpg-event-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private final long budgetNanos;
+    private final LongAdder[] events = new LongAdder[EventType.values().length];
+    private final Map<ListenerKey, ListenerStats> listeners = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    // Clave de búsqueda reutilizable por hilo (buscar no crea objetos)
+    private static final ThreadLocal<Probe> PROBE = ThreadLocal.withInitial(Probe::new);
+
+    // Para las tasas del resumen (protegido por 'this')
+    private final long[] lastCounts = new long[EventType.values().length];
+    private long lastSummaryNanos = System.nanoTime();
+    private ScheduledFuture<?> reporting;
+
+    public EventMetrics() {
+        this(GameConstants.EVENT_LISTENER_BUDGET_MICROS);
+    }
+
+    /**
+     * @param budgetMicros Tiempo máximo por llamada a un listener
+     */
+    public EventMetrics(long budgetMicros) {
+        if (budgetMicros < 1) {
+            throw new IllegalArgumentException("El presupuesto debe ser de al menos 1 µs: " + budgetMicros);
+        }
+        this.budgetNanos = TimeUnit.MICROSECONDS.toNanos(budgetMicros);
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new LongAdder();
+        }
+    }
+
+    // --- Registro (lo llama GameEventManager.dispatch()) ---
+
+    void recordEvent(EventType type) {
+        events[type.ordinal()].increment();
+    }
+
+    void recordListener(Object listener, long nanos) {
+        Probe probe = PROBE.get();
+        probe.listener = listener;
+        ListenerStats stats = listeners.get(probe);
+        probe.listener = null;
+        if (stats == null) {
+            expungeCollected();
+            stats = listeners.computeIfAbsent(new ListenerKey(listener, collected),
+                key -> new ListenerStats(describe(listener)));
+        }
+        if (stats.record(nanos, budgetNanos)) {
+            GameLogger.warn(Category.GENERAL, "[EVENTOS] Listener lento: {} tardó {} µs (presupuesto {} µs)",
+                stats.name, TimeUnit.NANOSECONDS.toMicros(nanos), TimeUnit.NANOSECONDS.toMicros(budgetNanos));
+        }
+    }
+
+    // Quita las estadísticas de los listeners ya recogidos
+    private void expungeCollected() {
+        Reference<?> key;
+        while ((key = collected.poll()) != null) {
+            listeners.remove(key);
+        }
+    }
+
+    // Nombre legible: la clase del listener (la del panel real si va por un EventCoalescer)
+    private static String describe(Object listener) {
+        if (listener instanceof WeakListener) {
+            Object referent = ((WeakListener) listener).get();
+            return referent == null ? "(recogido)" : describe(referent);
+        }
+        if (listener instanceof EventCoalescer) {
+            return describe(((EventCoalescer) listener).getDelegate()) + " (agrupado)";
+        }
+        String name = listener.getClass().getName();
+        int lambda = name.indexOf("$$Lambda");
+        if (lambda >= 0) {
+            // Lambda: la clase donde se escribió
+            return name.substring(name.lastIndexOf('.', lambda) + 1, lambda) + " (lambda)";
+        }
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    // --- Consulta ---
+
+    /**
+     * @return Eventos de ese tipo entregados desde que se activaron las métricas
+     */
+    public long getEventCount(EventType type) {
+        return events[type.ordinal()].sum();
+    }
+
+    public long getBudgetMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(budgetNanos);
+    }
+
+    /**
+     * @return Las estadísticas de cada listener, del que más tiempo consumió al que menos
+     */
+    public List<ListenerStats> getListenerStats() {
+        expungeCollected();
+        List<ListenerStats> result = new ArrayList<>(listeners.values());
+        result.sort(Comparator.comparingLong(ListenerStats::getTotalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * @return Los listeners que alguna vez superaron el presupuesto
+     */
+    public List<ListenerStats> getSlowListeners() {
+        List<ListenerStats> result = new ArrayList<>();
+        for (ListenerStats stats : getListenerStats()) {
+            if (stats.getSlowCalls() > 0) {
+                result.add(stats);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Resumen legible: eventos por tipo (con su tasa desde el resumen
+     * anterior) y latencia de cada listener.
+     */
+    public synchronized String getSummary() {
+        long now = System.nanoTime();
+        double seconds = Math.max(1e-9, (now - lastSummaryNanos) / 1e9);
+        StringBuilder sb = new StringBuilder("=== BUS DE EVENTOS ===");
+        for (EventType type : EventType.values()) {
+            long count = getEventCount(type);
+            long delta = count - lastCounts[type.ordinal()];
+            lastCounts[type.ordinal()] = count;
+            if (count > 0) {
+                sb.append(String.format("%n  %-20s %10d eventos  %10.1f/s", type, count, delta / seconds));
+            }
+        }
+        lastSummaryNanos = now;
+        for (ListenerStats stats : getListenerStats()) {
+            sb.append("\n  ").append(stats);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Escribe getSummary() cada 'periodSeconds' (en un hilo daemon).
+     */
+    public synchronized void startReporting(long periodSeconds, Consumer<String> out) {
+        stopReporting();
+        reporting = REPORTER.scheduleAtFixedRate(() -> out.accept(getSummary()),
+            periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopReporting() {
+        if (reporting != null) {
+            reporting.cancel(false);
+            reporting = null;
+        }
+    }
+
+    // Clave débil por identidad: no retiene al listener (ni a su WeakListener)
+    private static final class ListenerKey extends WeakReference<Object> {
+        private final int hash;
+
+        ListenerKey(Object listener, ReferenceQueue<Object> queue) {
+            super(listener, queue);
+            this.hash = System.identityHashCode(listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            Object listener = get();
+            return listener != null && other instanceof ListenerKey && ((ListenerKey) other).get() == listener;
+        }
+    }
+
+    // Clave para buscar sin crear una ListenerKey (ConcurrentHashMap compara con probe.equals(clave))
+    private static final class Probe {
+        private Object listener;
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(listener);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ListenerKey && ((ListenerKey) other).get() == listener;
+        }
+    }
+
+    /**
+     * Latencia de un listener.
+     */
+    public static final class ListenerStats {
+        private static final int BUCKETS = 64;
+
+        private final String name;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS); // [log2(ns)]
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicBoolean flagged = new AtomicBoolean();
+
+        private ListenerStats(String name) {
+            this.name = name;
+        }
+
+        // @return true la primera vez que supera el presupuesto
+        private boolean record(long nanos, long budgetNanos) {
+            buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(Math.max(1, nanos)));
+            calls.increment();
+            totalNanos.add(nanos);
+            if (nanos > maxNanos.get()) {
+                maxNanos.accumulateAndGet(nanos, Math::max);
+            }
+            if (nanos <= budgetNanos) {
+                return false;
+            }
+            slowCalls.increment();
+            return !flagged.get() && flagged.compareAndSet(false, true);
+        }
+
+        public String getName() { return name; }
+        public long getCalls() { return calls.sum(); }
+        public long getTotalNanos() { return totalNanos.sum(); }
+        public long getSlowCalls() { return slowCalls.sum(); }
+        public long getMaxMicros() { return TimeUnit.NANOSECONDS.toMicros(maxNanos.get()); }
+
+        public double getMeanMicros() {
+            long count = getCalls();
+            return count == 0 ? 0.0 : getTotalNanos() / 1000.0 / count;
+        }
+
+        /**
+         * @param fraction Percentil entre 0.0 y 1.0 (ej. 0.99)
+         * @return Límite superior aproximado, en microsegundos
+         */
+        public double getPercentileMicros(double fraction) {
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                count += counts[i];
+            }
+            if (count == 0) return 0.0;
+            long rank = Math.max(1, (long) Math.ceil(Math.max(0.0, Math.min(1.0, fraction)) * count));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min((double) maxNanos.get(), Math.pow(2, i + 1)) / 1000.0;
+                }
+            }
+            return getMaxMicros();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %8d llamadas  media=%.1fµs p50=%.1fµs p99=%.1fµs max=%dµs%s",
+                name, getCalls(), getMeanMicros(), getPercentileMicros(0.5), getPercentileMicros(0.99),
+                getMaxMicros(), getSlowCalls() > 0 ? "  LENTO x" + getSlowCalls() : "");
+        }
+    }
+}
@@ -2,13 +2,32 @@ package rpg.events;
 
 /**
  * Define los tipos de eventos que el GameEventManager puede disparar.
+ * 
+ * Los de cambio de estado (isStateChange()) solo avisan de que algo cambió:
+ * basta con entregar el último de cada frame (ver EventCoalescer). El resto
+ * son sucesos que hay que entregar todos y en orden.
  */
 public enum EventType {
-    PLAYER_HP_CHANGED,  // La vida del jugador cambió
-    PLAYER_MANA_CHANGED, // El maná del jugador cambió
-    PLAYER_LEVELED_UP,  // El jugador subió de nivel
-    PLAYER_DIED,        // El jugador ha muerto (HP <= 0)
-    ENEMY_DEFEATED,     // Un enemigo fue derrotado
-    QUEST_COMPLETED,    // Una misión fue completada
-    NEW_MESSAGE_LOGGED  // Un nuevo mensaje para la consola
-}
\ No newline at end of file
+    PLAYER_HP_CHANGED(true),   // La vida del jugador cambió
+    PLAYER_MANA_CHANGED(true), // El maná del jugador cambió
+    PLAYER_GOLD_CHANGED(true), // El oro del jugador cambió
+    PLAYER_XP_CHANGED(true),   // La experiencia del jugador cambió
+    PLAYER_LEVELED_UP(false),  // El jugador subió de nivel
+    PLAYER_DIED(false),        // El jugador ha muerto (HP <= 0)
+    ENEMY_DEFEATED(false),     // Un enemigo fue derrotado
+    QUEST_COMPLETED(false),    // Una misión fue completada
+    NEW_MESSAGE_LOGGED(false); // Un nuevo mensaje para la consola
+    
+    private final boolean stateChange;
+    
+    EventType(boolean stateChange) {
+        this.stateChange = stateChange;
+    }
+    
+    /**
+     * @return true si el evento solo indica "este estado cambió" y se puede agrupar
+     */
+    public boolean isStateChange() {
+        return stateChange;
+    }
+}
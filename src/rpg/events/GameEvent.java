@@ -0,0 +1,207 @@
+package rpg.events;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import rpg.core.Character;
+
+/**
+ * Evento tipado y reutilizable para los TypedEventListener.
+ *
+ * PROPÓSITO:
+ * - onGameEvent(EventType, Object) obliga a cada listener a adivinar y
+ *   convertir el Object; y los productores construían el texto de cada
+ *   NEW_MESSAGE_LOGGED aunque nadie lo fuera a leer
+ * - GameEvent lleva campos con tipo: el tipo de evento, la plantilla del
+ *   mensaje (MessageTemplate), el origen, el objetivo y una cantidad
+ * - El texto se construye solo al llamar a render(), una vez por evento
+ *
+ * REUTILIZACIÓN (Patrón Object Pool):
+ * - Cada hilo guarda unos pocos eventos libres; publicar toma uno y, al
+ *   terminar la entrega, GameEventManager lo devuelve
+ * - Un evento solo es válido DENTRO de onEvent(): quien quiera guardarlo
+ *   debe usar copy() (o quedarse con render())
+ * - En modo asíncrono el evento viaja por el buffer y lo devuelve el hilo
+ *   que lo entrega: como ese hilo casi nunca publica, su pool se llena y
+ *   lo que sobra va a una lista compartida sin bloqueos, de donde el
+ *   productor recoge de golpe (getAndSet) cuando su pool se vacía
+ * - Un evento descartado (Backpressure.DROP) se devuelve en el productor
+ *
+ * CANTIDAD (getAmount()):
+ * - Mensajes: la de la plantilla (daño, curación, oro...)
+ * - PLAYER_HP_CHANGED / PLAYER_MANA_CHANGED: el HP / maná actual del origen
+ * - PLAYER_GOLD_CHANGED / PLAYER_XP_CHANGED: el oro / la XP actual del origen
+ *
+ * @see TypedEventListener
+ * @see GameEventManager#publish(EventType, MessageTemplate, Character, Character, int)
+ */
+public final class GameEvent {
+
+    // Eventos libres por hilo (los que sobran se dejan al recolector)
+    private static final int POOL_SIZE = 32;
+
+    // Eventos libres en la lista compartida (aproximado: los que sobran se dejan al recolector)
+    private static final int SHARED_SIZE = 256;
+
+    private static final ThreadLocal<Pool> POOL = ThreadLocal.withInitial(Pool::new);
+
+    // Lista compartida (pila de Treiber): se apila con compareAndSet y solo se
+    // vacía entera con getAndSet, así que reutilizar los eventos no causa ABA
+    private static final AtomicReference<GameEvent> SHARED = new AtomicReference<>();
+    private static final AtomicInteger SHARED_COUNT = new AtomicInteger();
+
+    private static final class Pool {
+        final GameEvent[] free = new GameEvent[POOL_SIZE];
+        int size;
+        GameEvent taken; // Lo recogido de la lista compartida, aún sin usar
+    }
+
+    private EventType type;
+    private MessageTemplate template;
+    private Character source;
+    private Character target;
+    private int amount;
+    private Object data;  // Dato de notify(type, data), o null
+    private String text;  // Texto ya construido (caché de render())
+    private boolean pooled;
+    private GameEvent next; // Siguiente en la lista compartida
+
+    private GameEvent() {
+    }
+
+    /**
+     * Toma un evento libre del pool del hilo y lo rellena.
+     */
+    static GameEvent obtain(EventType type, MessageTemplate template,
+                            Character source, Character target, int amount) {
+        Pool pool = POOL.get();
+        GameEvent event = pool.size > 0 ? pool.free[--pool.size] : takeShared(pool);
+        event.pooled = true;
+        event.type = type;
+        event.template = template;
+        event.source = source;
+        event.target = target;
+        event.amount = amount;
+        return event;
+    }
+
+    // Con el pool del hilo vacío: recoge la lista compartida entera (o crea uno nuevo)
+    private static GameEvent takeShared(Pool pool) {
+        GameEvent event = pool.taken;
+        if (event == null && SHARED.get() != null) {
+            event = SHARED.getAndSet(null);
+        }
+        if (event == null) {
+            return new GameEvent();
+        }
+        pool.taken = event.next;
+        event.next = null;
+        SHARED_COUNT.decrementAndGet(); // Cuenta hasta que se usa: acota también lo recogido
+        return event;
+    }
+
+    /**
+     * Evento para un notify(type, data) clásico (ej. para los TypedEventListener).
+     */
+    static GameEvent wrap(EventType type, Object data) {
+        GameEvent event = obtain(type, null, data instanceof Character ? (Character) data : null, null, 0);
+        event.data = data;
+        if (data instanceof String) {
+            event.text = (String) data;
+        }
+        return event;
+    }
+
+    /**
+     * Devuelve el evento al pool del hilo actual o, si está lleno, a la
+     * lista compartida (lo llama GameEventManager tras entregarlo).
+     */
+    void recycle() {
+        if (!pooled) {
+            return;
+        }
+        pooled = false;
+        source = null;
+        target = null;
+        data = null;
+        text = null;
+        template = null;
+        Pool pool = POOL.get();
+        if (pool.size < POOL_SIZE) {
+            pool.free[pool.size++] = this;
+        } else if (SHARED_COUNT.incrementAndGet() <= SHARED_SIZE) {
+            GameEvent head;
+            do {
+                head = SHARED.get();
+                next = head;
+            } while (!SHARED.compareAndSet(head, this));
+        } else {
+            SHARED_COUNT.decrementAndGet();
+        }
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * @return La plantilla del mensaje, o null si el evento no es un mensaje
+     */
+    public MessageTemplate getTemplate() {
+        return template;
+    }
+
+    public Character getSource() {
+        return source;
+    }
+
+    public Character getTarget() {
+        return target;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    /**
+     * @return El texto del mensaje (se construye la primera vez), o null
+     *         si el evento no es un mensaje
+     */
+    public String render() {
+        if (text == null && template != null) {
+            text = template.render(source, target, amount);
+        }
+        return text;
+    }
+
+    /**
+     * @return Lo que recibe un GameEventListener clásico: el dato original,
+     *         el texto del mensaje o el origen (ej. el Character cuyo HP cambió)
+     */
+    public Object getData() {
+        if (data != null) {
+            return data;
+        }
+        return template != null ? render() : source;
+    }
+
+    /**
+     * @return Una copia fuera del pool, válida después de onEvent()
+     */
+    public GameEvent copy() {
+        GameEvent copy = new GameEvent();
+        copy.type = type;
+        copy.template = template;
+        copy.source = source;
+        copy.target = target;
+        copy.amount = amount;
+        copy.data = data;
+        copy.text = text;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        String message = render();
+        return type + (message != null ? ": " + message : source != null ? " [" + source.getName() + "] " + amount : "");
+    }
+}
@@ -1,9 +1,12 @@
 package rpg.events;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import rpg.core.Character;
 
 /**
  * Gestor central de eventos - Patrones Observer + Singleton (GoF).
@@ -21,9 +24,62 @@ import java.util.Map;
  * 2. Backend notifica: GameEventManager.getInstance().notify(EventType.PLAYER_HP_CHANGED, player)
  * 3. GUI actualiza: guiPanel.onGameEvent() recibe la notificación
  * 
+ * UNA INSTANCIA POR SESIÓN:
+ * - Cada rpg.core.GameContext tiene su propio GameEventManager
+ * - getInstance() es el de la sesión por defecto (la de la GUI y GameFacade)
+ * - El modelo notifica a través de CombatLog, que usa el de la sesión activa
+ * 
+ * THREAD-SAFE (sin locks):
+ * - Los listeners de cada tipo son un arreglo inmutable (copy-on-write):
+ *   subscribe()/unsubscribe() crean uno nuevo y lo publican con un
+ *   compareAndSet; nunca se modifica un arreglo ya publicado
+ * - notify() lee el arreglo actual una vez y lo recorre: no bloquea, no crea
+ *   objetos y no puede lanzar ConcurrentModificationException aunque un panel
+ *   se suscriba desde otro hilo a mitad de la notificación
+ * - Un listener añadido durante un notify() recibe a partir del siguiente evento
+ * - Pensado para muchas notificaciones y pocas suscripciones (las de la GUI)
+ * 
+ * EVENTOS TIPADOS (TypedEventListener + GameEvent):
+ * - subscribe(type, TypedEventListener): recibe un GameEvent con campos
+ *   tipados (origen, objetivo, cantidad, plantilla) en vez de un Object
+ * - publish(type, template, source, target, amount): los productores del
+ *   combate (vía CombatLog) no construyen nada si nadie escucha ese tipo
+ *   (hasListeners()); si alguien escucha, el GameEvent sale de un pool
+ * - Los dos mundos se ven: un GameEventListener recibe GameEvent.getData()
+ *   (el texto o el origen) y un TypedEventListener recibe los notify()
+ *   clásicos envueltos en un GameEvent
+ * 
+ * SUSCRIPCIONES DÉBILES (subscribeWeak()):
+ * - El bus solo guarda una referencia débil al listener: un panel que ya
+ *   nadie usa (ej. el de una partida anterior) se recoge aunque nunca se
+ *   haya desuscrito, y deja de recibir eventos
+ * - Los envoltorios vacíos se quitan solos: el primer evento que los
+ *   encuentra (purge() de ese tipo) y cualquier subscribe() nuevo
+ * - El que se suscribe debe guardar el listener (ej. en un campo): una
+ *   lambda suelta se recogería enseguida
+ * - Cada subscribe() devuelve una Subscription (AutoCloseable) para quitar
+ *   esa suscripción concreta
+ * 
+ * CONSUMIDORES EXTERNOS (publisher()):
+ * - Un java.util.concurrent.Flow.Publisher de los tipos elegidos: cada
+ *   suscriptor tiene su buffer y su demanda, y nunca corre en el hilo del
+ *   juego (ver GameEventPublisher)
+ * 
+ * MÉTRICAS (opcional, setMetrics()):
+ * - Cuenta los eventos de cada tipo y cronometra cada listener (ver EventMetrics)
+ * - Sin métricas, dispatch() solo paga la lectura de un campo volátil
+ * 
+ * MODO ASÍNCRONO (opcional, startAsync()):
+ * - notify() solo deja el evento en un buffer circular y vuelve enseguida;
+ *   un hilo despachador ejecuta los listeners (o los manda por lotes al EDT)
+ * - El juego no espera a la interfaz (ver AsyncEventDispatcher)
+ * - stopAsync() entrega lo pendiente y vuelve al modo síncrono
+ * 
  * EVENTOS SOPORTADOS:
  * - PLAYER_HP_CHANGED: HP del jugador cambió
  * - PLAYER_MANA_CHANGED: Maná cambió
+ * - PLAYER_GOLD_CHANGED: Oro cambió
+ * - PLAYER_XP_CHANGED: Experiencia cambió
  * - PLAYER_LEVELED_UP: Subió de nivel
  * - ENEMY_DEFEATED: Enemigo derrotado
  * - QUEST_COMPLETED: Misión completada
@@ -34,57 +90,388 @@ import java.util.Map;
  */
 public class GameEventManager {
 
-    // --- Implementación del Singleton ---
-    private static GameEventManager instance;
+    // --- Implementación del Singleton (holder: creación perezosa y thread-safe) ---
+    private static final class Holder {
+        static final GameEventManager INSTANCE = new GameEventManager();
+    }
 
     /**
      * Método estático para obtener la única instancia del manager.
      */
     public static GameEventManager getInstance() {
-        if (instance == null) {
-            instance = new GameEventManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
     // --- Fin del Singleton ---
 
-    // Un mapa que guarda una lista de listeners para cada tipo de evento
-    private Map<EventType, List<GameEventListener>> listeners;
+    private static final GameEventListener[] NO_LISTENERS = new GameEventListener[0];
+    private static final TypedEventListener[] NO_TYPED_LISTENERS = new TypedEventListener[0];
+
+    // Un arreglo de listeners para cada tipo de evento. El EnumMap se llena
+    // en el constructor y no cambia (campo final = publicación segura); solo
+    // cambia el arreglo al que apunta cada AtomicReference
+    private final Map<EventType, AtomicReference<GameEventListener[]>> listeners;
+    private final Map<EventType, AtomicReference<TypedEventListener[]>> typedListeners;
 
-    // El constructor es privado para el Singleton
-    private GameEventManager() {
-        this.listeners = new HashMap<>();
-        // Inicializa una lista vacía para cada tipo de evento
+    // Despacho asíncrono (null = síncrono: los listeners corren en notify())
+    private volatile AsyncEventDispatcher async;
+
+    // Instrumentación (null = desactivada)
+    private volatile EventMetrics metrics;
+
+    // Público: cada GameContext crea el suyo (getInstance() es el de la GUI)
+    public GameEventManager() {
+        Map<EventType, AtomicReference<GameEventListener[]>> map = new EnumMap<>(EventType.class);
+        Map<EventType, AtomicReference<TypedEventListener[]>> typed = new EnumMap<>(EventType.class);
+        // Inicializa un arreglo vacío para cada tipo de evento
         for (EventType type : EventType.values()) {
-            this.listeners.put(type, new ArrayList<>());
+            map.put(type, new AtomicReference<>(NO_LISTENERS));
+            typed.put(type, new AtomicReference<>(NO_TYPED_LISTENERS));
         }
+        this.listeners = map;
+        this.typedListeners = typed;
     }
 
     /**
      * Método para que un 'Observer' (ej. la GUI) se suscriba a un evento.
+     * Se puede llamar desde cualquier hilo.
      * @param type El tipo de evento al que se suscribe.
      * @param listener El objeto que escucha.
+     * @return La suscripción (para quitarla con close())
+     */
+    public Subscription subscribe(EventType type, GameEventListener listener) {
+        add(this.listeners.get(type), listener);
+        return new Subscription(this, type, listener);
+    }
+
+    /**
+     * Suscribe un listener de eventos tipados (ver GameEvent).
+     * Se puede llamar desde cualquier hilo.
+     */
+    public Subscription subscribe(EventType type, TypedEventListener listener) {
+        add(this.typedListeners.get(type), listener);
+        return new Subscription(this, type, listener);
+    }
+
+    /**
+     * Suscribe sin retener el listener: cuando nadie más lo referencia, se
+     * recoge y su suscripción desaparece sola (ej. los paneles de la GUI).
+     * El que se suscribe debe guardar el listener mientras quiera recibir eventos.
      */
-    public void subscribe(EventType type, GameEventListener listener) {
-        this.listeners.get(type).add(listener);
+    public Subscription subscribeWeak(EventType type, GameEventListener listener) {
+        WeakListener entry = new WeakListener(listener, this, type);
+        add(this.listeners.get(type), entry);
+        return new Subscription(this, type, entry);
     }
 
     /**
-     * Método para que un 'Observer' se desuscriba.
+     * Como subscribeWeak(EventType, GameEventListener), para eventos tipados.
+     */
+    public Subscription subscribeWeak(EventType type, TypedEventListener listener) {
+        WeakListener entry = new WeakListener(listener, this, type);
+        add(this.typedListeners.get(type), entry);
+        return new Subscription(this, type, entry);
+    }
+
+    /**
+     * Método para que un 'Observer' se desuscriba (la primera aparición, como antes;
+     * también si se suscribió con subscribeWeak()).
+     * Se puede llamar desde cualquier hilo.
      */
     public void unsubscribe(EventType type, GameEventListener listener) {
-        this.listeners.get(type).remove(listener);
+        remove(this.listeners.get(type), listener);
+    }
+
+    public void unsubscribe(EventType type, TypedEventListener listener) {
+        remove(this.typedListeners.get(type), listener);
+    }
+
+    /**
+     * @return Cuántos listeners (clásicos y tipados) tiene un tipo de evento ahora mismo
+     *         (incluye los débiles ya recogidos que aún no se han purgado)
+     */
+    public int getListenerCount(EventType type) {
+        return this.listeners.get(type).get().length + this.typedListeners.get(type).get().length;
+    }
+
+    /**
+     * @return true si alguien escucha ese tipo de evento (si no, no vale la
+     *         pena ni construir el evento)
+     */
+    public boolean hasListeners(EventType type) {
+        return this.listeners.get(type).get().length > 0 || this.typedListeners.get(type).get().length > 0;
+    }
+
+    /**
+     * Dispara un evento tipado. Si nadie escucha ese tipo, no hace nada
+     * (ni toma un GameEvent del pool ni construye el texto).
+     * @param template Plantilla del mensaje (null si no es un mensaje)
+     * @param source Origen (ej. el enemigo que ataca, el Character cuyo HP cambió)
+     * @param target Objetivo (o null)
+     * @param amount Cantidad (daño, HP actual...)
+     */
+    public void publish(EventType type, MessageTemplate template, Character source, Character target, int amount) {
+        if (hasListeners(type)) {
+            publish(GameEvent.obtain(type, template, source, target, amount));
+        }
+    }
+
+    /**
+     * Entrega un GameEvent del pool; después de esto el que lo publicó ya no lo toca.
+     */
+    void publish(GameEvent event) {
+        AsyncEventDispatcher dispatcher = this.async;
+        if (dispatcher != null && dispatcher.publish(event.getType(), event)) {
+            return; // Lo entregará (y devolverá al pool) el despachador
+        }
+        dispatch(event.getType(), event);
     }
 
     /**
      * El método clave. ¡Dispara un evento y notifica a todos los suscriptores!
+     * Se puede llamar desde cualquier hilo; los listeners corren en el hilo que notifica.
      * @param type El tipo de evento que ocurrió.
      * @param data Los datos del evento (ej. el jugador, un mensaje de string).
      */
     public void notify(EventType type, Object data) {
-        // Itera sobre la lista de listeners para ese tipo de evento
-        for (GameEventListener listener : this.listeners.get(type)) {
-            listener.onGameEvent(type, data);
+        AsyncEventDispatcher dispatcher = this.async;
+        if (dispatcher != null && dispatcher.publish(type, data)) {
+            return; // Lo entregará el despachador
+        }
+        dispatch(type, data);
+    }
+
+    /**
+     * Ejecuta los listeners en el hilo actual (notify() síncrono, o el despachador).
+     */
+    void dispatch(EventType type, Object data) {
+        GameEvent event = data instanceof GameEvent ? (GameEvent) data : null;
+        EventMetrics measured = this.metrics;
+        if (measured != null) {
+            measured.recordEvent(type);
+        }
+        // Recorre la foto actual de los listeners de ese tipo de evento
+        GameEventListener[] classic = this.listeners.get(type).get();
+        TypedEventListener[] typed = this.typedListeners.get(type).get();
+        try {
+            if (classic.length > 0) {
+                Object payload = event != null ? event.getData() : data;
+                for (GameEventListener listener : classic) {
+                    if (measured == null) {
+                        listener.onGameEvent(type, payload);
+                    } else {
+                        long start = System.nanoTime();
+                        listener.onGameEvent(type, payload);
+                        measured.recordListener(listener, System.nanoTime() - start);
+                    }
+                }
+            }
+            if (typed.length > 0) {
+                if (event == null) {
+                    event = GameEvent.wrap(type, data);
+                }
+                for (TypedEventListener listener : typed) {
+                    if (measured == null) {
+                        listener.onEvent(event);
+                    } else {
+                        long start = System.nanoTime();
+                        listener.onEvent(event);
+                        measured.recordListener(listener, System.nanoTime() - start);
+                    }
+                }
+            }
+        } finally {
+            if (event != null) {
+                event.recycle();
+            }
+        }
+    }
+
+    /**
+     * Publica estos tipos de evento como un Flow.Publisher (analíticas,
+     * repeticiones, paneles externos). Cerrarlo con close() al terminar.
+     * @param types Tipos que publica (ninguno = todos)
+     */
+    public GameEventPublisher publisher(EventType... types) {
+        Set<EventType> selected = EnumSet.noneOf(EventType.class);
+        selected.addAll(Arrays.asList(types));
+        return new GameEventPublisher(this, selected);
+    }
+
+    /**
+     * Activa (o con null, desactiva) la instrumentación del bus.
+     * Se puede llamar desde cualquier hilo y en cualquier momento.
+     */
+    public void setMetrics(EventMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return Las métricas activas, o null si la instrumentación está desactivada
+     */
+    public EventMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Pasa al modo asíncrono con la configuración dada.
+     * @return El despachador (para flush() y estadísticas)
+     * @throws IllegalStateException si ya está en modo asíncrono
+     */
+    public synchronized AsyncEventDispatcher startAsync(AsyncEventDispatcher.Builder config) {
+        if (this.async != null) {
+            throw new IllegalStateException("El despacho asíncrono ya está activo");
+        }
+        AsyncEventDispatcher dispatcher = AsyncEventDispatcher.start(this, config);
+        this.async = dispatcher;
+        return dispatcher;
+    }
+
+    /**
+     * Vuelve al modo síncrono: los eventos nuevos se entregan en notify()
+     * y los que quedaban en el buffer se entregan antes de volver.
+     */
+    public synchronized void stopAsync() {
+        AsyncEventDispatcher dispatcher = this.async;
+        if (dispatcher != null) {
+            this.async = null;
+            dispatcher.close();
+        }
+    }
+
+    /**
+     * @return El despachador asíncrono activo, o null en modo síncrono
+     */
+    public AsyncEventDispatcher getAsyncDispatcher() {
+        return this.async;
+    }
+
+    /**
+     * Quita los listeners débiles ya recogidos de un tipo de evento (lo llama
+     * WeakListener al encontrarse vacío durante un dispatch()).
+     */
+    void purge(EventType type) {
+        purge(this.listeners.get(type));
+        purge(this.typedListeners.get(type));
+    }
+
+    // Lo usa Subscription: quita esa entrada concreta (por identidad)
+    void removeEntry(EventType type, Object entry) {
+        removeEntry(this.listeners.get(type), entry);
+        removeEntry(this.typedListeners.get(type), entry);
+    }
+
+    boolean contains(EventType type, Object entry) {
+        return indexOfEntry(this.listeners.get(type).get(), entry) >= 0
+            || indexOfEntry(this.typedListeners.get(type).get(), entry) >= 0;
+    }
+
+    // Copy-on-write: publica un arreglo nuevo con el listener al final
+    // (y sin los listeners débiles ya recogidos)
+    private static <T> void add(AtomicReference<T[]> ref, T listener) {
+        T[] current;
+        T[] updated;
+        do {
+            current = ref.get();
+            int live = 0;
+            for (T existing : current) {
+                if (!isCleared(existing)) {
+                    live++;
+                }
+            }
+            updated = Arrays.copyOf(current, live + 1);
+            if (live < current.length) {
+                int i = 0;
+                for (T existing : current) {
+                    if (!isCleared(existing)) {
+                        updated[i++] = existing;
+                    }
+                }
+            }
+            updated[live] = listener;
+        } while (!ref.compareAndSet(current, updated));
+    }
+
+    // Copy-on-write: publica un arreglo nuevo sin los listeners débiles ya recogidos
+    private static <T> void purge(AtomicReference<T[]> ref) {
+        T[] current;
+        T[] updated;
+        do {
+            current = ref.get();
+            int live = 0;
+            for (T existing : current) {
+                if (!isCleared(existing)) {
+                    live++;
+                }
+            }
+            if (live == current.length) {
+                return;
+            }
+            updated = Arrays.copyOf(current, live);
+            int i = 0;
+            for (T existing : current) {
+                if (!isCleared(existing)) {
+                    updated[i++] = existing;
+                }
+            }
+        } while (!ref.compareAndSet(current, updated));
+    }
+
+    private static boolean isCleared(Object listener) {
+        return listener instanceof WeakListener && ((WeakListener) listener).isCleared();
+    }
+
+    // Copy-on-write: publica un arreglo nuevo sin la primera aparición del listener
+    private static <T> void remove(AtomicReference<T[]> ref, T listener) {
+        T[] current;
+        T[] updated;
+        do {
+            current = ref.get();
+            int index = indexOf(current, listener);
+            if (index < 0) {
+                return;
+            }
+            updated = without(current, index);
+        } while (!ref.compareAndSet(current, updated));
+    }
+
+    // Copy-on-write: como remove(), pero busca esa entrada exacta
+    private static <T> void removeEntry(AtomicReference<T[]> ref, Object entry) {
+        T[] current;
+        T[] updated;
+        do {
+            current = ref.get();
+            int index = indexOfEntry(current, entry);
+            if (index < 0) {
+                return;
+            }
+            updated = without(current, index);
+        } while (!ref.compareAndSet(current, updated));
+    }
+
+    private static <T> T[] without(T[] array, int index) {
+        T[] updated = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, index + 1, updated, index, array.length - index - 1);
+        return updated;
+    }
+
+    // Un listener débil cuenta como su referente
+    private static int indexOf(Object[] array, Object listener) {
+        for (int i = 0; i < array.length; i++) {
+            Object existing = array[i];
+            if (existing.equals(listener)
+                    || (existing instanceof WeakListener && ((WeakListener) existing).get() == listener)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOfEntry(Object[] array, Object entry) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == entry) {
+                return i;
+            }
         }
+        return -1;
     }
-}
\ No newline at end of file
+}
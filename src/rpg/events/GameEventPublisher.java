@@ -0,0 +1,382 @@
+package rpg.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import rpg.core.GameConstants;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+
+/**
+ * Vista reactiva (java.util.concurrent.Flow) de los eventos de un GameEventManager.
+ *
+ * PROPÓSITO:
+ * - Analíticas, repeticiones o paneles externos reciben los eventos sin ser
+ *   un GameEventListener: nunca corren en el hilo del juego
+ * - Cada suscriptor pide eventos con request(n) (backpressure por demanda) y
+ *   tiene su propio buffer acotado; lo que no cabe se descarta o se muestrea
+ *   según SU política (Overflow), sin frenar el juego ni a los demás
+ *
+ * ARQUITECTURA:
+ * Bus → listener tipado del publisher (copia el evento) → buffer de cada suscriptor
+ *     → Executor → onNext() del suscriptor (en orden, uno a la vez)
+ * - En el hilo del juego solo se copia el GameEvent (una vez, aunque haya
+ *   varios suscriptores) y se encola; nunca se espera
+ * - Los suscriptores reciben copias (GameEvent.copy()): pueden guardarlas
+ * - Origen y objetivo son los Character vivos: para el valor del momento,
+ *   usar getAmount() o render()
+ *
+ * BUFFER LLENO (Overflow, por suscriptor):
+ * - DROP_NEWEST: se descarta el evento que llega
+ * - DROP_OLDEST: se descarta el más antiguo del buffer (se queda con lo reciente)
+ * - SAMPLE: con el buffer a más de la mitad, solo entra uno de cada
+ *   SAMPLE_STRIDE eventos; lleno, se descarta el que llega
+ * Los descartes se cuentan (getDroppedCount()).
+ *
+ * USO:
+ * GameEventPublisher publisher = events.publisher(EventType.ENEMY_DEFEATED, EventType.PLAYER_LEVELED_UP);
+ * publisher.subscribe(analytics);                                   // buffer y política por defecto
+ * publisher.subscribe(dashboard, 64, GameEventPublisher.Overflow.SAMPLE);
+ * ...
+ * publisher.close(); // onComplete() a todos cuando vacíen su buffer
+ *
+ * THREAD-SAFE: los eventos pueden llegar desde cualquier hilo (también en
+ * modo asíncrono del bus).
+ *
+ * @see GameEventManager#publisher(EventType...)
+ */
+public final class GameEventPublisher implements Flow.Publisher<GameEvent>, AutoCloseable {
+
+    public enum Overflow { DROP_NEWEST, DROP_OLDEST, SAMPLE }
+
+    // Con Overflow.SAMPLE y el buffer a más de la mitad, entra uno de cada tantos
+    private static final int SAMPLE_STRIDE = 4;
+
+    // Hilos de entrega por defecto (daemon; se crean según haga falta)
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "rpg-event-flow");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final FlowSubscription[] NO_SUBSCRIPTIONS = new FlowSubscription[0];
+
+    private final GameEventManager events;
+    private final Set<EventType> types;
+    private final Executor executor;
+    private final List<Subscription> busSubscriptions = new ArrayList<>();
+
+    // Copy-on-write, como los listeners del bus
+    private final AtomicReference<FlowSubscription[]> subscriptions = new AtomicReference<>(NO_SUBSCRIPTIONS);
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param types Tipos de evento que publica (vacío = todos)
+     */
+    public GameEventPublisher(GameEventManager events, Set<EventType> types) {
+        this(events, types, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * @param executor Dónde se llama a los suscriptores
+     */
+    public GameEventPublisher(GameEventManager events, Set<EventType> types, Executor executor) {
+        this.events = Objects.requireNonNull(events);
+        this.types = Collections.unmodifiableSet(types.isEmpty()
+            ? EnumSet.allOf(EventType.class) : EnumSet.copyOf(types));
+        this.executor = Objects.requireNonNull(executor);
+        TypedEventListener listener = this::onEvent;
+        for (EventType type : this.types) {
+            busSubscriptions.add(events.subscribe(type, listener));
+        }
+    }
+
+    /**
+     * Suscribe con el buffer por defecto (GameConstants.FLOW_BUFFER_SIZE) y
+     * Overflow.DROP_OLDEST.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        subscribe(subscriber, GameConstants.FLOW_BUFFER_SIZE, Overflow.DROP_OLDEST);
+    }
+
+    /**
+     * @param bufferSize Eventos que puede acumular este suscriptor sin pedirlos
+     * @param overflow Qué hacer cuando su buffer está lleno
+     */
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber, int bufferSize, Overflow overflow) {
+        Objects.requireNonNull(subscriber);
+        Objects.requireNonNull(overflow);
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("El buffer debe tener al menos 1 casilla: " + bufferSize);
+        }
+        FlowSubscription subscription = new FlowSubscription(subscriber, bufferSize, overflow);
+        FlowSubscription[] current;
+        FlowSubscription[] updated;
+        do {
+            current = subscriptions.get();
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = subscription;
+        } while (!subscriptions.compareAndSet(current, updated));
+        if (closed) {
+            subscription.complete(); // Publisher ya cerrado: onSubscribe() y onComplete()
+        }
+        subscription.signal(); // onSubscribe() en el executor
+    }
+
+    /**
+     * Deja de escuchar el bus; cada suscriptor recibe onComplete() cuando
+     * haya consumido lo que tenía en su buffer.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Subscription subscription : busSubscriptions) {
+            subscription.close();
+        }
+        for (FlowSubscription subscription : subscriptions.get()) {
+            subscription.complete();
+        }
+    }
+
+    public Set<EventType> getTypes() {
+        return types;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.get().length;
+    }
+
+    /**
+     * @return Eventos descartados por buffers llenos (todos los suscriptores)
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // En el hilo que notifica: una copia para todos los suscriptores y a sus buffers
+    private void onEvent(GameEvent event) {
+        FlowSubscription[] current = subscriptions.get();
+        if (current.length == 0) {
+            return;
+        }
+        GameEvent copy = event.copy();
+        for (FlowSubscription subscription : current) {
+            subscription.offer(copy);
+        }
+    }
+
+    private void remove(FlowSubscription subscription) {
+        FlowSubscription[] current;
+        FlowSubscription[] updated;
+        do {
+            current = subscriptions.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscription) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            updated = current.length == 1 ? NO_SUBSCRIPTIONS : Arrays.copyOf(current, current.length - 1);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        } while (!subscriptions.compareAndSet(current, updated));
+    }
+
+    /**
+     * Un suscriptor: su buffer, su demanda y su entrega (una tarea del
+     * executor a la vez, con el contador 'work').
+     */
+    private final class FlowSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final Overflow overflow;
+
+        // Buffer circular (protegido por 'this')
+        private final GameEvent[] buffer;
+        private int head;
+        private int count;
+        private int sampled;
+        private boolean completing;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;
+        private boolean subscribed; // Solo lo toca run()
+
+        FlowSubscription(Flow.Subscriber<? super GameEvent> subscriber, int bufferSize, Overflow overflow) {
+            this.subscriber = subscriber;
+            this.overflow = overflow;
+            this.buffer = new GameEvent[bufferSize];
+        }
+
+        // --- Productor (hilo del juego o despachador del bus) ---
+
+        void offer(GameEvent event) {
+            if (cancelled) {
+                return;
+            }
+            synchronized (this) {
+                if (completing) {
+                    return;
+                }
+                if (count == buffer.length) {
+                    if (overflow != Overflow.DROP_OLDEST) {
+                        dropped.increment();
+                        return;
+                    }
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    count--;
+                    dropped.increment();
+                } else if (overflow == Overflow.SAMPLE && count > buffer.length / 2
+                        && ++sampled % SAMPLE_STRIDE != 0) {
+                    dropped.increment();
+                    return;
+                }
+                buffer[(head + count) % buffer.length] = event;
+                count++;
+                if (count > 1) {
+                    // Ya había eventos: o se están entregando o esperan a request(),
+                    // que avisará por su cuenta
+                    return;
+                }
+            }
+            signal();
+        }
+
+        void complete() {
+            synchronized (this) {
+                completing = true;
+            }
+            signal();
+        }
+
+        // Programa una entrega si no hay otra en marcha
+        void signal() {
+            if (work.getAndIncrement() != 0) {
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                run(); // Executor rechazado (ej. cerrándose): se entrega aquí
+            }
+        }
+
+        // --- Flow.Subscription ---
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                pendingError = new IllegalArgumentException("request() debe pedir al menos 1 evento: " + n);
+            } else {
+                requested.accumulateAndGet(n, (current, add) -> {
+                    long sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            remove(this);
+            synchronized (this) {
+                Arrays.fill(buffer, null);
+                count = 0;
+            }
+        }
+
+        // --- Entrega (en el executor) ---
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    call(() -> subscriber.onSubscribe(this));
+                }
+                drain();
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            while (!cancelled) {
+                Throwable error = pendingError;
+                if (error != null) {
+                    cancel();
+                    call(() -> subscriber.onError(error));
+                    return;
+                }
+                GameEvent next = null;
+                boolean finished;
+                synchronized (this) {
+                    if (count > 0 && requested.get() > 0) {
+                        next = buffer[head];
+                        buffer[head] = null;
+                        head = (head + 1) % buffer.length;
+                        count--;
+                    }
+                    finished = completing && count == 0;
+                }
+                if (next == null) {
+                    if (finished) {
+                        cancel();
+                        call(subscriber::onComplete);
+                    }
+                    return;
+                }
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(next);
+                } catch (RuntimeException e) {
+                    broken(e);
+                }
+            }
+        }
+
+        // Un suscriptor roto se cancela; nunca para la entrega de los demás
+        private void call(Runnable signal) {
+            try {
+                signal.run();
+            } catch (RuntimeException e) {
+                broken(e);
+            }
+        }
+
+        private void broken(RuntimeException e) {
+            cancel();
+            GameLogger.error(Category.GENERAL, "Error en un suscriptor de eventos: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package rpg.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import rpg.core.Character;
+
+/**
+ * Plantillas de los mensajes del combate.
+ *
+ * PROPÓSITO:
+ * - Un GameEvent de mensaje no lleva el texto, sino la plantilla y los datos
+ *   (origen, objetivo, cantidad): el texto solo se construye si alguien lo
+ *   lee (la consola, un panel con GameEventListener o GameEvent.render())
+ * - Sin listeners ni consola, producir el mensaje no concatena ningún String
+ *
+ * HUECOS:
+ * - {source}: nombre del origen
+ * - {target}: nombre del objetivo
+ * - {amount}: la cantidad (daño, curación, oro...)
+ * El patrón se trocea una sola vez, al cargar la enum.
+ *
+ * @see GameEvent
+ * @see CombatLog#report(MessageTemplate, Character, Character, int)
+ */
+public enum MessageTemplate {
+    // --- IA de los enemigos ---
+    ENEMY_ATTACK("{source} ataca por {amount} de daño!"),
+    ENEMY_ATTACK_FEROCIOUS("{source} ataca ferozmente por {amount} de daño!"),
+    ENEMY_ATTACK_CAUTIOUS("{source} ataca cautelosamente por {amount} de daño!"),
+    ENEMY_ATTACK_SWIFT("{source} ataca velozmente por {amount} de daño!"),
+    ENEMY_BRUTAL_STRIKE("{source} usa [GOLPE BRUTAL] por {amount} de daño!"),
+    ENEMY_AMBUSH("{source} te sorprende por {amount} de daño!"),
+    ENEMY_UNLEASH("{source} desata su poder por {amount} de daño!"),
+    ENEMY_FURY("{source} entra en modo FURIA!"),
+    ENEMY_GUARD("{source} se prepara para defenderse!"),
+    ENEMY_GUARD_CAUTIOUS("{source} toma una postura defensiva cautelosa!"),
+    ENEMY_DODGE("{source} esquiva ágilmente!"),
+    ENEMY_FEINT("{source} realiza un movimiento inesperado!"),
+    ENEMY_BARRIER("{source} se concentra en una barrera mágica protectora!"),
+    BOSS_ANTICIPATE("{source} anticipa tu golpe y se protege!"),
+
+    // --- Habilidades de los enemigos ---
+    GOBLIN_TRICK("[TRAMPA] {source} se prepara para hacer trampa..."),
+    GOBLIN_DIRTY_ATTACK(">>> ¡ATAQUE SUCIO! <<<"),
+    GOBLIN_SAND("[CIEGO] {source} lanza arena a los ojos!\n¡Tu vision esta borrosa!"),
+    SKELETON_AIM("[NO-MUERTO] {source} prepara una flecha oscura..."),
+    SKELETON_POISON_ARROW(">>> ¡FLECHA ENVENENADA! <<<"),
+    SKELETON_POISON("[VENENO] El veneno se infiltra en las venas..."),
+    DARK_MAGE_NO_MANA("{source} intenta drenar vida, ¡pero no tiene maná!"),
+    DARK_MAGE_CAST("[MAGIA] {source} invoca magia prohibida..."),
+    DARK_MAGE_DRAIN(">>> ¡DRENAJE DE VIDA! <<<"),
+    DARK_MAGE_ABSORB("[ABSORCION] {source} absorbe {amount} HP de energia vital!"),
+    SLIME_BOUNCE("[REBOTE] {source} rebota amenazadoramente..."),
+    SLIME_ACID_SPLASH(">>> ¡SALPICADURA ACIDA! <<<"),
+    SLIME_ACID_BURN("[ACIDO] ¡El acido quema!"),
+    SLIME_WOBBLE("[GELATINA] El slime tiembla pero se mantiene cohesionado..."),
+    DRAGON_NO_MANA("{source} intenta escupir fuego, ¡pero no tiene maná!"),
+    DRAGON_INHALE("*** {source} inhala profundamente..."),
+    DRAGON_FIRE_BREATH(">>> ¡¡¡ALIENTO DE FUEGO!!! <<<"),
+    DRAGON_REGEN("[REGEN] {source} regenera {amount} HP (escamas draconicas)"),
+    DRAGON_FURY("*** ¡¡{source} entra en MODO FURIA!! ***\n¡Ataque y Magia aumentados!"),
+
+    // --- Batalla (BattleManager) ---
+    BATTLE_ENGAGE("{source} se enfrenta a {target}!"),
+    BATTLE_ACTOR_ATTACKS("{source} ataca!"),
+    BATTLE_XP_GAINED("¡Ganaste {amount} XP!"),
+    BATTLE_GOLD_GAINED("¡Conseguiste {amount} monedas de oro!"),
+
+    // --- Jugador ---
+    GOLD_GAINED("Has obtenido {amount} de oro.");
+
+    private static final char SOURCE = 's';
+    private static final char TARGET = 't';
+    private static final char AMOUNT = 'a';
+
+    // literals[i] va antes de slots[i]; el último literal cierra el mensaje
+    private final String[] literals;
+    private final char[] slots;
+    private final int sizeHint;
+
+    MessageTemplate(String pattern) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder holes = new StringBuilder();
+        int start = 0;
+        int open;
+        while ((open = pattern.indexOf('{', start)) >= 0) {
+            int close = pattern.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Hueco sin cerrar en: " + pattern);
+            }
+            parts.add(pattern.substring(start, open));
+            holes.append(slotFor(pattern.substring(open + 1, close), pattern));
+            start = close + 1;
+        }
+        parts.add(pattern.substring(start));
+        this.literals = parts.toArray(new String[0]);
+        this.slots = holes.toString().toCharArray();
+        this.sizeHint = pattern.length() + 8;
+    }
+
+    private static char slotFor(String name, String pattern) {
+        switch (name) {
+            case "source": return SOURCE;
+            case "target": return TARGET;
+            case "amount": return AMOUNT;
+            default:
+                throw new IllegalArgumentException("Hueco desconocido {" + name + "} en: " + pattern);
+        }
+    }
+
+    /**
+     * Construye el texto del mensaje.
+     * @param source Origen (null = "?", si la plantilla lo usa)
+     * @param target Objetivo (null = "?", si la plantilla lo usa)
+     */
+    public String render(Character source, Character target, int amount) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+        StringBuilder text = new StringBuilder(sizeHint);
+        for (int i = 0; i < slots.length; i++) {
+            text.append(literals[i]);
+            switch (slots[i]) {
+                case SOURCE: text.append(source == null ? "?" : source.getName()); break;
+                case TARGET: text.append(target == null ? "?" : target.getName()); break;
+                default: text.append(amount); break;
+            }
+        }
+        return text.append(literals[slots.length]).toString();
+    }
+}
@@ -0,0 +1,60 @@
+package rpg.events;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Una suscripción al bus de eventos (la devuelven los subscribe() de GameEventManager).
+ *
+ * PROPÓSITO:
+ * - Quitar exactamente esta suscripción, aunque el mismo listener esté
+ *   suscrito varias veces o sea un envoltorio (EventCoalescer, débil)
+ * - Es AutoCloseable: sirve para suscripciones con ámbito
+ *
+ * USO:
+ * try (Subscription s = events.subscribe(EventType.ENEMY_DEFEATED, counter)) {
+ *     simulator.run();
+ * } // aquí ya no recibe eventos
+ *
+ * THREAD-SAFE: close() se puede llamar desde cualquier hilo, más de una vez.
+ */
+public final class Subscription implements AutoCloseable {
+
+    private final GameEventManager events;
+    private final EventType type;
+    private final Object entry; // Lo que guarda el bus (el listener o su WeakListener)
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Subscription(GameEventManager events, EventType type, Object entry) {
+        this.events = events;
+        this.type = type;
+        this.entry = entry;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * @return false si ya se cerró o si era débil y el listener ya se recogió
+     */
+    public boolean isActive() {
+        if (closed.get()) {
+            return false;
+        }
+        if (entry instanceof WeakListener && ((WeakListener) entry).isCleared()) {
+            return false;
+        }
+        return events.contains(type, entry);
+    }
+
+    /**
+     * Quita la suscripción (sin efecto si ya no estaba).
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        events.removeEntry(type, entry);
+    }
+}
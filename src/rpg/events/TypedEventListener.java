@@ -0,0 +1,19 @@
+package rpg.events;
+
+/**
+ * Listener con eventos tipados: recibe un GameEvent en vez de un Object.
+ *
+ * USO:
+ * events.subscribe(EventType.PLAYER_HP_CHANGED, event -> hpBar.setValue(event.getAmount()));
+ * events.subscribe(EventType.NEW_MESSAGE_LOGGED, event -> log.append(event.render()));
+ *
+ * El GameEvent se reutiliza: solo es válido durante onEvent() (ver GameEvent.copy()).
+ */
+@FunctionalInterface
+public interface TypedEventListener {
+
+    /**
+     * @param event El evento (no guardarlo sin copy())
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,58 @@
+package rpg.events;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Envoltorio de una suscripción débil (ver GameEventManager.subscribeWeak()).
+ *
+ * PROPÓSITO:
+ * - El bus guarda este envoltorio, no el listener: un panel que ya nadie
+ *   usa (ej. el de la partida anterior) puede recogerse aunque nunca se desuscriba
+ * - Cuando el listener ya se recogió, el primer evento que llega lo detecta
+ *   y pide al bus que quite los envoltorios vacíos de ese tipo (purge())
+ *
+ * COSTE: un WeakReference.get() por evento; los listeners normales no pagan nada.
+ */
+final class WeakListener implements GameEventListener, TypedEventListener {
+
+    private final WeakReference<Object> referent;
+    private final GameEventManager owner;
+    private final EventType type;
+
+    WeakListener(Object listener, GameEventManager owner, EventType type) {
+        this.referent = new WeakReference<>(listener);
+        this.owner = owner;
+        this.type = type;
+    }
+
+    /**
+     * @return El listener, o null si ya se recogió
+     */
+    Object get() {
+        return referent.get();
+    }
+
+    boolean isCleared() {
+        return referent.get() == null;
+    }
+
+    @Override
+    public void onGameEvent(EventType eventType, Object data) {
+        Object listener = referent.get();
+        if (listener == null) {
+            owner.purge(type);
+            return;
+        }
+        ((GameEventListener) listener).onGameEvent(eventType, data);
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        Object listener = referent.get();
+        if (listener == null) {
+            owner.purge(type);
+            return;
+        }
+        ((TypedEventListener) listener).onEvent(event);
+    }
+}
@@ -49,4 +49,17 @@ public class CharacterFactory {
                 throw new IllegalArgumentException("Tipo de personaje desconocido: " + type);
         }
     }
+    
+    /**
+     * Operación inversa de createCharacter(): el CharacterType de un personaje.
+     * @return El tipo, o null si no es una clase de la fábrica (ej. CustomCharacter)
+     */
+    public static CharacterType typeOf(Character character) {
+        Class<?> type = character.getClass();
+        if (type == Warrior.class) return CharacterType.WARRIOR;
+        if (type == Mage.class) return CharacterType.MAGE;
+        if (type == Archer.class) return CharacterType.ARCHER;
+        if (type == Priest.class) return CharacterType.PRIEST;
+        return null;
+    }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@
 package rpg.factory;
 
 // Importa las clases de otros paquetes
+import rpg.core.BalanceParameters;
 import rpg.core.Character;
 import rpg.core.EnemyGroup;
+import rpg.core.GameRandom;
 
 // Importar clases específicas de enemigos
 import rpg.core.Slime;
@@ -16,8 +18,25 @@ import rpg.core.DragonWhelp;
 import rpg.core.Bandit;
 
 public class EnemyFactory {
+    
+    // Aleatoriedad de la sesión: decide los encuentros y la heredan los enemigos creados
+    private GameRandom random;
+    
+    public EnemyFactory() {
+        this(GameRandom.create());
+    }
+    
+    public EnemyFactory(GameRandom random) {
+        this.random = random;
+    }
 
     public Character createEnemy(EnemyType type) {
+        Character enemy = instantiate(type);
+        enemy.setRandom(random);
+        return enemy;
+    }
+    
+    private Character instantiate(EnemyType type) {
         switch (type) {
             case SLIME:
                 return new Slime();
@@ -52,37 +71,68 @@ public class EnemyFactory {
     /**
      * Crea un "encuentro" de batalla aleatorio usando el Patrón Composite.
      * Genera grupos variados de enemigos para mayor diversión.
+     * Las probabilidades salen de los BalanceParameters activos.
      * @return Un solo 'Character' que es un EnemyGroup o un Enemy individual.
      */
     public Character createEncounter() {
-        double random = Math.random();
+        BalanceParameters balance = BalanceParameters.current();
+        double roll = random.nextDouble();
         
         // 40% probabilidad de enemigo individual
-        if (random < 0.4) {
+        if (roll < balance.getSingleEnemyProbability()) {
             return createRandomEnemy();
         }
         
         // 60% probabilidad de grupo de enemigos
-        EnemyGroup encounter;
-        
-        if (random < 0.6) {
-            // Grupo pequeño (2 enemigos)
-            encounter = new EnemyGroup("Patrulla de Enemigos");
-            encounter.addMember(createRandomEnemy());
-            encounter.addMember(createRandomEnemy());
-        } else if (random < 0.85) {
-            // Grupo mediano (3 enemigos débiles)
-            encounter = new EnemyGroup("Horda de Criaturas");
-            encounter.addMember(createEnemy(EnemyType.SLIME));
-            encounter.addMember(createEnemy(EnemyType.GOBLIN));
-            encounter.addMember(createEnemy(EnemyType.WOLF));
+        if (roll < balance.getSmallGroupProbability()) {
+            return createPatrol();
+        } else if (roll < balance.getMediumGroupProbability()) {
+            return createHorde();
         } else {
-            // Encuentro difícil (mini-boss + secuaces)
-            encounter = new EnemyGroup("Encuentro Peligroso");
-            encounter.addMember(createEnemy(EnemyType.DRAGON_WHELP));
-            encounter.addMember(createEnemy(EnemyType.DARK_MAGE));
+            return createDangerousEncounter();
         }
-        
+    }
+    
+    /**
+     * Grupo pequeño (2 enemigos comunes aleatorios).
+     */
+    public EnemyGroup createPatrol() {
+        EnemyGroup encounter = newGroup("Patrulla de Enemigos");
+        encounter.addMember(createRandomEnemy());
+        encounter.addMember(createRandomEnemy());
+        return encounter;
+    }
+    
+    /**
+     * Grupo mediano (3 enemigos débiles).
+     */
+    public EnemyGroup createHorde() {
+        EnemyGroup encounter = newGroup("Horda de Criaturas");
+        encounter.addMember(createEnemy(EnemyType.SLIME));
+        encounter.addMember(createEnemy(EnemyType.GOBLIN));
+        encounter.addMember(createEnemy(EnemyType.WOLF));
+        return encounter;
+    }
+    
+    /**
+     * Horda masiva de un solo tipo (ej. 1000 Goblins), para pruebas de carga
+     * y balanceo con el simulador.
+     */
+    public EnemyGroup createHorde(EnemyType type, int size) {
+        EnemyGroup encounter = newGroup("Horda de " + size + " " + type);
+        for (int i = 0; i < size; i++) {
+            encounter.addMember(createEnemy(type));
+        }
+        return encounter;
+    }
+    
+    /**
+     * Encuentro difícil (mini-boss + secuaces).
+     */
+    public EnemyGroup createDangerousEncounter() {
+        EnemyGroup encounter = newGroup("Encuentro Peligroso");
+        encounter.addMember(createEnemy(EnemyType.DRAGON_WHELP));
+        encounter.addMember(createEnemy(EnemyType.DARK_MAGE));
         return encounter;
     }
     
@@ -96,7 +146,34 @@ public class EnemyFactory {
             EnemyType.WOLF, EnemyType.BANDIT, EnemyType.ORC
         };
         
-        int index = (int) (Math.random() * commonEnemies.length);
+        int index = random.nextInt(commonEnemies.length);
         return createEnemy(commonEnemies[index]);
+    }
+    
+    /**
+     * Operación inversa de createEnemy(): el EnemyType de un enemigo creado por la fábrica.
+     * @return El tipo, o null si el enemigo no es de una clase de la fábrica
+     */
+    public static EnemyType typeOf(Character enemy) {
+        Class<?> type = enemy.getClass();
+        if (type == Slime.class) return EnemyType.SLIME;
+        if (type == Goblin.class) return EnemyType.GOBLIN;
+        if (type == Skeleton.class) return EnemyType.SKELETON;
+        if (type == OrcWarrior.class) return EnemyType.ORC;
+        if (type == DarkMage.class) return EnemyType.DARK_MAGE;
+        if (type == Wolf.class) return EnemyType.WOLF;
+        if (type == DragonWhelp.class) return EnemyType.DRAGON_WHELP;
+        if (type == Bandit.class) return EnemyType.BANDIT;
+        return null;
+    }
+    
+    private EnemyGroup newGroup(String name) {
+        EnemyGroup group = new EnemyGroup(name);
+        group.setRandom(random);
+        return group;
+    }
+    
+    public GameRandom getRandom() {
+        return random;
     }   
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package rpg.inventory;
 
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Representa unas botas equipables.
@@ -22,7 +24,7 @@ public class Boots extends Item implements Equippable {
     @Override
     public void use(Character target) {
         // Las botas no se "usan", solo se equipan
-        System.out.println("Las botas " + name + " deben ser equipadas, no usadas.");
+        GameLogger.info(Category.LOOT, "Las botas {} deben ser equipadas, no usadas.", name);
     }
     
     @Override
@@ -37,8 +39,22 @@ public class Boots extends Item implements Equippable {
         character.addMaxHp(-hpBonus);
     }
     
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        builder.addDefense(defenseBonus).addMaxHp(hpBonus);
+        return true;
+    }
+    
     @Override
     public Slot getSlot() {
         return Slot.CHEST; // Reutilizamos slot de pecho para simplificar
     }
+    
+    public int getDefenseBonus() {
+        return this.defenseBonus;
+    }
+    
+    public int getHpBonus() {
+        return this.hpBonus;
+    }
 }
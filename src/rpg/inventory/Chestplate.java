@@ -2,10 +2,15 @@
 package rpg.inventory;
 
 import rpg.core.Character; // Importante
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 // Una Pechera ES UN Item e IMPLEMENTA Equippable
 public class Chestplate extends Item implements Equippable {
 
+    // El que calculaba Java antes de fijarlo: los .sav antiguos siguen cargando
+    private static final long serialVersionUID = 396893079788371963L;
+
     private int defenseBonus;
 
     public Chestplate(String name, String description, int defenseBonus) {
@@ -15,7 +20,7 @@ public class Chestplate extends Item implements Equippable {
 
     @Override
     public void use(Character target) {
-        System.out.println("No puedes 'usar' una armadura, ¡equípala!");
+        GameLogger.info(Category.LOOT, "No puedes 'usar' una armadura, ¡equípala!");
     }
 
     // --- Métodos de Equippable ---
@@ -27,13 +32,23 @@ public class Chestplate extends Item implements Equippable {
 
     @Override
     public void applyStats(Character character) {
-        System.out.println(this.name + " equipado. +" + this.defenseBonus + " DEF");
+        GameLogger.info(Category.LOOT, "{} equipado. +{} DEF", this.name, this.defenseBonus);
         character.addDefenseBonus(this.defenseBonus);
     }
 
     @Override
     public void removeStats(Character character) {
-        System.out.println(this.name + " desequipado. -" + this.defenseBonus + " DEF");
+        GameLogger.info(Category.LOOT, "{} desequipado. -{} DEF", this.name, this.defenseBonus);
         character.addDefenseBonus(-this.defenseBonus); // Resta el bonus
     }
-}
\ No newline at end of file
+    
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        builder.addDefense(this.defenseBonus);
+        return true;
+    }
+    
+    public int getDefenseBonus() {
+        return this.defenseBonus;
+    }
+}
@@ -2,20 +2,42 @@
 package rpg.inventory;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import rpg.core.Character;
+import rpg.core.StatBlock;
+import rpg.events.CombatLog;
 
+/**
+ * Items equipados de un personaje (uno por Slot).
+ *
+ * STATS EXACTOS AL DESEQUIPAR:
+ * Al equipar, se guarda lo que el item sumó realmente a los stats del
+ * personaje (la diferencia de Character.getStats() antes y después de
+ * applyStats()). Al desequipar se resta esa misma diferencia, así que los
+ * stats vuelven exactamente a como estaban, sin importar en qué orden
+ * aplique y quite sus bonus la cadena de decoradores (EnchantedWeapon, ...).
+ *
+ * ITEMS HORNEADOS:
+ * Si el item sabe describir sus bonus (Equippable.bake()), se suman de una
+ * vez desde el registro plano, sin recorrer la cadena de decoradores.
+ */
 public class Equipment implements Serializable {
     
     private static final long serialVersionUID = 1L;
 
     // Un mapa que guarda el Slot (la llave) y el Item (el valor)
     private Map<Slot, Equippable> equippedItems;
+    
+    // Lo que sumó cada item al equiparse (null en partidas guardadas
+    // antes de existir: esos items se quitan con removeStats())
+    private Map<Slot, StatBlock> appliedStats;
 
     public Equipment() {
         this.equippedItems = new HashMap<>();
+        this.appliedStats = new HashMap<>();
     }
 
     public void equip(Character character, Equippable item) {
@@ -29,7 +51,21 @@ public class Equipment implements Serializable {
 
         // 2. Coloca el item nuevo y aplica stats
         equippedItems.put(slot, item);
-        item.applyStats(character);
+        if (appliedStats == null) {
+            appliedStats = new HashMap<>();
+        }
+        StatModifiers modifiers = item.bake();
+        if (modifiers != null) {
+            character.addStatBonus(modifiers.getBonus());
+            appliedStats.put(slot, modifiers.getBonus());
+            if (CombatLog.isEnabled()) {
+                CombatLog.print(modifiers + " (equipado)");
+            }
+        } else {
+            StatBlock before = character.getStats();
+            item.applyStats(character);
+            appliedStats.put(slot, character.getStats().minus(before));
+        }
      // Quita el item del inventario al equiparlo
         character.getInventory().remove(item);
     
@@ -39,8 +75,13 @@ public class Equipment implements Serializable {
         Equippable item = equippedItems.get(slot);
         
         if (item != null) {
-            // 1. Quita los stats
-            item.removeStats(character);
+            // 1. Quita los stats (exactamente lo que sumó al equiparse)
+            StatBlock applied = appliedStats != null ? appliedStats.remove(slot) : null;
+            if (applied != null) {
+                character.removeStatBonus(applied);
+            } else {
+                item.removeStats(character);
+            }
             // 2. Quita el item del mapa
             equippedItems.remove(slot);
             if (item instanceof Item) {
@@ -49,6 +90,35 @@ public class Equipment implements Serializable {
         }
     }
     
+    /**
+     * Coloca un item ya equipado al cargar una partida: no toca los stats
+     * del personaje (ya vienen con sus bonus) ni el inventario.
+     * @param applied Lo que sumó el item al equiparse (null = desconocido)
+     */
+    public void restore(Slot slot, Equippable item, StatBlock applied) {
+        equippedItems.put(slot, item);
+        if (appliedStats == null) {
+            appliedStats = new HashMap<>();
+        }
+        if (applied != null) {
+            appliedStats.put(slot, applied);
+        }
+    }
+    
+    /**
+     * @return Los items equipados por Slot (solo lectura)
+     */
+    public Map<Slot, Equippable> getEquippedItems() {
+        return Collections.unmodifiableMap(equippedItems);
+    }
+    
+    /**
+     * @return Lo que sumó el item de ese Slot al equiparse (null si no se sabe)
+     */
+    public StatBlock getAppliedStats(Slot slot) {
+        return appliedStats != null ? appliedStats.get(slot) : null;
+    }
+    
     // Getters para la GUI
     public Equippable getWeapon() {
         return equippedItems.get(Slot.WEAPON);
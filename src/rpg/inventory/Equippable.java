@@ -19,7 +19,8 @@ public interface Equippable {
 
     /**
      * Quita los modificadores de stats del personaje.
-     * Se llama cuando el item se desequipa.
+     * Se llama cuando el item se desequipa, solo si Equipment no guardó lo que
+     * sumó applyStats() (partidas guardadas antes de existir StatBlock).
      * @param character El personaje que desequipa el item.
      */
     void removeStats(Character character);
@@ -29,4 +30,24 @@ public interface Equippable {
      * @return Nombre del item
      */
     String getName();
+    
+    /**
+     * Suma al builder los mismos bonus que aplica applyStats()
+     * (un decorador: primero los del item envuelto, luego los suyos).
+     * @return false si el item no sabe describir sus bonus; entonces se
+     *         equipa con applyStats() como siempre
+     */
+    default boolean contribute(StatModifiers.Builder builder) {
+        return false;
+    }
+    
+    /**
+     * "Hornea" el item (y toda su cadena de decoradores) en un registro plano.
+     * @return Los bonus y el nombre completo, o null si algún eslabón no
+     *         implementa contribute()
+     */
+    default StatModifiers bake() {
+        StatModifiers.Builder builder = new StatModifiers.Builder();
+        return contribute(builder) ? builder.build(getSlot(), getName()) : null;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package rpg.inventory;
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Poción de salud consumible.
@@ -46,9 +48,9 @@ public class HealthPotion extends Item {
 
 	@Override
 	public void use(Character target) {
-		System.out.println(target.getName() + " usa " + this.name);
+		GameLogger.info(Category.LOOT, "{} usa {}", target.getName(), this.name);
 		target.heal(healAmount);
-		System.out.println("¡" + target.getName() + " ha sido curado por " + healAmount + " HP!");
+		GameLogger.info(Category.LOOT, "¡{} ha sido curado por {} HP!", target.getName(), healAmount);
 	}
 	
 	public int getHealAmount() {
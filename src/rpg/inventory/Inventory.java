@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import rpg.core.Character;
+import rpg.events.CombatLog;
 
 public class Inventory implements Serializable {
     
@@ -22,7 +23,7 @@ public class Inventory implements Serializable {
     // Método para añadir un item (cuando lo recoges o desequipas)
     public void add(Item item) {
         this.items.add(item);
-        System.out.println(item.getName() + " añadido al inventario.");
+        CombatLog.print(item.getName() + " añadido al inventario.");
     }
 
     // Método para quitar un item (cuando lo equipas)
@@ -30,7 +31,7 @@ public class Inventory implements Serializable {
         // Revisa si el item equipable es un 'Item' (Poción, Espada)
         if (item instanceof Item) {
             this.items.remove((Item) item);
-            System.out.println(((Item) item).getName() + " quitado del inventario.");
+            CombatLog.print(((Item) item).getName() + " quitado del inventario.");
         }
     }
 
@@ -42,7 +43,7 @@ public class Inventory implements Serializable {
         // Si es un item consumible (como una poción), quítalo después de usarlo
         if (item instanceof HealthPotion) { // (Necesitarás crear esta clase)
              this.items.remove(item);
-             System.out.println(item.getName() + " ha sido consumido.");
+             CombatLog.print(item.getName() + " ha sido consumido.");
         }
     }
     
@@ -1,6 +1,7 @@
 package rpg.inventory;
 
 import java.io.Serializable;
+import rpg.core.GameRandom;
 
 /**
  * Representa un item potencial que puede ser dropeado por un enemigo.
@@ -25,10 +26,11 @@ public class ItemDrop implements Serializable {
     
     /**
      * Determina si este item es dropeado basándose en su probabilidad.
+     * @param random Aleatoriedad de la batalla
      * @return true si el item debe ser dropeado, false en caso contrario
      */
-    public boolean shouldDrop() {
-        return Math.random() < dropChance;
+    public boolean shouldDrop(GameRandom random) {
+        return random.chance(dropChance);
     }
     
     // Getters
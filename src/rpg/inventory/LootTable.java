@@ -3,6 +3,7 @@ package rpg.inventory;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import rpg.core.GameRandom;
 
 /**
  * Tabla de loot que contiene todos los posibles items que puede dropear un enemigo.
@@ -43,13 +44,14 @@ public class LootTable implements Serializable {
     
     /**
      * Genera los items que son dropeados basándose en las probabilidades.
+     * @param random Aleatoriedad de la batalla
      * @return Lista de items dropeados
      */
-    public List<Item> generateDrops() {
+    public List<Item> generateDrops(GameRandom random) {
         List<Item> droppedItems = new ArrayList<>();
         
         for (ItemDrop drop : possibleDrops) {
-            if (drop.shouldDrop()) {
+            if (drop.shouldDrop(random)) {
                 droppedItems.add(drop.getItem());
             }
         }
@@ -59,11 +61,12 @@ public class LootTable implements Serializable {
     
     /**
      * Calcula el oro total dropeado.
+     * @param random Aleatoriedad de la batalla
      * @return Cantidad de oro dropeado
      */
-    public int generateGold() {
+    public int generateGold(GameRandom random) {
         if (bonusGoldRange > 0) {
-            return guaranteedGold + (int)(Math.random() * bonusGoldRange);
+            return guaranteedGold + random.nextInt(bonusGoldRange);
         }
         return guaranteedGold;
     }
@@ -1,6 +1,8 @@
 package rpg.inventory;
 
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Representa una poción de maná consumible.
@@ -25,8 +27,8 @@ public class ManaPotion extends Item {
         
         target.setCurrentMana(newMana);
         
-        System.out.println(target.getName() + " usó " + name + " y recuperó " + 
-                          (newMana - currentMana) + " puntos de maná.");
+        GameLogger.info(Category.LOOT, "{} usó {} y recuperó {} puntos de maná.",
+            target.getName(), name, newMana - currentMana);
     }
     
     public int getManaRestore() {
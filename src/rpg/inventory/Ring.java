@@ -1,6 +1,8 @@
 package rpg.inventory;
 
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Representa un anillo mágico equipable.
@@ -24,7 +26,7 @@ public class Ring extends Item implements Equippable {
     @Override
     public void use(Character target) {
         // Los anillos no se "usan", solo se equipan
-        System.out.println("El anillo " + name + " debe ser equipado, no usado.");
+        GameLogger.info(Category.LOOT, "El anillo {} debe ser equipado, no usado.", name);
     }
     
     @Override
@@ -41,8 +43,26 @@ public class Ring extends Item implements Equippable {
         character.addDefenseBonus(-defenseBonus);
     }
     
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        builder.addAttack(attackBonus).addMagic(magicBonus).addDefense(defenseBonus);
+        return true;
+    }
+    
     @Override
     public Slot getSlot() {
         return Slot.WEAPON; // Reutilizamos slot existente
     }
+    
+    public int getAttackBonus() {
+        return this.attackBonus;
+    }
+    
+    public int getMagicBonus() {
+        return this.magicBonus;
+    }
+    
+    public int getDefenseBonus() {
+        return this.defenseBonus;
+    }
 }
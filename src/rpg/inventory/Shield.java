@@ -1,6 +1,8 @@
 package rpg.inventory;
 
 import rpg.core.Character;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Representa un escudo equipable.
@@ -20,7 +22,7 @@ public class Shield extends Item implements Equippable {
     @Override
     public void use(Character target) {
         // Los escudos no se "usan", solo se equipan
-        System.out.println("El escudo " + name + " debe ser equipado, no usado.");
+        GameLogger.info(Category.LOOT, "El escudo {} debe ser equipado, no usado.", name);
     }
     
     @Override
@@ -33,8 +35,18 @@ public class Shield extends Item implements Equippable {
         character.addDefenseBonus(-defenseBonus);
     }
     
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        builder.addDefense(defenseBonus);
+        return true;
+    }
+    
     @Override
     public Slot getSlot() {
         return Slot.WEAPON; // Usa el slot de arma (off-hand)
     }
+    
+    public int getDefenseBonus() {
+        return this.defenseBonus;
+    }
 }
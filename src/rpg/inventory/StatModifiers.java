@@ -0,0 +1,75 @@
+package rpg.inventory;
+
+import rpg.core.StatBlock;
+
+/**
+ * Bonus de un item equipable "horneados" en un registro plano e inmutable.
+ *
+ * PROPÓSITO:
+ * - Un arma puede estar envuelta en muchos decoradores (Fuego, luego Hielo, ...):
+ *   applyStats() y getName() recorren toda la cadena con llamadas virtuales
+ * - Equippable.bake() recorre la cadena UNA vez y suma todos los bonus aquí,
+ *   junto con el nombre completo ya calculado
+ * - Equipment aplica el registro en tiempo constante, sin importar cuántos
+ *   encantamientos tenga el item
+ *
+ * USO:
+ * Equippable espada = new EnchantedWeapon(new Sword("Espada", "...", 10), "Fuego", 5, 3);
+ * StatModifiers mods = espada.bake(); // "Espada [Fuego]": +15 ATK, +3 MAG
+ *
+ * @see Equippable#contribute(Builder)
+ */
+public final class StatModifiers {
+
+    private final Slot slot;
+    private final String name;
+    private final StatBlock bonus;
+
+    private StatModifiers(Slot slot, String name, StatBlock bonus) {
+        this.slot = slot;
+        this.name = name;
+        this.bonus = bonus;
+    }
+
+    public Slot getSlot() { return slot; }
+
+    /**
+     * @return El nombre completo del item (con todos sus encantamientos)
+     */
+    public String getName() { return name; }
+
+    /**
+     * @return Los bonus sumados, como diferencia de stats (ver Character.getStats())
+     */
+    public StatBlock getBonus() { return bonus; }
+
+    @Override
+    public String toString() {
+        return name + ": +" + bonus.getAttack() + " ATK, +" + bonus.getMagic() + " MAG, +"
+            + bonus.getDefense() + " DEF, +" + bonus.getMaxHp() + " HP";
+    }
+
+    /**
+     * Acumula los bonus de cada eslabón de la cadena (ver Equippable.contribute()).
+     */
+    public static final class Builder {
+        private int attack;
+        private int magic;
+        private int defense;
+        private int maxHp;
+        private int maxMana;
+        private int speed;
+
+        public Builder addAttack(int amount) { attack += amount; return this; }
+        public Builder addMagic(int amount) { magic += amount; return this; }
+        public Builder addDefense(int amount) { defense += amount; return this; }
+        public Builder addMaxHp(int amount) { maxHp += amount; return this; }
+        public Builder addMaxMana(int amount) { maxMana += amount; return this; }
+        public Builder addSpeed(int amount) { speed += amount; return this; }
+
+        public StatModifiers build(Slot slot, String name) {
+            return new StatModifiers(slot, name,
+                new StatBlock(attack, magic, defense, maxHp, maxMana, speed, 0));
+        }
+    }
+}
@@ -2,10 +2,15 @@
 package rpg.inventory;
 
 import rpg.core.Character; // Importante
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 // Una Espada ES UN Item e IMPLEMENTA Equippable
 public class Sword extends Item implements Equippable {
 
+    // El que calculaba Java antes de fijarlo: los .sav antiguos siguen cargando
+    private static final long serialVersionUID = -2698159347222169248L;
+
     private int attackBonus;
 
     public Sword(String name, String description, int attackBonus) {
@@ -15,7 +20,7 @@ public class Sword extends Item implements Equippable {
 
     @Override
     public void use(Character target) {
-        System.out.println("No puedes 'usar' una espada, ¡equípala!");
+        GameLogger.info(Category.LOOT, "No puedes 'usar' una espada, ¡equípala!");
     }
 
     // --- Métodos de Equippable ---
@@ -27,13 +32,23 @@ public class Sword extends Item implements Equippable {
 
     @Override
     public void applyStats(Character character) {
-        System.out.println(this.name + " equipado. +" + this.attackBonus + " ATK");
+        GameLogger.info(Category.LOOT, "{} equipado. +{} ATK", this.name, this.attackBonus);
         character.addAttackBonus(this.attackBonus);
     }
 
     @Override
     public void removeStats(Character character) {
-        System.out.println(this.name + " desequipado. -" + this.attackBonus + " ATK");
+        GameLogger.info(Category.LOOT, "{} desequipado. -{} ATK", this.name, this.attackBonus);
         character.addAttackBonus(-this.attackBonus); // Resta el bonus
     }
-}
\ No newline at end of file
+    
+    @Override
+    public boolean contribute(StatModifiers.Builder builder) {
+        builder.addAttack(this.attackBonus);
+        return true;
+    }
+    
+    public int getAttackBonus() {
+        return this.attackBonus;
+    }
+}
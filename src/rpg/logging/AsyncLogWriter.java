@@ -0,0 +1,253 @@
+package rpg.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import rpg.core.Character;
+import rpg.events.MessageTemplate;
+
+/**
+ * Buffer circular y hilo escritor del modo asíncrono de GameLogger.
+ *
+ * ARQUITECTURA (la misma que AsyncEventDispatcher):
+ * - Cada productor reserva una secuencia con compareAndSet, copia el patrón
+ *   y los argumentos en su casilla (preasignada y reutilizada) y la publica
+ * - El hilo "rpg-log-writer" lee las casillas en orden, construye el texto
+ *   (LogEntry.format() o MessageTemplate.render()) y lo escribe en el sink
+ * - El productor no formatea nada ni toca la consola o el disco
+ *
+ * BUFFER LLENO: el productor cede el procesador hasta que haya hueco, o con
+ * dropWhenFull la línea se descarta y se cuenta (getDroppedCount()).
+ *
+ * Los argumentos se leen en el hilo escritor: deben ser valores que no
+ * cambien (números, Strings); un objeto mutable se verá como esté entonces.
+ */
+final class AsyncLogWriter {
+
+    // Lo máximo que duerme el escritor sin líneas (por si se pierde un aviso)
+    private static final long PARK_NANOS = 1_000_000L;
+
+    // Una casilla del buffer (se reutiliza)
+    private static final class Slot {
+        long timeMillis;
+        Level level;
+        Category category;
+        String thread;
+        String pattern;
+        Object[] args = new Object[3]; // Los de aridad fija (o el arreglo varargs)
+        int argCount;
+        MessageTemplate template;
+        Character source;
+        Character target;
+        int amount;
+    }
+
+    private final LogSink sink;
+    private final boolean dropWhenFull;
+    private final int capacity;
+    private final int mask;
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong next = new AtomicLong();
+    private volatile long consumed;
+    private volatile long written;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile boolean sleeping;
+
+    AsyncLogWriter(LogSink sink, int capacity, boolean dropWhenFull) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacidad fuera de rango: " + capacity);
+        }
+        this.sink = sink;
+        this.dropWhenFull = dropWhenFull;
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.slots = new Slot[this.capacity];
+        this.published = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+        this.thread = new Thread(this::run, "rpg-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // --- Productores ---
+
+    /**
+     * @return false si el escritor ya está parado (la línea no se tomó)
+     */
+    boolean append(Level level, Category category, String pattern, Object a, Object b, Object c, int argCount) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return running;
+        }
+        Slot slot = fill(sequence, level, category);
+        slot.pattern = pattern;
+        slot.args[0] = a;
+        slot.args[1] = b;
+        slot.args[2] = c;
+        slot.argCount = argCount;
+        publish(sequence);
+        return true;
+    }
+
+    boolean appendAll(Level level, Category category, String pattern, Object[] args) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return running;
+        }
+        Slot slot = fill(sequence, level, category);
+        slot.pattern = pattern;
+        Object[] own = slot.args.length >= args.length ? slot.args : new Object[args.length];
+        System.arraycopy(args, 0, own, 0, args.length);
+        slot.args = own;
+        slot.argCount = args.length;
+        publish(sequence);
+        return true;
+    }
+
+    boolean appendTemplate(Level level, Category category, MessageTemplate template,
+                           Character source, Character target, int amount) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return running;
+        }
+        Slot slot = fill(sequence, level, category);
+        slot.template = template;
+        slot.source = source;
+        slot.target = target;
+        slot.amount = amount;
+        publish(sequence);
+        return true;
+    }
+
+    // Reserva una secuencia; -1 si el escritor está parado o la línea se descartó
+    private long claim() {
+        while (true) {
+            if (!running) {
+                return -1;
+            }
+            long sequence = next.get();
+            if (sequence - consumed >= capacity) {
+                if (dropWhenFull) {
+                    dropped.increment();
+                    return -1;
+                }
+                Thread.yield();
+                continue;
+            }
+            if (next.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private Slot fill(long sequence, Level level, Category category) {
+        Slot slot = slots[(int) sequence & mask];
+        slot.timeMillis = System.currentTimeMillis();
+        slot.level = level;
+        slot.category = category;
+        slot.thread = Thread.currentThread().getName();
+        return slot;
+    }
+
+    private void publish(long sequence) {
+        published.set((int) sequence & mask, sequence); // Escritura volátil: publica la casilla
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Espera a que todo lo registrado hasta ahora esté escrito (y el sink vaciado).
+     */
+    void flush() {
+        long target = next.get();
+        while (written < target && thread.isAlive()) {
+            LockSupport.unpark(thread);
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Escribe lo pendiente, para el hilo y cierra el sink.
+     */
+    void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    LogSink getSink() {
+        return sink;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // --- Escritor ---
+
+    private void run() {
+        long sequence = consumed;
+        while (running || sequence < next.get()) {
+            int index = (int) sequence & mask;
+            if (published.get(index) != sequence) {
+                sink.flush(); // Sin líneas: buen momento para vaciar el buffer del sink
+                written = sequence;
+                sleeping = true;
+                if (running && published.get(index) != sequence) {
+                    LockSupport.parkNanos(this, PARK_NANOS);
+                }
+                sleeping = false;
+                continue;
+            }
+            LogEntry entry = toEntry(slots[index]);
+            consumed = sequence + 1; // Libera la casilla antes de escribir
+            try {
+                sink.write(entry);
+            } catch (RuntimeException e) {
+                System.err.println("Error en el sink del log: " + e);
+            }
+            sequence++;
+        }
+        sink.flush();
+        written = sequence;
+        sink.close();
+    }
+
+    // Copia la casilla a una LogEntry y la deja limpia
+    private static LogEntry toEntry(Slot slot) {
+        LogEntry entry;
+        if (slot.template != null) {
+            entry = new LogEntry(slot.timeMillis, slot.level, slot.category, slot.thread,
+                slot.template.render(slot.source, slot.target, slot.amount), null);
+            slot.template = null;
+            slot.source = null;
+            slot.target = null;
+        } else {
+            entry = LogEntry.format(slot.timeMillis, slot.level, slot.category, slot.thread,
+                slot.pattern, slot.args, slot.argCount);
+            for (int i = 0; i < slot.argCount; i++) {
+                slot.args[i] = null;
+            }
+        }
+        slot.pattern = null;
+        return entry;
+    }
+}
@@ -0,0 +1,13 @@
+package rpg.logging;
+
+/**
+ * Categorías del GameLogger: cada una tiene su propio nivel mínimo
+ * (ej. GameLogger.setLevel(Category.COMBAT, Level.OFF) en una simulación).
+ */
+public enum Category {
+    COMBAT,      // Ataques, habilidades, IA (CombatLog)
+    LOOT,        // Botín, objetos, equipo
+    QUEST,       // Misiones
+    PERSISTENCE, // Guardar / cargar partidas
+    GENERAL      // Todo lo demás (ej. GameContext.log())
+}
@@ -0,0 +1,25 @@
+package rpg.logging;
+
+/**
+ * Escribe solo el mensaje en la consola, como los System.out.println de
+ * siempre: WARN y ERROR van a System.err (con la traza de la excepción).
+ */
+public class ConsoleSink implements LogSink {
+
+    @Override
+    public void write(LogEntry entry) {
+        if (entry.getLevel().compareTo(Level.WARN) >= 0) {
+            System.err.println(entry.getMessage());
+            if (entry.getThrowable() != null) {
+                entry.getThrowable().printStackTrace();
+            }
+        } else {
+            System.out.println(entry.getMessage());
+        }
+    }
+
+    @Override
+    public void flush() {
+        System.out.flush();
+    }
+}
@@ -0,0 +1,272 @@
+package rpg.logging;
+
+import java.util.Arrays;
+import rpg.core.Character;
+import rpg.core.GameConstants;
+import rpg.events.MessageTemplate;
+
+/**
+ * Logger estructurado del juego: niveles, categorías y formato perezoso.
+ *
+ * PROPÓSITO:
+ * - Sustituye los System.out.println del combate (vía CombatLog), las
+ *   misiones, el botín y el guardado
+ * - Cada línea lleva nivel, categoría, hilo y hora (LogEntry); el sink
+ *   decide qué hacer con ella (consola, archivo rotativo, memoria)
+ * - Formato perezoso: info(Category.LOOT, "{} usa {}", name, item) solo
+ *   construye el texto si la categoría está activa (y en modo asíncrono, ni
+ *   siquiera en el hilo que registra)
+ *
+ * USO:
+ * GameLogger.info(Category.QUEST, "Misión iniciada: {}", title);
+ * GameLogger.error(Category.PERSISTENCE, "Error al guardar: {}", e.getMessage(), e);
+ * if (GameLogger.isEnabled(Category.COMBAT, Level.DEBUG)) { ...cálculo caro... }
+ *
+ * CONFIGURACIÓN:
+ * GameLogger.setLevel(Category.COMBAT, Level.OFF);           // categoría apagada: coste ~0
+ * GameLogger.startAsync(new RollingFileSink(Paths.get("logs", "game.log")));
+ * ...
+ * GameLogger.stopAsync();                                    // escribe lo pendiente
+ *
+ * MODOS:
+ * - Síncrono (por defecto, con ConsoleSink): la línea se escribe en el
+ *   hilo que registra, como los println de antes
+ * - Asíncrono (startAsync()): la línea va a un buffer circular y el hilo
+ *   "rpg-log-writer" la formatea y la escribe (ver AsyncLogWriter)
+ *
+ * COSTE CON LA CATEGORÍA APAGADA: una lectura de arreglo y una comparación.
+ * Las sobrecargas de 1 a 3 argumentos no crean arreglos (un int pequeño
+ * pasa como Integer cacheado); si calcular un argumento es caro, se
+ * comprueba antes isEnabled().
+ *
+ * THREAD-SAFE.
+ */
+public final class GameLogger {
+
+    // Nivel mínimo de cada categoría (copy-on-write: nunca se modifica un arreglo publicado)
+    private static volatile Level[] thresholds = defaultThresholds();
+
+    private static volatile LogSink sink = new ConsoleSink();
+    private static volatile AsyncLogWriter async;
+
+    private GameLogger() {
+        throw new AssertionError("Esta clase no debe ser instanciada");
+    }
+
+    private static Level[] defaultThresholds() {
+        Level[] levels = new Level[Category.values().length];
+        Arrays.fill(levels, Level.INFO);
+        return levels;
+    }
+
+    // --- Configuración ---
+
+    /**
+     * @return true si las líneas de ese nivel y categoría se registran
+     */
+    public static boolean isEnabled(Category category, Level level) {
+        return level.compareTo(thresholds[category.ordinal()]) >= 0 && level != Level.OFF;
+    }
+
+    /**
+     * Nivel mínimo de una categoría (Level.OFF = apagada).
+     */
+    public static synchronized void setLevel(Category category, Level level) {
+        Level[] updated = thresholds.clone();
+        updated[category.ordinal()] = level;
+        thresholds = updated;
+    }
+
+    /**
+     * Nivel mínimo de todas las categorías.
+     */
+    public static synchronized void setLevel(Level level) {
+        Level[] updated = new Level[Category.values().length];
+        Arrays.fill(updated, level);
+        thresholds = updated;
+    }
+
+    public static Level getLevel(Category category) {
+        return thresholds[category.ordinal()];
+    }
+
+    /**
+     * Cambia el sink del modo síncrono (cierra el anterior).
+     * @throws IllegalStateException en modo asíncrono (usar stopAsync() antes)
+     */
+    public static synchronized void setSink(LogSink newSink) {
+        if (async != null) {
+            throw new IllegalStateException("El logger está en modo asíncrono");
+        }
+        LogSink previous = sink;
+        sink = newSink;
+        if (previous != newSink) {
+            synchronized (previous) {
+                previous.close();
+            }
+        }
+    }
+
+    /**
+     * @return El sink actual (el del hilo escritor en modo asíncrono)
+     */
+    public static LogSink getSink() {
+        AsyncLogWriter writer = async;
+        return writer != null ? writer.getSink() : sink;
+    }
+
+    /**
+     * Pasa al modo asíncrono con el buffer por defecto; si se llena, quien
+     * registra espera (no se pierde nada).
+     */
+    public static void startAsync(LogSink target) {
+        startAsync(target, GameConstants.LOG_BUFFER_SIZE, false);
+    }
+
+    /**
+     * @param capacity Casillas del buffer (se redondea a potencia de 2)
+     * @param dropWhenFull true = con el buffer lleno la línea se descarta (el
+     *        juego nunca espera al disco); ver getDroppedCount()
+     * @throws IllegalStateException si ya está en modo asíncrono
+     */
+    public static synchronized void startAsync(LogSink target, int capacity, boolean dropWhenFull) {
+        if (async != null) {
+            throw new IllegalStateException("El logger ya está en modo asíncrono");
+        }
+        async = new AsyncLogWriter(target, capacity, dropWhenFull);
+    }
+
+    /**
+     * Escribe lo pendiente, cierra el sink asíncrono y vuelve al modo
+     * síncrono con el sink anterior.
+     */
+    public static synchronized void stopAsync() {
+        AsyncLogWriter writer = async;
+        if (writer != null) {
+            async = null;
+            writer.close();
+        }
+    }
+
+    /**
+     * Espera a que todo lo registrado hasta ahora esté escrito.
+     */
+    public static void flush() {
+        AsyncLogWriter writer = async;
+        if (writer != null) {
+            writer.flush();
+        } else {
+            LogSink current = sink;
+            synchronized (current) {
+                current.flush();
+            }
+        }
+    }
+
+    /**
+     * @return Líneas descartadas por un buffer lleno (startAsync con dropWhenFull)
+     */
+    public static long getDroppedCount() {
+        AsyncLogWriter writer = async;
+        return writer != null ? writer.getDroppedCount() : 0;
+    }
+
+    // --- Registro ---
+
+    public static void log(Level level, Category category, String message) {
+        if (isEnabled(category, level)) {
+            write(level, category, message, null, null, null, 0);
+        }
+    }
+
+    public static void log(Level level, Category category, String pattern, Object a) {
+        if (isEnabled(category, level)) {
+            write(level, category, pattern, a, null, null, 1);
+        }
+    }
+
+    public static void log(Level level, Category category, String pattern, Object a, Object b) {
+        if (isEnabled(category, level)) {
+            write(level, category, pattern, a, b, null, 2);
+        }
+    }
+
+    public static void log(Level level, Category category, String pattern, Object a, Object b, Object c) {
+        if (isEnabled(category, level)) {
+            write(level, category, pattern, a, b, c, 3);
+        }
+    }
+
+    public static void log(Level level, Category category, String pattern, Object... args) {
+        if (!isEnabled(category, level)) {
+            return;
+        }
+        AsyncLogWriter writer = async;
+        if (writer == null || !writer.appendAll(level, category, pattern, args)) {
+            writeNow(LogEntry.format(System.currentTimeMillis(), level, category,
+                Thread.currentThread().getName(), pattern, args, args.length));
+        }
+    }
+
+    /**
+     * Registra un mensaje con plantilla (ver MessageTemplate): en modo
+     * asíncrono el texto lo construye el hilo escritor.
+     */
+    public static void log(Level level, Category category, MessageTemplate template,
+                           Character source, Character target, int amount) {
+        if (!isEnabled(category, level)) {
+            return;
+        }
+        AsyncLogWriter writer = async;
+        if (writer == null || !writer.appendTemplate(level, category, template, source, target, amount)) {
+            writeNow(new LogEntry(System.currentTimeMillis(), level, category, Thread.currentThread().getName(),
+                template.render(source, target, amount), null));
+        }
+    }
+
+    // --- Atajos por nivel ---
+
+    public static void debug(Category category, String message) { log(Level.DEBUG, category, message); }
+    public static void debug(Category category, String pattern, Object a) { log(Level.DEBUG, category, pattern, a); }
+    public static void debug(Category category, String pattern, Object a, Object b) { log(Level.DEBUG, category, pattern, a, b); }
+    public static void debug(Category category, String pattern, Object a, Object b, Object c) { log(Level.DEBUG, category, pattern, a, b, c); }
+    public static void debug(Category category, String pattern, Object... args) { log(Level.DEBUG, category, pattern, args); }
+
+    public static void info(Category category, String message) { log(Level.INFO, category, message); }
+    public static void info(Category category, String pattern, Object a) { log(Level.INFO, category, pattern, a); }
+    public static void info(Category category, String pattern, Object a, Object b) { log(Level.INFO, category, pattern, a, b); }
+    public static void info(Category category, String pattern, Object a, Object b, Object c) { log(Level.INFO, category, pattern, a, b, c); }
+    public static void info(Category category, String pattern, Object... args) { log(Level.INFO, category, pattern, args); }
+
+    public static void warn(Category category, String message) { log(Level.WARN, category, message); }
+    public static void warn(Category category, String pattern, Object a) { log(Level.WARN, category, pattern, a); }
+    public static void warn(Category category, String pattern, Object a, Object b) { log(Level.WARN, category, pattern, a, b); }
+    public static void warn(Category category, String pattern, Object a, Object b, Object c) { log(Level.WARN, category, pattern, a, b, c); }
+    public static void warn(Category category, String pattern, Object... args) { log(Level.WARN, category, pattern, args); }
+
+    public static void error(Category category, String message) { log(Level.ERROR, category, message); }
+    public static void error(Category category, String pattern, Object a) { log(Level.ERROR, category, pattern, a); }
+    public static void error(Category category, String pattern, Object a, Object b) { log(Level.ERROR, category, pattern, a, b); }
+    public static void error(Category category, String pattern, Object a, Object b, Object c) { log(Level.ERROR, category, pattern, a, b, c); }
+    public static void error(Category category, String pattern, Object... args) { log(Level.ERROR, category, pattern, args); }
+
+    // --- Interno ---
+
+    private static void write(Level level, Category category, String pattern, Object a, Object b, Object c, int argCount) {
+        AsyncLogWriter writer = async;
+        if (writer != null && writer.append(level, category, pattern, a, b, c, argCount)) {
+            return; // Lo escribirá el hilo escritor
+        }
+        Object[] args = argCount == 0 ? null : new Object[] { a, b, c };
+        writeNow(LogEntry.format(System.currentTimeMillis(), level, category,
+            Thread.currentThread().getName(), pattern, args, argCount));
+    }
+
+    // Modo síncrono: las escrituras al sink se serializan
+    private static void writeNow(LogEntry entry) {
+        LogSink current = sink;
+        synchronized (current) {
+            current.write(entry);
+        }
+    }
+}
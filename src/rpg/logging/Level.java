@@ -0,0 +1,13 @@
+package rpg.logging;
+
+/**
+ * Niveles del GameLogger, de menor a mayor gravedad.
+ * OFF solo sirve como umbral: GameLogger.setLevel(categoría, Level.OFF) la apaga.
+ */
+public enum Level {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF
+}
@@ -0,0 +1,78 @@
+package rpg.logging;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Una línea de log ya construida (la reciben los LogSink).
+ *
+ * Campos: momento, nivel, categoría, hilo, mensaje y, opcionalmente, la
+ * excepción (el último argumento de GameLogger.error(...) si es un Throwable).
+ *
+ * INMUTABLE.
+ */
+public final class LogEntry {
+
+    private static final DateTimeFormatter TIMESTAMP =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final long timeMillis;
+    private final Level level;
+    private final Category category;
+    private final String thread;
+    private final String message;
+    private final Throwable throwable;
+
+    LogEntry(long timeMillis, Level level, Category category, String thread, String message, Throwable throwable) {
+        this.timeMillis = timeMillis;
+        this.level = level;
+        this.category = category;
+        this.thread = thread;
+        this.message = message;
+        this.throwable = throwable;
+    }
+
+    /**
+     * Construye el mensaje: cada "{}" del patrón se cambia por el siguiente
+     * argumento. Si sobra un argumento y es un Throwable, pasa a getThrowable().
+     */
+    static LogEntry format(long timeMillis, Level level, Category category, String thread,
+                           String pattern, Object[] args, int argCount) {
+        if (argCount == 0) {
+            return new LogEntry(timeMillis, level, category, thread, pattern, null);
+        }
+        StringBuilder text = new StringBuilder(pattern.length() + 16 * argCount);
+        int used = 0;
+        int start = 0;
+        int hole;
+        while (used < argCount && (hole = pattern.indexOf("{}", start)) >= 0) {
+            text.append(pattern, start, hole).append(args[used++]);
+            start = hole + 2;
+        }
+        text.append(pattern, start, pattern.length());
+        Throwable throwable = used < argCount && args[argCount - 1] instanceof Throwable
+            ? (Throwable) args[argCount - 1] : null;
+        return new LogEntry(timeMillis, level, category, thread, text.toString(), throwable);
+    }
+
+    public long getTimeMillis() { return timeMillis; }
+    public Level getLevel() { return level; }
+    public Category getCategory() { return category; }
+    public String getThread() { return thread; }
+    public String getMessage() { return message; }
+    public Throwable getThrowable() { return throwable; }
+
+    /**
+     * @return La línea completa, para archivos: "fecha hora NIVEL CATEGORÍA [hilo] mensaje"
+     */
+    public String toLine() {
+        return String.format("%s %-5s %-11s [%s] %s", TIMESTAMP.format(Instant.ofEpochMilli(timeMillis)),
+            level, category, thread, message);
+    }
+
+    @Override
+    public String toString() {
+        return toLine();
+    }
+}
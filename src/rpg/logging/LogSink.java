@@ -0,0 +1,27 @@
+package rpg.logging;
+
+/**
+ * Destino de las líneas del GameLogger - Patrón Strategy (GoF).
+ *
+ * Implementaciones: ConsoleSink (por defecto), MemorySink, RollingFileSink.
+ *
+ * Un sink recibe las líneas de una en una (nunca dos write() a la vez):
+ * en modo síncrono las llamadas se serializan, en modo asíncrono solo
+ * escribe el hilo del logger.
+ */
+public interface LogSink {
+
+    void write(LogEntry entry);
+
+    /**
+     * Vacía lo que tenga en buffers (el modo asíncrono lo llama al quedarse sin líneas).
+     */
+    default void flush() {
+    }
+
+    /**
+     * Libera recursos (archivos). Lo llama GameLogger al cambiar de sink.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,57 @@
+package rpg.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Guarda en memoria las últimas N líneas (ej. para adjuntarlas a un reporte
+ * de bug, o para comprobar en una prueba qué se registró).
+ *
+ * THREAD-SAFE.
+ */
+public class MemorySink implements LogSink {
+
+    private final int capacity;
+    private final Deque<LogEntry> entries = new ArrayDeque<>();
+
+    /**
+     * @param capacity Líneas que se conservan (las más antiguas se descartan)
+     */
+    public MemorySink(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 1: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void write(LogEntry entry) {
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+        }
+        entries.addLast(entry);
+    }
+
+    /**
+     * @return Copia de las líneas guardadas, de la más antigua a la más reciente
+     */
+    public synchronized List<LogEntry> getEntries() {
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized List<LogEntry> getEntries(Category category) {
+        List<LogEntry> result = new ArrayList<>();
+        for (LogEntry entry : entries) {
+            if (entry.getCategory() == category) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,129 @@
+package rpg.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import rpg.core.GameConstants;
+
+/**
+ * Escribe las líneas completas (LogEntry.toLine()) en un archivo que rota
+ * al llegar a un tamaño: game.log → game.log.1 → game.log.2 ... (el más
+ * antiguo se borra).
+ *
+ * USO:
+ * GameLogger.startAsync(new RollingFileSink(Paths.get("logs", "game.log")));
+ *
+ * Usa un buffer: las líneas llegan al disco en flush() (el modo asíncrono
+ * lo llama en cada pausa) o al rotar.
+ */
+public class RollingFileSink implements LogSink {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private long size;
+
+    public RollingFileSink(Path file) {
+        this(file, GameConstants.LOG_FILE_MAX_BYTES, GameConstants.LOG_FILE_COUNT);
+    }
+
+    /**
+     * @param maxBytes Tamaño a partir del cual se rota
+     * @param maxFiles Archivos que se conservan, contando el actual
+     */
+    public RollingFileSink(Path file, long maxBytes, int maxFiles) {
+        if (maxBytes < 1 || maxFiles < 1) {
+            throw new IllegalArgumentException("Tamaño y número de archivos deben ser positivos");
+        }
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo abrir el log " + file, e);
+        }
+    }
+
+    @Override
+    public void write(LogEntry entry) {
+        String line = entry.toLine();
+        if (entry.getThrowable() != null) {
+            StringWriter trace = new StringWriter();
+            entry.getThrowable().printStackTrace(new PrintWriter(trace));
+            line = line + System.lineSeparator() + trace.toString().trim();
+        }
+        try {
+            if (size > 0 && size + line.length() + 1 > maxBytes) {
+                rotate();
+            }
+            writer.write(line);
+            writer.newLine();
+            size += line.getBytes(StandardCharsets.UTF_8).length + System.lineSeparator().length();
+        } catch (IOException e) {
+            System.err.println("Error escribiendo el log " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error escribiendo el log " + file + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Error cerrando el log " + file + ": " + e.getMessage());
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void open() throws IOException {
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+
+    // game.log.(n-1) → game.log.n, ..., game.log → game.log.1
+    private void rotate() throws IOException {
+        writer.close();
+        Files.deleteIfExists(numbered(maxFiles - 1));
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            Path source = numbered(i);
+            if (Files.exists(source)) {
+                Files.move(source, numbered(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 1) {
+            Files.move(file, numbered(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path numbered(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
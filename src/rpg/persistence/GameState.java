@@ -39,6 +39,19 @@ public class GameState implements Serializable {
         this.playTimeMinutes = 0;
     }
     
+    /**
+     * Constructor con todos los campos (lo usa SaveCodec al cargar).
+     */
+    GameState(Character player, CharacterType characterType, String saveName,
+              LocalDateTime saveDate, String gameVersion, int playTimeMinutes) {
+        this.player = player;
+        this.characterType = characterType;
+        this.saveName = saveName;
+        this.saveDate = saveDate;
+        this.gameVersion = gameVersion;
+        this.playTimeMinutes = playTimeMinutes;
+    }
+    
     // Getters
     public Character getPlayer() { return player; }
     public CharacterType getCharacterType() { return characterType; }
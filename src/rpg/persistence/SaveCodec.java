@@ -0,0 +1,623 @@
+package rpg.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import rpg.combat.AttackStrategy;
+import rpg.combat.MagicAttack;
+import rpg.combat.MeleeAttack;
+import rpg.combat.PassiveStrategy;
+import rpg.combat.RangedAttack;
+import rpg.core.Archer;
+import rpg.core.Character;
+import rpg.core.CustomCharacter;
+import rpg.core.Mage;
+import rpg.core.Priest;
+import rpg.core.StatBlock;
+import rpg.core.Warrior;
+import rpg.decorator.EnchantedWeapon;
+import rpg.decorator.ReinforcedArmor;
+import rpg.events.CombatLog;
+import rpg.factory.CharacterType;
+import rpg.inventory.Boots;
+import rpg.inventory.Chestplate;
+import rpg.inventory.Equipment;
+import rpg.inventory.Equippable;
+import rpg.inventory.HealthPotion;
+import rpg.inventory.Item;
+import rpg.inventory.ManaPotion;
+import rpg.inventory.Ring;
+import rpg.inventory.Shield;
+import rpg.inventory.Slot;
+import rpg.inventory.Sword;
+
+/**
+ * Formato binario de las partidas guardadas (GameState), con versión.
+ *
+ * PROPÓSITO:
+ * - ObjectOutputStream guarda todo el grafo de objetos: descriptores de
+ *   clase, estrategias y los metadatos completos de cada item
+ * - Aquí se guardan solo los campos primitivos, con un código por tipo de
+ *   item y una tabla de textos (cada nombre o descripción se escribe una vez)
+ * - Los enteros van como varint (casi todos ocupan 1 o 2 bytes)
+ *
+ * FORMATO (versión 1):
+ * "RSAV" | versión (short) | tabla de textos | metadatos | jugador
+ *        | inventario | equipo | CRC32 de todo lo anterior
+ * - Textos: índice en la tabla + 1 (0 = null)
+ * - Jugador: código de clase, nombre, stats base, bonus de equipo por
+ *   separado, HP, maná, velocidad, XP, oro y código de AttackStrategy
+ * - Items: código de tipo y sus campos; los decoradores (EnchantedWeapon,
+ *   ReinforcedArmor) envuelven al item siguiente de la cadena
+ * - Equipo: Slot, item y lo que sumó al equiparse (StatBlock)
+ *
+ * TIPOS DESCONOCIDOS: una clase de personaje, item o estrategia sin código
+ * (ej. una subclase nueva) se guarda serializada dentro del archivo
+ * (CODE_SERIALIZED). Así nada se pierde; para que ocupe poco, añadirle código.
+ *
+ * VERSIONES: al cambiar el formato, subir VERSION y seguir leyendo las
+ * anteriores en decode(). Los .sav antiguos (ObjectOutputStream) se
+ * reconocen con isLegacy() y se leen con decodeLegacy() (ver SaveManager).
+ */
+public final class SaveCodec {
+
+    private static final int MAGIC = 0x52534156; // "RSAV"
+    private static final int VERSION = 1;
+
+    // Cabecera de un stream de ObjectOutputStream (los .sav antiguos)
+    private static final int LEGACY_MAGIC = 0xACED;
+
+    // Solo clases del juego y del JDK al leer partidas antiguas
+    private static final ObjectInputFilter LEGACY_FILTER =
+        ObjectInputFilter.Config.createFilter("rpg.**;java.**;!*");
+
+    // Tipos de personaje
+    private static final byte CHARACTER_WARRIOR = 1;
+    private static final byte CHARACTER_MAGE = 2;
+    private static final byte CHARACTER_ARCHER = 3;
+    private static final byte CHARACTER_PRIEST = 4;
+    private static final byte CHARACTER_CUSTOM = 5;
+
+    // Estrategias de ataque
+    private static final byte STRATEGY_NONE = 0;
+    private static final byte STRATEGY_MELEE = 1;
+    private static final byte STRATEGY_MAGIC = 2;
+    private static final byte STRATEGY_RANGED = 3;
+    private static final byte STRATEGY_PASSIVE = 4;
+
+    // Items
+    private static final byte ITEM_HEALTH_POTION = 1;
+    private static final byte ITEM_MANA_POTION = 2;
+    private static final byte ITEM_SWORD = 3;
+    private static final byte ITEM_CHESTPLATE = 4;
+    private static final byte ITEM_SHIELD = 5;
+    private static final byte ITEM_BOOTS = 6;
+    private static final byte ITEM_RING = 7;
+    private static final byte ITEM_ENCHANTED = 8;  // EnchantedWeapon + item envuelto
+    private static final byte ITEM_REINFORCED = 9; // ReinforcedArmor + item envuelto
+
+    // Cualquier tipo sin código: va serializado con ObjectOutputStream
+    private static final byte CODE_SERIALIZED = -1;
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final CharacterType[] CHARACTER_TYPES = CharacterType.values();
+
+    private SaveCodec() {
+    }
+
+    // --- Escribir ---
+
+    /**
+     * @return La partida en formato binario
+     * @throws IOException si algún objeto sin código tampoco es Serializable
+     */
+    public static byte[] encode(GameState state) throws IOException {
+        Writer writer = new Writer();
+        writer.writeState(state);
+        return writer.finish();
+    }
+
+    // --- Leer ---
+
+    /**
+     * @return true si los datos empiezan como un archivo de este formato
+     */
+    public static boolean isBinary(byte[] data) {
+        return data.length >= 4 && readInt(data, 0) == MAGIC;
+    }
+
+    /**
+     * @return true si es un .sav antiguo (ObjectOutputStream)
+     */
+    public static boolean isLegacy(byte[] data) {
+        return data.length >= 2 && ((data[0] & 0xFF) << 8 | (data[1] & 0xFF)) == LEGACY_MAGIC;
+    }
+
+    /**
+     * @throws IOException si no es de este formato, está dañado (CRC) o es
+     *         de una versión más nueva
+     */
+    public static GameState decode(byte[] data) throws IOException {
+        if (!isBinary(data) || data.length < 10) {
+            throw new IOException("No es una partida en formato binario");
+        }
+        int bodyLength = data.length - 4;
+        if (crc(data, bodyLength) != readInt(data, bodyLength)) {
+            throw new IOException("Partida dañada (CRC incorrecto)");
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 4, bodyLength - 4));
+        int version = in.readUnsignedShort();
+        if (version > VERSION) {
+            throw new IOException("Partida de una versión más nueva del formato: " + version);
+        }
+        boolean previous = CombatLog.setSilent(true); // Cargar no es jugar: sin eventos ni mensajes
+        try {
+            return new Reader(in).readState();
+        } finally {
+            CombatLog.setSilent(previous);
+        }
+    }
+
+    /**
+     * Lee un .sav antiguo (ObjectInputStream, solo clases rpg.* y java.*).
+     */
+    public static GameState decodeLegacy(byte[] data) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            in.setObjectInputFilter(LEGACY_FILTER);
+            return (GameState) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Partida antigua incompatible: " + e.getMessage(), e);
+        }
+    }
+
+    private static int readInt(byte[] data, int offset) {
+        return (data[offset] & 0xFF) << 24 | (data[offset + 1] & 0xFF) << 16
+            | (data[offset + 2] & 0xFF) << 8 | (data[offset + 3] & 0xFF);
+    }
+
+    private static int crc(byte[] data, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Escribe el cuerpo en memoria mientras junta los textos; finish() pone
+     * delante la tabla de textos y detrás el CRC.
+     */
+    private static final class Writer {
+        private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(512);
+        private final DataOutputStream body = new DataOutputStream(bodyBytes);
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final List<String> table = new ArrayList<>();
+
+        void writeState(GameState state) throws IOException {
+            // Metadatos
+            writeString(state.getSaveName());
+            LocalDateTime date = state.getSaveDate();
+            body.writeBoolean(date != null);
+            if (date != null) {
+                body.writeLong(date.toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+            writeString(state.getGameVersion());
+            writeVarInt(state.getPlayTimeMinutes());
+            CharacterType type = state.getCharacterType();
+            writeVarInt(type == null ? 0 : type.ordinal() + 1);
+
+            writeCharacter(state.getPlayer());
+        }
+
+        private void writeCharacter(Character player) throws IOException {
+            byte code = characterCode(player);
+            body.writeByte(code);
+            if (code == CODE_SERIALIZED) {
+                writeSerialized(player);
+                return;
+            }
+            if (code == CHARACTER_CUSTOM) {
+                writeVarInt(((CustomCharacter) player).getCharacterType().ordinal());
+            }
+            writeString(player.getName());
+            writeVarInt(player.getLevel());
+            writeVarInt(player.getAttack() - player.getAttackBonus());
+            writeVarInt(player.getMagic() - player.getMagicBonus());
+            writeVarInt(player.getAttackBonus());
+            writeVarInt(player.getMagicBonus());
+            writeVarInt(player.getDefense());
+            writeVarInt(player.getMaxHp());
+            writeVarInt(player.getCurrentHp());
+            writeVarInt(player.getMaxMana());
+            writeVarInt(player.getCurrentMana());
+            writeVarInt(player.getSpeed());
+            writeVarInt(player.getCurrentExp());
+            writeVarInt(player.getExpToNextLevel());
+            writeVarInt(player.getGold());
+            body.writeBoolean(player.isDefending());
+            writeStrategy(player.getAttackStrategy());
+
+            List<Item> items = player.getInventory().getItems();
+            writeVarInt(items.size());
+            for (Item item : items) {
+                writeItem(item);
+            }
+
+            Equipment equipment = player.getEquipment();
+            Map<Slot, Equippable> equipped = equipment.getEquippedItems();
+            writeVarInt(equipped.size());
+            for (Slot slot : SLOTS) { // En orden de Slot: mismo estado, mismos bytes
+                Equippable item = equipped.get(slot);
+                if (item == null) continue;
+                body.writeByte(slot.ordinal());
+                writeItem(item);
+                StatBlock applied = equipment.getAppliedStats(slot);
+                body.writeBoolean(applied != null);
+                if (applied != null) {
+                    writeVarInt(applied.getAttack());
+                    writeVarInt(applied.getMagic());
+                    writeVarInt(applied.getDefense());
+                    writeVarInt(applied.getMaxHp());
+                    writeVarInt(applied.getMaxMana());
+                    writeVarInt(applied.getSpeed());
+                }
+            }
+        }
+
+        private void writeStrategy(AttackStrategy strategy) throws IOException {
+            Class<?> type = strategy == null ? null : strategy.getClass();
+            if (type == null) body.writeByte(STRATEGY_NONE);
+            else if (type == MeleeAttack.class) body.writeByte(STRATEGY_MELEE);
+            else if (type == MagicAttack.class) body.writeByte(STRATEGY_MAGIC);
+            else if (type == RangedAttack.class) body.writeByte(STRATEGY_RANGED);
+            else if (type == PassiveStrategy.class) body.writeByte(STRATEGY_PASSIVE);
+            else {
+                body.writeByte(CODE_SERIALIZED);
+                writeSerialized(strategy);
+            }
+        }
+
+        // Item del inventario o Equippable del equipo (un decorador no es un Item)
+        private void writeItem(Object item) throws IOException {
+            Class<?> type = item.getClass();
+            if (type == HealthPotion.class) {
+                HealthPotion potion = (HealthPotion) item;
+                body.writeByte(ITEM_HEALTH_POTION);
+                writeNamed(potion);
+                writeVarInt(potion.getHealAmount());
+            } else if (type == ManaPotion.class) {
+                ManaPotion potion = (ManaPotion) item;
+                body.writeByte(ITEM_MANA_POTION);
+                writeNamed(potion);
+                writeVarInt(potion.getManaRestore());
+            } else if (type == Sword.class) {
+                Sword sword = (Sword) item;
+                body.writeByte(ITEM_SWORD);
+                writeNamed(sword);
+                writeVarInt(sword.getAttackBonus());
+            } else if (type == Chestplate.class) {
+                Chestplate chestplate = (Chestplate) item;
+                body.writeByte(ITEM_CHESTPLATE);
+                writeNamed(chestplate);
+                writeVarInt(chestplate.getDefenseBonus());
+            } else if (type == Shield.class) {
+                Shield shield = (Shield) item;
+                body.writeByte(ITEM_SHIELD);
+                writeNamed(shield);
+                writeVarInt(shield.getDefenseBonus());
+            } else if (type == Boots.class) {
+                Boots boots = (Boots) item;
+                body.writeByte(ITEM_BOOTS);
+                writeNamed(boots);
+                writeVarInt(boots.getDefenseBonus());
+                writeVarInt(boots.getHpBonus());
+            } else if (type == Ring.class) {
+                Ring ring = (Ring) item;
+                body.writeByte(ITEM_RING);
+                writeNamed(ring);
+                writeVarInt(ring.getAttackBonus());
+                writeVarInt(ring.getMagicBonus());
+                writeVarInt(ring.getDefenseBonus());
+            } else if (type == EnchantedWeapon.class) {
+                EnchantedWeapon weapon = (EnchantedWeapon) item;
+                body.writeByte(ITEM_ENCHANTED);
+                writeItem(weapon.getDecoratedItem());
+                writeString(weapon.getEnchantmentName());
+                writeVarInt(weapon.getBonusAttack());
+                writeVarInt(weapon.getBonusMagic());
+            } else if (type == ReinforcedArmor.class) {
+                ReinforcedArmor armor = (ReinforcedArmor) item;
+                body.writeByte(ITEM_REINFORCED);
+                writeItem(armor.getDecoratedItem());
+                writeString(armor.getReinforcementType());
+                writeVarInt(armor.getBonusDefense());
+                writeVarInt(armor.getBonusHp());
+            } else {
+                body.writeByte(CODE_SERIALIZED);
+                writeSerialized(item);
+            }
+        }
+
+        private void writeNamed(Item item) throws IOException {
+            writeString(item.getName());
+            writeString(item.getDescription());
+        }
+
+        private void writeSerialized(Object value) throws IOException {
+            if (!(value instanceof Serializable)) {
+                throw new IOException("No se puede guardar " + value.getClass().getName()
+                    + ": no tiene código en SaveCodec ni es Serializable");
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(value);
+            }
+            writeVarInt(bytes.size());
+            bytes.writeTo(body);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index == null) {
+                index = table.size();
+                strings.put(value, index);
+                table.add(value);
+            }
+            writeVarInt(index + 1);
+        }
+
+        // Zigzag + varint: los valores pequeños (también negativos) ocupan 1 byte
+        private void writeVarInt(int value) throws IOException {
+            putVarInt(body, value);
+        }
+
+        byte[] finish() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(bodyBytes.size() + table.size() * 16 + 16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            putVarInt(out, table.size());
+            for (String value : table) {
+                out.writeUTF(value);
+            }
+            bodyBytes.writeTo(out);
+            out.flush();
+            byte[] data = bytes.toByteArray();
+            byte[] result = new byte[data.length + 4];
+            System.arraycopy(data, 0, result, 0, data.length);
+            int crc = crc(data, data.length);
+            result[data.length] = (byte) (crc >>> 24);
+            result[data.length + 1] = (byte) (crc >>> 16);
+            result[data.length + 2] = (byte) (crc >>> 8);
+            result[data.length + 3] = (byte) crc;
+            return result;
+        }
+    }
+
+    private static void putVarInt(DataOutputStream out, int value) throws IOException {
+        int zigzag = (value << 1) ^ (value >> 31);
+        while ((zigzag & ~0x7F) != 0) {
+            out.writeByte((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out.writeByte(zigzag);
+    }
+
+    private static final class Reader {
+        private final DataInputStream in;
+        private String[] table;
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        GameState readState() throws IOException {
+            int count = readVarInt();
+            if (count < 0) {
+                throw new IOException("Tabla de textos inválida: " + count);
+            }
+            table = new String[count];
+            for (int i = 0; i < count; i++) {
+                table[i] = in.readUTF();
+            }
+
+            String saveName = readString();
+            LocalDateTime saveDate = in.readBoolean()
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneOffset.UTC) : null;
+            String gameVersion = readString();
+            int playTime = readVarInt();
+            int type = readVarInt();
+            CharacterType characterType = type == 0 ? null : characterType(type - 1);
+
+            Character player = readCharacter();
+            return new GameState(player, characterType, saveName, saveDate, gameVersion, playTime);
+        }
+
+        private Character readCharacter() throws IOException {
+            byte code = in.readByte();
+            if (code == CODE_SERIALIZED) {
+                return (Character) readSerialized();
+            }
+            CharacterType customType = code == CHARACTER_CUSTOM ? characterType(readVarInt()) : null;
+            String name = readString();
+            int level = readVarInt();
+            int baseAttack = readVarInt();
+            int baseMagic = readVarInt();
+            int attackBonus = readVarInt();
+            int magicBonus = readVarInt();
+            int defenseBonus = readVarInt();
+            int maxHp = readVarInt();
+            int currentHp = readVarInt();
+            int maxMana = readVarInt();
+            int currentMana = readVarInt();
+            int speed = readVarInt();
+            int currentExp = readVarInt();
+            int expToNextLevel = readVarInt();
+            int gold = readVarInt();
+            boolean defending = in.readBoolean();
+
+            Character player;
+            switch (code) {
+                case CHARACTER_WARRIOR: player = new Warrior(name); break;
+                case CHARACTER_MAGE: player = new Mage(name); break;
+                case CHARACTER_ARCHER: player = new Archer(name); break;
+                case CHARACTER_PRIEST: player = new Priest(name); break;
+                case CHARACTER_CUSTOM:
+                    player = new CustomCharacter(name, level, baseAttack, baseMagic, maxHp, maxMana, customType);
+                    break;
+                default:
+                    throw new IOException("Tipo de personaje desconocido: " + code);
+            }
+            player.restoreSavedState(level, baseAttack, baseMagic, attackBonus, magicBonus, defenseBonus,
+                maxHp, currentHp, maxMana, currentMana, speed, currentExp, expToNextLevel, gold, defending);
+            player.setAttackStrategy(readStrategy());
+
+            int items = readVarInt();
+            List<Item> inventory = player.getInventory().getItems();
+            for (int i = 0; i < items; i++) {
+                Object item = readItem();
+                if (!(item instanceof Item)) {
+                    throw new IOException("El inventario solo guarda Items: " + item.getClass().getName());
+                }
+                inventory.add((Item) item);
+            }
+
+            Equipment equipment = player.getEquipment();
+            int equipped = readVarInt();
+            for (int i = 0; i < equipped; i++) {
+                int slot = in.readUnsignedByte();
+                if (slot >= SLOTS.length) {
+                    throw new IOException("Slot desconocido: " + slot);
+                }
+                Equippable item = (Equippable) readItem();
+                StatBlock applied = null;
+                if (in.readBoolean()) {
+                    applied = new StatBlock(readVarInt(), readVarInt(), readVarInt(),
+                        readVarInt(), readVarInt(), readVarInt(), 0);
+                }
+                equipment.restore(SLOTS[slot], item, applied);
+            }
+            return player;
+        }
+
+        private AttackStrategy readStrategy() throws IOException {
+            byte code = in.readByte();
+            switch (code) {
+                case STRATEGY_NONE: return null;
+                case STRATEGY_MELEE: return new MeleeAttack();
+                case STRATEGY_MAGIC: return new MagicAttack();
+                case STRATEGY_RANGED: return new RangedAttack();
+                case STRATEGY_PASSIVE: return new PassiveStrategy();
+                case CODE_SERIALIZED: return (AttackStrategy) readSerialized();
+                default: throw new IOException("Estrategia de ataque desconocida: " + code);
+            }
+        }
+
+        private Object readItem() throws IOException {
+            byte code = in.readByte();
+            switch (code) {
+                case ITEM_HEALTH_POTION:
+                    return new HealthPotion(readString(), readString(), readVarInt());
+                case ITEM_MANA_POTION:
+                    return new ManaPotion(readString(), readString(), readVarInt());
+                case ITEM_SWORD:
+                    return new Sword(readString(), readString(), readVarInt());
+                case ITEM_CHESTPLATE:
+                    return new Chestplate(readString(), readString(), readVarInt());
+                case ITEM_SHIELD:
+                    return new Shield(readString(), readString(), readVarInt());
+                case ITEM_BOOTS:
+                    return new Boots(readString(), readString(), readVarInt(), readVarInt());
+                case ITEM_RING:
+                    return new Ring(readString(), readString(), readVarInt(), readVarInt(), readVarInt());
+                case ITEM_ENCHANTED:
+                    return new EnchantedWeapon(readEquippable(), readString(), readVarInt(), readVarInt());
+                case ITEM_REINFORCED:
+                    return new ReinforcedArmor(readEquippable(), readString(), readVarInt(), readVarInt());
+                case CODE_SERIALIZED:
+                    return readSerialized();
+                default:
+                    throw new IOException("Tipo de item desconocido: " + code);
+            }
+        }
+
+        private Equippable readEquippable() throws IOException {
+            Object item = readItem();
+            if (!(item instanceof Equippable)) {
+                throw new IOException("Un decorador solo envuelve Equippables: " + item.getClass().getName());
+            }
+            return (Equippable) item;
+        }
+
+        private Object readSerialized() throws IOException {
+            int length = readVarInt();
+            if (length < 0 || length > in.available()) {
+                throw new IOException("Objeto serializado inválido: " + length + " bytes");
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                objects.setObjectInputFilter(LEGACY_FILTER);
+                return objects.readObject();
+            } catch (ClassNotFoundException e) {
+                throw new IOException("Clase desconocida en la partida: " + e.getMessage(), e);
+            }
+        }
+
+        private String readString() throws IOException {
+            int index = readVarInt();
+            if (index == 0) {
+                return null;
+            }
+            if (index < 0 || index > table.length) {
+                throw new IOException("Texto fuera de la tabla: " + index);
+            }
+            return table[index - 1];
+        }
+
+        private int readVarInt() throws IOException {
+            int zigzag = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                zigzag |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IOException("Varint demasiado largo");
+        }
+    }
+
+    private static CharacterType characterType(int ordinal) throws IOException {
+        if (ordinal < 0 || ordinal >= CHARACTER_TYPES.length) {
+            throw new IOException("Tipo de clase desconocido: " + ordinal);
+        }
+        return CHARACTER_TYPES[ordinal];
+    }
+
+    private static byte characterCode(Character player) {
+        Class<?> type = player.getClass();
+        if (type == Warrior.class) return CHARACTER_WARRIOR;
+        if (type == Mage.class) return CHARACTER_MAGE;
+        if (type == Archer.class) return CHARACTER_ARCHER;
+        if (type == Priest.class) return CHARACTER_PRIEST;
+        if (type == CustomCharacter.class) return CHARACTER_CUSTOM;
+        return CODE_SERIALIZED;
+    }
+}
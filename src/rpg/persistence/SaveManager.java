@@ -5,6 +5,8 @@ import java.nio.file.*;
 import java.util.*;
 import rpg.core.Character;
 import rpg.factory.CharacterType;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Gestor de persistencia del juego - Sistema Mejorado.
@@ -30,7 +32,13 @@ import rpg.factory.CharacterType;
  *   |- autosave.sav
  * 
  * FORMATO:
- * Archivos .sav binarios (serialización Java)
+ * Archivos .sav binarios con versión (ver SaveCodec): solo campos primitivos,
+ * tabla de textos y un código por tipo de item, con CRC32.
+ * 
+ * MIGRACIÓN:
+ * Los .sav antiguos (serialización Java, ObjectOutputStream) se siguen
+ * cargando: al leer uno, se reescribe en el formato nuevo y el original
+ * queda como .sav.bak.
  */
 public class SaveManager {
     
@@ -47,7 +55,7 @@ public class SaveManager {
                 Files.createDirectory(savesPath);
             }
         } catch (IOException e) {
-            System.err.println("Error creando carpeta de saves: " + e.getMessage());
+            GameLogger.error(Category.PERSISTENCE, "Error creando carpeta de saves: {}", e.getMessage());
         }
     }
     
@@ -62,7 +70,7 @@ public class SaveManager {
     public boolean saveGame(Character player, CharacterType characterType, 
                            int slotNumber, String saveName) {
         if (slotNumber < 1 || slotNumber > MAX_SLOTS) {
-            System.err.println("Slot inválido: " + slotNumber);
+            GameLogger.warn(Category.PERSISTENCE, "Slot inválido: {}", slotNumber);
             return false;
         }
         
@@ -89,16 +97,13 @@ public class SaveManager {
      * Método interno para guardar GameState.
      */
     private boolean saveGameState(GameState gameState, String filepath) {
-        try (FileOutputStream fos = new FileOutputStream(filepath);
-             ObjectOutputStream oos = new ObjectOutputStream(fos)) {
-            
-            oos.writeObject(gameState);
-            System.out.println("Partida guardada en " + filepath);
+        try {
+            Files.write(Paths.get(filepath), SaveCodec.encode(gameState));
+            GameLogger.info(Category.PERSISTENCE, "Partida guardada en {}", filepath);
             return true;
 
         } catch (Exception e) {
-            System.err.println("Error al guardar la partida: " + e.getMessage());
-            e.printStackTrace();
+            GameLogger.error(Category.PERSISTENCE, "Error al guardar la partida: {}", e.getMessage(), e);
             return false;
         }
     }
@@ -110,7 +115,7 @@ public class SaveManager {
      */
     public GameState loadGameFromSlot(int slotNumber) {
         if (slotNumber < 1 || slotNumber > MAX_SLOTS) {
-            System.err.println("Slot inválido: " + slotNumber);
+            GameLogger.warn(Category.PERSISTENCE, "Slot inválido: {}", slotNumber);
             return null;
         }
         
@@ -133,23 +138,43 @@ public class SaveManager {
      * Método interno para cargar GameState.
      */
     private GameState loadGameState(String filepath) {
-        try (FileInputStream fis = new FileInputStream(filepath);
-             ObjectInputStream ois = new ObjectInputStream(fis)) {
-            
-            GameState gameState = (GameState) ois.readObject();
-            System.out.println("Partida cargada desde " + filepath);
+        try {
+            byte[] data = Files.readAllBytes(Paths.get(filepath));
+            GameState gameState;
+            if (SaveCodec.isLegacy(data)) {
+                gameState = SaveCodec.decodeLegacy(data);
+                migrate(gameState, filepath);
+            } else {
+                gameState = SaveCodec.decode(data);
+            }
+            GameLogger.info(Category.PERSISTENCE, "Partida cargada desde {}", filepath);
             return gameState;
 
-        } catch (FileNotFoundException e) {
-            System.err.println("Archivo no encontrado: " + filepath);
+        } catch (NoSuchFileException e) {
+            GameLogger.warn(Category.PERSISTENCE, "Archivo no encontrado: {}", filepath);
             return null;
         } catch (Exception e) {
-            System.err.println("Error al cargar la partida: " + e.getMessage());
-            e.printStackTrace();
+            GameLogger.error(Category.PERSISTENCE, "Error al cargar la partida: {}", e.getMessage(), e);
             return null;
         }
     }
     
+    /**
+     * Reescribe un .sav antiguo en el formato nuevo (el original queda como .bak).
+     * Si no se puede, la partida se usa igual y se vuelve a intentar la próxima vez.
+     */
+    private void migrate(GameState gameState, String filepath) {
+        try {
+            byte[] migrated = SaveCodec.encode(gameState);
+            Path path = Paths.get(filepath);
+            Files.copy(path, Paths.get(filepath + ".bak"), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(path, migrated);
+            GameLogger.info(Category.PERSISTENCE, "Partida antigua migrada al formato binario: {}", filepath);
+        } catch (IOException e) {
+            GameLogger.warn(Category.PERSISTENCE, "No se pudo migrar {}: {}", filepath, e.getMessage());
+        }
+    }
+    
     /**
      * Obtiene información de todos los slots guardados.
      * @return Lista de GameState (null en slots vacíos)
@@ -188,10 +213,10 @@ public class SaveManager {
         try {
             String filename = SAVES_FOLDER + File.separator + "slot" + slotNumber + ".sav";
             Files.deleteIfExists(Paths.get(filename));
-            System.out.println("Save eliminado: slot " + slotNumber);
+            GameLogger.info(Category.PERSISTENCE, "Save eliminado: slot {}", slotNumber);
             return true;
         } catch (IOException e) {
-            System.err.println("Error eliminando save: " + e.getMessage());
+            GameLogger.error(Category.PERSISTENCE, "Error eliminando save: {}", e.getMessage());
             return false;
         }
     }
@@ -0,0 +1,549 @@
+package rpg.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import rpg.core.Character;
+import rpg.core.GameConstants;
+import rpg.core.GameContext;
+import rpg.events.CombatLog;
+import rpg.events.EventType;
+import rpg.events.GameEvent;
+import rpg.events.GameEventManager;
+import rpg.events.MessageTemplate;
+import rpg.events.TypedEventListener;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
+
+/**
+ * Diario de sesión en disco: registros de eventos + snapshots periódicos.
+ *
+ * PROPÓSITO:
+ * - SaveManager solo guarda cuando el jugador lo pide (la partida
+ *   completa): si el juego se cae, se pierde todo lo demás
+ * - El diario escucha el GameEventManager de la sesión y anota cada cambio
+ *   del jugador en un archivo mapeado en memoria (append-only): anotar es
+ *   escribir 32 bytes en memoria, sin llamadas al sistema
+ * - Cada cierto tiempo guarda un snapshot compacto y vacía el diario
+ * - Tras una caída: recover() carga el último snapshot y aplica la cola del
+ *   diario (milisegundos)
+ *
+ * ARCHIVOS (en el directorio de la sesión):
+ * - journal.dat: cabecera (32 bytes) + registros de 32 bytes
+ * - snapshot-0.dat / snapshot-1.dat: cabecera + GameState en formato
+ *   SaveCodec (con CRC32); las épocas pares van a uno y las impares al otro
+ *   (snapshot.dat: el de versiones anteriores, solo se lee)
+ *
+ * REGISTRO (32 bytes): marca, tipo de evento, plantilla, cantidad y el
+ * estado del jugador después del evento (HP, maná, oro, XP, nivel).
+ * La marca se escribe la última: un registro a medias no cuenta.
+ *
+ * SNAPSHOTS (snapshot()):
+ * - Al ganar una batalla (ENEMY_DEFEATED, con el botín ya repartido), al
+ *   subir de nivel, al cambiar de jugador, cada
+ *   GameConstants.SESSION_SNAPSHOT_INTERVAL registros y al llenarse el diario
+ * - Cada snapshot abre una "época" nueva: el diario vuelve a empezar y los
+ *   registros de la época anterior dejan de ser válidos (su marca no coincide)
+ * - El snapshot se escribe en un temporal y se renombra: siempre hay uno completo
+ *
+ * SNAPSHOTS FUERA DEL HILO DEL JUEGO:
+ * - En el hilo del juego solo se codifica el estado (SaveCodec, en memoria);
+ *   escribir, hacer fsync y renombrar lo hace el hilo "rpg-session-writer"
+ * - Mientras tanto el diario sigue anotando en la época anterior, cuyo
+ *   snapshot sigue en su archivo: si el juego se cae antes de que termine,
+ *   se recupera como si el snapshot nuevo no se hubiera pedido
+ * - Cuando el snapshot nuevo ya está en disco, el siguiente evento cambia de
+ *   época (y pasa a la nueva el último registro anotado después de codificarlo)
+ * - Uno a la vez: los snapshot() que llegan mientras tanto se juntan en uno
+ * - Si la escritura falla, se registra en GameLogger (Category.PERSISTENCE)
+ *   y el diario sigue con el snapshot anterior: la batalla no se interrumpe
+ *
+ * QUÉ SE RECUPERA:
+ * - HP, maná, oro y XP: hasta el último evento anotado
+ * - Inventario, equipo y nivel: los del último snapshot
+ * - Una batalla a medias no se recupera (se vuelve fuera de combate)
+ *
+ * DURABILIDAD: si se cae el proceso, lo escrito en el mapa ya está en la
+ * caché de páginas del sistema y llega al disco. Para sobrevivir a un corte
+ * de luz hay que llamar a sync() (los snapshots ya hacen fsync, en el hilo
+ * de escritura).
+ *
+ * USO (GameSession.startJournal() y GameSessionHost.recoverSession() lo
+ * hacen por una sesión alojada):
+ * SessionJournal journal = SessionJournal.attach(context, Paths.get("sessions", "42"));
+ * ... (se juega; el diario escucha los eventos)
+ * journal.close();
+ *
+ * GameState state = SessionJournal.recover(Paths.get("sessions", "42"));
+ * context.loadPlayer(state.getPlayer(), state.getCharacterType());
+ *
+ * NO ES THREAD-SAFE: uno por sesión, con el bus de eventos en modo síncrono
+ * (lee el estado del jugador en el hilo que notifica). El hilo de escritura
+ * solo toca los archivos de snapshot.
+ */
+public class SessionJournal implements AutoCloseable {
+
+    private static final String JOURNAL_FILE = "journal.dat";
+    private static final String[] SNAPSHOT_FILES = { "snapshot-0.dat", "snapshot-1.dat" }; // [época & 1]
+    private static final String LEGACY_SNAPSHOT_FILE = "snapshot.dat";
+
+    // Un solo hilo escribe los snapshots de todos los diarios (daemon)
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rpg-session-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int JOURNAL_MAGIC = 0x524A4E4C;  // "RJNL"
+    private static final int SNAPSHOT_MAGIC = 0x52534E50; // "RSNP"
+    private static final int VERSION = 1;
+    private static final int SNAPSHOT_VERSION = 2; // 1 = GameState con ObjectOutputStream; 2 = SaveCodec
+
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 32;
+
+    // Eventos que se escuchan
+    private static final EventType[] TRACKED = {
+        EventType.PLAYER_HP_CHANGED, EventType.PLAYER_MANA_CHANGED, EventType.PLAYER_GOLD_CHANGED,
+        EventType.PLAYER_XP_CHANGED, EventType.PLAYER_LEVELED_UP, EventType.PLAYER_DIED,
+        EventType.ENEMY_DEFEATED
+    };
+
+    private final GameContext context;
+    private final Path directory;
+    private final FileChannel channel;
+    private final MappedByteBuffer journal;
+    private final int capacity;
+    private final TypedEventListener listener = this::onEvent;
+
+    private long epoch;
+    private int position;       // Registros de la época actual
+    private int sinceSnapshot;
+    private Character snapshotPlayer; // El del último snapshot pedido
+    private Character epochPlayer;    // El del snapshot de la época actual (ya en disco)
+    private boolean closed;
+
+    // --- Snapshot en escritura (hilo del juego, salvo los volátiles) ---
+    private Future<?> pendingWrite;     // null = ninguno
+    private long pendingEpoch;
+    private int pendingFrom;            // Registros anotados antes de codificarlo
+    private boolean snapshotRequested;  // Se pidió otro mientras se escribía
+    private volatile long writtenEpoch; // Último snapshot en disco (lo anota el hilo de escritura)
+
+    private SessionJournal(GameContext context, Path directory, int capacity) throws IOException {
+        this.context = context;
+        this.directory = directory;
+        this.capacity = capacity;
+        Files.createDirectories(directory);
+        this.channel = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.journal = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+        this.epoch = readEpoch(journal);
+    }
+
+    /**
+     * Empieza a anotar la partida de 'context' en 'directory' (toma un
+     * snapshot inicial). El contexto debe tener jugador.
+     * @throws IllegalStateException si no hay jugador o el bus está en modo asíncrono
+     */
+    public static SessionJournal attach(GameContext context, Path directory) throws IOException {
+        return attach(context, directory, GameConstants.SESSION_JOURNAL_CAPACITY);
+    }
+
+    /**
+     * @param capacity Registros que caben en el diario antes de un snapshot forzoso
+     */
+    public static SessionJournal attach(GameContext context, Path directory, int capacity) throws IOException {
+        if (context.getPlayer() == null) {
+            throw new IllegalStateException("La partida no tiene jugador");
+        }
+        if (context.getEvents().getAsyncDispatcher() != null) {
+            throw new IllegalStateException("El diario necesita el bus de eventos en modo síncrono");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacity);
+        }
+        SessionJournal sessionJournal = new SessionJournal(context, directory, capacity);
+        sessionJournal.snapshotNow(); // El primero en el acto: si falla, attach() falla
+        GameEventManager events = context.getEvents();
+        for (EventType type : TRACKED) {
+            events.subscribe(type, sessionJournal.listener);
+        }
+        return sessionJournal;
+    }
+
+    // --- Anotar ---
+
+    private void onEvent(GameEvent event) {
+        Character player = context.getPlayer();
+        if (closed || player == null) {
+            return;
+        }
+        settle();
+        if (player != snapshotPlayer) {
+            snapshot(); // Partida nueva o cargada: el snapshot anterior ya no sirve
+            return;
+        }
+        if (player != epochPlayer) {
+            return; // Su snapshot aún se está escribiendo: la época actual es de otro jugador
+        }
+        switch (event.getType()) {
+            case ENEMY_DEFEATED:
+            case PLAYER_LEVELED_UP:
+                snapshot();
+                return;
+            default:
+                if (event.getSource() != player) {
+                    return;
+                }
+                break;
+        }
+        append(event, player);
+    }
+
+    private void append(GameEvent event, Character player) {
+        if (position == capacity) {
+            // Diario lleno: hay que esperar al snapshot en curso para poder vaciarlo
+            awaitPendingWrite();
+            if (position == capacity) {
+                snapshot();
+                awaitPendingWrite();
+                return; // El snapshot ya incluye este cambio
+            }
+        }
+        int offset = HEADER_SIZE + position * RECORD_SIZE;
+        MessageTemplate template = event.getTemplate();
+        journal.put(offset + 4, (byte) event.getType().ordinal());
+        journal.put(offset + 5, (byte) (template == null ? 0 : template.ordinal() + 1));
+        journal.putShort(offset + 6, (short) 0);
+        journal.putInt(offset + 8, event.getAmount());
+        journal.putInt(offset + 12, player.getCurrentHp());
+        journal.putInt(offset + 16, player.getCurrentMana());
+        journal.putInt(offset + 20, player.getGold());
+        journal.putInt(offset + 24, player.getCurrentExp());
+        journal.putInt(offset + 28, player.getLevel());
+        journal.putInt(offset, marker(epoch)); // La marca al final: el registro queda completo
+        position++;
+        if (++sinceSnapshot >= GameConstants.SESSION_SNAPSHOT_INTERVAL) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Pide un snapshot del estado completo del jugador: se codifica aquí y
+     * se escribe en el hilo de escritura. El diario pasa a una época nueva
+     * cuando ya está en disco. Si hay uno escribiéndose, se hará al terminar.
+     */
+    public void snapshot() {
+        Character player = context.getPlayer();
+        if (player == null) {
+            return;
+        }
+        settle();
+        if (pendingWrite != null) {
+            snapshotRequested = true;
+            return;
+        }
+        byte[] body;
+        try {
+            body = SaveCodec.encode(new GameState(player, context.getCharacterType(), "journal"));
+        } catch (IOException e) {
+            GameLogger.error(Category.PERSISTENCE, "No se pudo codificar el snapshot de {}: {}",
+                directory, e.getMessage(), e);
+            return;
+        }
+        long next = epoch + 1;
+        pendingEpoch = next;
+        pendingFrom = position;
+        sinceSnapshot = 0;
+        snapshotPlayer = player;
+        pendingWrite = WRITER.submit(() -> {
+            try {
+                writeSnapshot(directory, next, body);
+                writtenEpoch = next;
+            } catch (IOException | RuntimeException e) {
+                GameLogger.error(Category.PERSISTENCE, "No se pudo escribir el snapshot en {}: {}",
+                    directory, e.getMessage(), e);
+            }
+        });
+    }
+
+    // Escribe un snapshot en este hilo (attach() y close()): los errores se propagan
+    private void snapshotNow() throws IOException {
+        snapshotRequested = false; // Este lo sustituye
+        awaitPendingWrite();
+        Character player = context.getPlayer();
+        if (player == null) {
+            return;
+        }
+        long next = epoch + 1;
+        writeSnapshot(directory, next, SaveCodec.encode(new GameState(player, context.getCharacterType(), "journal")));
+        snapshotPlayer = player;
+        epochPlayer = player;
+        sinceSnapshot = 0;
+        startEpoch(next, -1);
+    }
+
+    // Si el snapshot en escritura ya terminó, cambia de época (o se queda en la actual si falló)
+    private void settle() {
+        if (pendingWrite == null || !pendingWrite.isDone()) {
+            return;
+        }
+        pendingWrite = null;
+        if (writtenEpoch == pendingEpoch) {
+            // El último registro anotado después de codificar sigue valiendo en la época nueva
+            epochPlayer = snapshotPlayer;
+            startEpoch(pendingEpoch, position > pendingFrom ? position - 1 : -1);
+        } else {
+            snapshotPlayer = epochPlayer; // Falló: se sigue con el anterior (y se reintenta si cambió el jugador)
+        }
+        if (snapshotRequested) {
+            snapshotRequested = false;
+            snapshot();
+        }
+    }
+
+    private void awaitPendingWrite() {
+        Future<?> write = pendingWrite;
+        if (write == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                write.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break; // La tarea ya registra sus errores
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        settle();
+    }
+
+    // Con el snapshot de 'next' ya en disco, el diario anterior sobra
+    private void startEpoch(long next, int carried) {
+        if (carried >= 0) {
+            // Copia el registro (sin la marca) al principio de la época nueva
+            for (int i = 4; i < RECORD_SIZE; i += 4) {
+                journal.putInt(HEADER_SIZE + i, journal.getInt(HEADER_SIZE + carried * RECORD_SIZE + i));
+            }
+            journal.putInt(HEADER_SIZE, marker(next));
+        }
+        epoch = next;
+        journal.putLong(8, epoch);
+        journal.putInt(0, JOURNAL_MAGIC);
+        journal.putInt(4, VERSION);
+        position = carried >= 0 ? 1 : 0;
+    }
+
+    /**
+     * Fuerza los registros al disco (para sobrevivir también a un corte de luz).
+     */
+    public void sync() {
+        journal.force();
+    }
+
+    /**
+     * Deja de escuchar y toma un último snapshot.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        GameEventManager events = context.getEvents();
+        for (EventType type : TRACKED) {
+            events.unsubscribe(type, listener);
+        }
+        snapshotNow();
+        closed = true;
+        journal.force();
+        channel.close();
+    }
+
+    /**
+     * @return Registros anotados desde el último snapshot
+     */
+    public int getPendingRecords() {
+        return position;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // --- Recuperar ---
+
+    /**
+     * Reconstruye la partida: el último snapshot más la cola del diario.
+     * @return El estado recuperado, o null si el directorio no tiene snapshot
+     */
+    public static GameState recover(Path directory) throws IOException {
+        Path journalFile = directory.resolve(JOURNAL_FILE);
+        long journalEpoch = Files.exists(journalFile) ? journalEpoch(journalFile) : -1;
+
+        // El snapshot de la época del diario; si no está, el más reciente
+        Snapshot chosen = null;
+        IOException damaged = null;
+        for (String name : new String[] { SNAPSHOT_FILES[0], SNAPSHOT_FILES[1], LEGACY_SNAPSHOT_FILE }) {
+            Path file = directory.resolve(name);
+            if (!Files.exists(file)) {
+                continue;
+            }
+            Snapshot candidate;
+            try {
+                candidate = readSnapshot(file);
+            } catch (IOException e) {
+                damaged = e;
+                continue;
+            }
+            if (chosen == null || candidate.epoch == journalEpoch
+                    || (chosen.epoch != journalEpoch && candidate.epoch > chosen.epoch)) {
+                chosen = candidate;
+            }
+        }
+        if (chosen == null) {
+            if (damaged != null) {
+                throw damaged;
+            }
+            return null;
+        }
+        GameState state = chosen.version == 1 ? SaveCodec.decodeLegacy(chosen.body) : SaveCodec.decode(chosen.body);
+        if (chosen.epoch == journalEpoch) {
+            replayTail(journalFile, chosen.epoch, state.getPlayer());
+        }
+        return state;
+    }
+
+    private static final class Snapshot {
+        final int version;
+        final long epoch;
+        final byte[] body;
+
+        Snapshot(int version, long epoch, byte[] body) {
+            this.version = version;
+            this.epoch = epoch;
+            this.body = body;
+        }
+    }
+
+    private static Snapshot readSnapshot(Path snapshotFile) throws IOException {
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(snapshotFile));
+        if (snapshot.remaining() < 24 || snapshot.getInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Snapshot inválido: " + snapshotFile);
+        }
+        int version = snapshot.getInt();
+        if (version < 1 || version > SNAPSHOT_VERSION) {
+            throw new IOException("Snapshot de una versión desconocida (" + version + "): " + snapshotFile);
+        }
+        long epoch = snapshot.getLong();
+        int length = snapshot.getInt();
+        int crc = snapshot.getInt();
+        if (length < 0 || length > snapshot.remaining() || crc(snapshot.array(), 24, length) != crc) {
+            throw new IOException("Snapshot dañado: " + snapshotFile);
+        }
+        return new Snapshot(version, epoch, Arrays.copyOfRange(snapshot.array(), 24, 24 + length));
+    }
+
+    // Época de la cabecera del diario (-1 si no es un diario válido)
+    private static long journalEpoch(Path journalFile) throws IOException {
+        try (FileChannel in = FileChannel.open(journalFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && in.read(header) >= 0) {
+                // Lee la cabecera completa
+            }
+            if (header.position() < HEADER_SIZE || header.getInt(0) != JOURNAL_MAGIC) {
+                return -1;
+            }
+            return header.getLong(8);
+        }
+    }
+
+    // Aplica el último registro válido de la época del snapshot
+    private static void replayTail(Path journalFile, long epoch, Character player) throws IOException {
+        try (FileChannel in = FileChannel.open(journalFile, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size < HEADER_SIZE) {
+                return;
+            }
+            MappedByteBuffer data = in.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (data.getInt(0) != JOURNAL_MAGIC || data.getLong(8) != epoch) {
+                return; // Diario de otra época: el snapshot ya lo incluye
+            }
+            int mark = marker(epoch);
+            int last = -1;
+            for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= size && data.getInt(offset) == mark;
+                    offset += RECORD_SIZE) {
+                last = offset;
+            }
+            if (last < 0) {
+                return;
+            }
+            boolean previous = CombatLog.setSilent(true); // Restaurar no es jugar: sin eventos
+            try {
+                player.setCurrentHp(data.getInt(last + 12));
+                player.setCurrentMana(data.getInt(last + 16));
+                player.restoreProgress(data.getInt(last + 20), data.getInt(last + 24));
+            } finally {
+                CombatLog.setSilent(previous);
+            }
+        }
+    }
+
+    // --- Formato ---
+
+    private static void writeSnapshot(Path directory, long epoch, byte[] body) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(24);
+        header.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putLong(epoch).putInt(body.length)
+            .putInt(crc(body, 0, body.length)).flip();
+
+        String name = SNAPSHOT_FILES[(int) (epoch & 1)];
+        Path temp = directory.resolve(name + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] parts = { header, ByteBuffer.wrap(body) };
+            while (parts[1].hasRemaining()) {
+                out.write(parts);
+            }
+            out.force(true);
+        }
+        try {
+            Files.move(temp, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long readEpoch(MappedByteBuffer journal) {
+        return journal.getInt(0) == JOURNAL_MAGIC ? journal.getLong(8) : 0;
+    }
+
+    // Marca de los registros de una época (nunca 0: un archivo nuevo está a ceros)
+    private static int marker(long epoch) {
+        int mark = JOURNAL_MAGIC ^ (int) (epoch ^ (epoch >>> 32)) * 0x9E3779B1;
+        return mark == 0 ? 1 : mark;
+    }
+
+    private static int crc(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+}
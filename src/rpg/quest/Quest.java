@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import rpg.inventory.Item;
+import rpg.logging.Category;
+import rpg.logging.GameLogger;
 
 /**
  * Representa una misión (quest) en el juego.
@@ -144,7 +146,7 @@ public class Quest implements Serializable {
     public void start() {
         if (this.status == QuestStatus.AVAILABLE) {
             this.status = QuestStatus.ACTIVE;
-            System.out.println("Misión iniciada: " + this.title);
+            GameLogger.info(Category.QUEST, "Misión iniciada: {}", this.title);
         }
     }
     
@@ -154,13 +156,13 @@ public class Quest implements Serializable {
     public void complete() {
         if (this.status == QuestStatus.ACTIVE) {
             this.status = QuestStatus.COMPLETED;
-            System.out.println("¡Misión completada: " + this.title + "!");
+            GameLogger.info(Category.QUEST, "¡Misión completada: {}!", this.title);
             if (experienceReward > 0 || goldReward > 0 || !itemRewards.isEmpty()) {
-                System.out.println("Recompensas obtenidas!");
-                if (experienceReward > 0) System.out.println("- " + experienceReward + " XP");
-                if (goldReward > 0) System.out.println("- " + goldReward + " Oro");
+                GameLogger.info(Category.QUEST, "Recompensas obtenidas!");
+                if (experienceReward > 0) GameLogger.info(Category.QUEST, "- {} XP", experienceReward);
+                if (goldReward > 0) GameLogger.info(Category.QUEST, "- {} Oro", goldReward);
                 for (Item item : itemRewards) {
-                    System.out.println("- " + item.getName());
+                    GameLogger.info(Category.QUEST, "- {}", item.getName());
                 }
             }
         }
@@ -0,0 +1,352 @@
+package rpg.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import rpg.core.Character;
+import rpg.core.EnemyGroup;
+import rpg.core.GameConstants;
+import rpg.factory.CharacterFactory;
+import rpg.factory.CharacterType;
+import rpg.factory.EnemyFactory;
+import rpg.factory.EnemyType;
+
+/**
+ * Diario binario compacto de una batalla.
+ *
+ * PROPÓSITO:
+ * - Cuando un jugador reporta un combate raro, el texto de NEW_MESSAGE_LOGGED
+ *   no basta: el diario permite repetir la batalla exacta (ReplayEngine)
+ * - Guarda solo lo mínimo: semilla, participantes y 1 byte por acción
+ *
+ * CONTENIDO:
+ * - Semilla del GameRandom de la batalla
+ * - Héroe: CharacterType, nombre y stats de combate al empezar; ataque y
+ *   magia base por un lado y bonus de equipo por otro (las habilidades
+ *   especiales escalan solo la stat base)
+ * - Enemigos: nombre del grupo (si lo hay) y EnemyType + HP de cada miembro
+ * - Acciones: un código por llamada a BattleManager (ATTACK, ENEMY_TURN, ...)
+ * - Resultado: HP final del héroe y de los enemigos, para verificar la repetición
+ *
+ * MEMORIA ACOTADA:
+ * Como mucho GameConstants.MAX_JOURNAL_ACTIONS acciones; las siguientes no se
+ * graban y el diario queda marcado como truncado (isTruncated()).
+ *
+ * FORMATO (DataOutputStream, big-endian):
+ * "RPGJ" | versión (byte) | semilla (long)
+ * | tipo héroe (byte) | nombre (UTF) | 13 ints de stats | defendiendo (boolean)
+ * | es grupo (boolean) [| nombre del grupo (UTF)] | nº enemigos (int) | (tipo byte, hp int)*
+ * | nº acciones (int) | acciones (bytes) | truncado (boolean) | hp final héroe (int) | hp final enemigos (int)
+ *
+ * @see ReplayEngine
+ */
+public class BattleJournal {
+
+    // --- Códigos de acción (1 byte cada uno) ---
+
+    /** BattleManager.playerTurn(): el héroe ataca al encuentro completo */
+    public static final byte PLAYER_TURN = 1;
+    /** BattleManager.playerAttack(): el héroe ataca al enemigo actual */
+    public static final byte ATTACK = 2;
+    /** BattleManager.playerSpecialAbility() */
+    public static final byte SPECIAL = 3;
+    /** BattleManager.playerDefend() */
+    public static final byte DEFEND = 4;
+    /** BattleManager.tryFlee() */
+    public static final byte FLEE = 5;
+    /** BattleManager.enemyTurn(): actúan todos los enemigos vivos */
+    public static final byte ENEMY_TURN = 6;
+    /** BattleManager.currentEnemyTurn(): actúa solo el enemigo actual */
+    public static final byte CURRENT_ENEMY_TURN = 7;
+
+    private static final int MAGIC = 0x52504A47; // "RPGJ"
+    private static final byte VERSION = 2;
+    private static final int ENEMY_ENTRY_SIZE = 5; // Tipo (1 byte) + HP (int)
+
+    // --- Cabecera ---
+    private final long seed;
+    private final CharacterType heroType;
+    private final String heroName;
+    private final int heroLevel;
+    private final int heroAttack;
+    private final int heroMagic;
+    private final int heroAttackBonus;
+    private final int heroMagicBonus;
+    private final int heroDefense;
+    private final int heroMaxHp;
+    private final int heroHp;
+    private final int heroMaxMana;
+    private final int heroMana;
+    private final int heroExp;
+    private final int heroExpToNextLevel;
+    private final int heroGold;
+    private final boolean heroDefending;
+    private final String groupName; // null si es un solo enemigo
+    private final byte[] enemyTypes;
+    private final int[] enemyHp;
+
+    // --- Acciones ---
+    private byte[] actions;
+    private int actionCount;
+    private boolean truncated;
+
+    // --- Resultado (se actualiza tras cada acción) ---
+    private int finalHeroHp;
+    private int finalEnemyHp;
+
+    private BattleJournal(long seed, CharacterType heroType, String heroName, int[] heroStats,
+                          boolean heroDefending, String groupName, byte[] enemyTypes, int[] enemyHp) {
+        this.seed = seed;
+        this.heroType = heroType;
+        this.heroName = heroName;
+        this.heroLevel = heroStats[0];
+        this.heroAttack = heroStats[1];
+        this.heroMagic = heroStats[2];
+        this.heroAttackBonus = heroStats[3];
+        this.heroMagicBonus = heroStats[4];
+        this.heroDefense = heroStats[5];
+        this.heroMaxHp = heroStats[6];
+        this.heroHp = heroStats[7];
+        this.heroMaxMana = heroStats[8];
+        this.heroMana = heroStats[9];
+        this.heroExp = heroStats[10];
+        this.heroExpToNextLevel = heroStats[11];
+        this.heroGold = heroStats[12];
+        this.heroDefending = heroDefending;
+        this.groupName = groupName;
+        this.enemyTypes = enemyTypes;
+        this.enemyHp = enemyHp;
+        this.actions = new byte[16];
+        this.finalHeroHp = heroHp;
+        this.finalEnemyHp = sum(enemyHp);
+    }
+
+    /**
+     * Empieza el diario de una batalla que aún no ha comenzado.
+     * IMPORTANTE: 'seed' solo reproduce la batalla si su GameRandom no se ha usado todavía.
+     * @return El diario, o null si la batalla no se puede reconstruir
+     *         (ej. un CustomCharacter, un enemigo que no sale de EnemyFactory
+     *         o alguien con una velocidad distinta de la base)
+     */
+    public static BattleJournal begin(Character player, Character enemies, long seed) {
+        CharacterType heroType = CharacterFactory.typeOf(player);
+        if (heroType == null || player.getSpeed() != GameConstants.BASE_SPEED) return null;
+
+        Character[] members;
+        String groupName = null;
+        if (enemies instanceof EnemyGroup) {
+            members = ((EnemyGroup) enemies).getMembers().toArray(new Character[0]);
+            groupName = enemies.getName();
+        } else {
+            members = new Character[] { enemies };
+        }
+
+        byte[] types = new byte[members.length];
+        int[] hp = new int[members.length];
+        for (int i = 0; i < members.length; i++) {
+            EnemyType type = EnemyFactory.typeOf(members[i]);
+            if (type == null || members[i].getSpeed() != GameConstants.BASE_SPEED) return null;
+            types[i] = (byte) type.ordinal();
+            hp[i] = members[i].getCurrentHp();
+        }
+
+        // getBaseAttack()/getBaseMagic() ya incluyen el equipo
+        int[] stats = {
+            player.getLevel(),
+            player.getBaseAttack() - player.getAttackBonus(), player.getBaseMagic() - player.getMagicBonus(),
+            player.getAttackBonus(), player.getMagicBonus(), player.getDefense(),
+            player.getMaxHp(), player.getCurrentHp(), player.getMaxMana(), player.getCurrentMana(),
+            player.getCurrentExp(), player.getExpToNextLevel(), player.getGold()
+        };
+        return new BattleJournal(seed, heroType, player.getName(), stats, player.isDefending(),
+            groupName, types, hp);
+    }
+
+    /**
+     * Anota una acción (la llama BattleManager).
+     */
+    public void record(byte action) {
+        if (actionCount == GameConstants.MAX_JOURNAL_ACTIONS) {
+            truncated = true;
+            return;
+        }
+        if (actionCount == actions.length) {
+            actions = Arrays.copyOf(actions, Math.min(actions.length * 2, GameConstants.MAX_JOURNAL_ACTIONS));
+        }
+        actions[actionCount++] = action;
+    }
+
+    /**
+     * Marca el diario como incompleto: pasó algo que no se graba
+     * (ej. un cambio de velocidad con BattleManager.setSpeed()).
+     */
+    public void markTruncated() {
+        truncated = true;
+    }
+
+    /**
+     * Anota el estado tras la última acción (la llama BattleManager).
+     */
+    public void recordOutcome(int heroHp, int enemyHp) {
+        this.finalHeroHp = heroHp;
+        this.finalEnemyHp = enemyHp;
+    }
+
+    // --- Serialización binaria ---
+
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + enemyTypes.length * ENEMY_ENTRY_SIZE + actionCount);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+
+            out.writeByte(heroType.ordinal());
+            out.writeUTF(heroName);
+            int[] stats = {
+                heroLevel, heroAttack, heroMagic, heroAttackBonus, heroMagicBonus, heroDefense,
+                heroMaxHp, heroHp, heroMaxMana, heroMana, heroExp, heroExpToNextLevel, heroGold
+            };
+            for (int stat : stats) {
+                out.writeInt(stat);
+            }
+            out.writeBoolean(heroDefending);
+
+            out.writeBoolean(groupName != null);
+            if (groupName != null) {
+                out.writeUTF(groupName);
+            }
+            out.writeInt(enemyTypes.length);
+            for (int i = 0; i < enemyTypes.length; i++) {
+                out.writeByte(enemyTypes[i]);
+                out.writeInt(enemyHp[i]);
+            }
+
+            out.writeInt(actionCount);
+            out.write(actions, 0, actionCount);
+            out.writeBoolean(truncated);
+            out.writeInt(finalHeroHp);
+            out.writeInt(finalEnemyHp);
+        } catch (IOException e) {
+            // Un ByteArrayOutputStream no lanza IOException
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Lee un diario escrito con toByteArray().
+     * @throws IOException Si los bytes no son un diario válido
+     */
+    public static BattleJournal fromByteArray(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("No es un diario de batalla");
+            }
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Versión de diario no soportada: " + version);
+            }
+            long seed = in.readLong();
+
+            int heroTypeIndex = in.readUnsignedByte();
+            CharacterType[] heroTypes = CharacterType.values();
+            if (heroTypeIndex >= heroTypes.length) {
+                throw new IOException("Tipo de héroe inválido: " + heroTypeIndex);
+            }
+            CharacterType heroType = heroTypes[heroTypeIndex];
+            String heroName = in.readUTF();
+            int[] stats = new int[13];
+            for (int i = 0; i < stats.length; i++) {
+                stats[i] = in.readInt();
+            }
+            boolean heroDefending = in.readBoolean();
+
+            String groupName = in.readBoolean() ? in.readUTF() : null;
+            int enemyCount = in.readInt();
+            // Un enemigo suelto es exactamente uno; un grupo no puede tener más de los que caben en los bytes
+            if (groupName == null ? enemyCount != 1
+                    : enemyCount < 0 || enemyCount > in.available() / ENEMY_ENTRY_SIZE) {
+                throw new IOException("Número de enemigos inválido: " + enemyCount);
+            }
+            int enemyTypeCount = EnemyType.values().length;
+            byte[] types = new byte[enemyCount];
+            int[] hp = new int[enemyCount];
+            for (int i = 0; i < enemyCount; i++) {
+                int type = in.readUnsignedByte();
+                if (type >= enemyTypeCount) {
+                    throw new IOException("Tipo de enemigo inválido: " + type);
+                }
+                types[i] = (byte) type;
+                hp[i] = in.readInt();
+            }
+
+            BattleJournal journal = new BattleJournal(seed, heroType, heroName, stats, heroDefending,
+                groupName, types, hp);
+            int actionCount = in.readInt();
+            if (actionCount < 0 || actionCount > GameConstants.MAX_JOURNAL_ACTIONS) {
+                throw new IOException("Número de acciones inválido: " + actionCount);
+            }
+            journal.actions = new byte[Math.max(actionCount, 16)];
+            in.readFully(journal.actions, 0, actionCount);
+            journal.actionCount = actionCount;
+            journal.truncated = in.readBoolean();
+            journal.finalHeroHp = in.readInt();
+            journal.finalEnemyHp = in.readInt();
+            return journal;
+        }
+    }
+
+    // --- Reconstrucción (la usa ReplayEngine) ---
+
+    Character createHero(CharacterFactory factory) {
+        Character hero = factory.createCharacter(heroType, heroName);
+        hero.restoreSavedState(heroLevel, heroAttack, heroMagic, heroAttackBonus, heroMagicBonus, heroDefense,
+            heroMaxHp, heroHp, heroMaxMana, heroMana, GameConstants.BASE_SPEED,
+            heroExp, heroExpToNextLevel, heroGold, heroDefending);
+        return hero;
+    }
+
+    Character createEnemies(EnemyFactory factory) {
+        EnemyType[] types = EnemyType.values();
+        if (groupName == null) {
+            return createEnemy(factory, types[enemyTypes[0]], enemyHp[0]);
+        }
+        EnemyGroup group = new EnemyGroup(groupName);
+        for (int i = 0; i < enemyTypes.length; i++) {
+            group.addMember(createEnemy(factory, types[enemyTypes[i]], enemyHp[i]));
+        }
+        return group;
+    }
+
+    private static Character createEnemy(EnemyFactory factory, EnemyType type, int hp) {
+        Character enemy = factory.createEnemy(type);
+        if (enemy.getCurrentHp() != hp) {
+            enemy.setCurrentHp(hp);
+        }
+        return enemy;
+    }
+
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    // --- Getters ---
+
+    public long getSeed() { return seed; }
+    public CharacterType getHeroType() { return heroType; }
+    public String getHeroName() { return heroName; }
+    public int getEnemyCount() { return enemyTypes.length; }
+    public int getActionCount() { return actionCount; }
+    public byte getAction(int index) { return actions[index]; }
+    public boolean isTruncated() { return truncated; }
+    public int getFinalHeroHp() { return finalHeroHp; }
+    public int getFinalEnemyHp() { return finalEnemyHp; }
+}
@@ -0,0 +1,129 @@
+package rpg.replay;
+
+import java.io.IOException;
+import rpg.ai.BossAI;
+import rpg.combat.BattleManager;
+import rpg.core.Character;
+import rpg.core.GameRandom;
+import rpg.events.CombatLog;
+import rpg.factory.CharacterFactory;
+import rpg.factory.EnemyFactory;
+
+/**
+ * Motor de repeticiones: reconstruye una batalla exacta a partir de su BattleJournal.
+ *
+ * CÓMO FUNCIONA:
+ * 1. Crea el héroe con CharacterFactory y le restaura los stats del diario
+ * 2. Crea los enemigos con EnemyFactory (mismos tipos, mismo orden, mismo HP)
+ * 3. Crea un BattleManager con un GameRandom de la misma semilla
+ * 4. Vuelve a llamar a las mismas acciones, en el mismo orden
+ * Como toda la aleatoriedad sale de esa semilla, el combate es idéntico.
+ * Los jefes (BossAI) buscan a profundidad fija, sin depender del reloj.
+ *
+ * MEMORIA ACOTADA:
+ * Cada repetición crea sus personajes y los suelta al terminar; verifyAll()
+ * decodifica los diarios de uno en uno, así que una regresión de millones
+ * de batallas no acumula nada.
+ *
+ * USO:
+ * BattleJournal journal = GameFacade.getInstance().getRecentBattleJournals().get(0);
+ * ReplayEngine engine = new ReplayEngine();
+ * engine.replay(journal, false);     // Repite mostrando el log de combate
+ * boolean ok = engine.verify(journal); // ¿Se llega al mismo resultado?
+ *
+ * NO ES THREAD-SAFE: usar una instancia por hilo.
+ */
+public class ReplayEngine {
+
+    private final CharacterFactory characterFactory = new CharacterFactory();
+
+    /**
+     * Repite la batalla en silencio.
+     * @return El BattleManager al final de la repetición
+     */
+    public BattleManager replay(BattleJournal journal) {
+        return replay(journal, true);
+    }
+
+    /**
+     * Repite la batalla.
+     * @param silent false para ver el log de combate (System.out y GameEventManager)
+     * @return El BattleManager al final de la repetición
+     */
+    public BattleManager replay(BattleJournal journal, boolean silent) {
+        boolean previous = CombatLog.setSilent(silent);
+        boolean previousDepth = BossAI.setFixedDepth(true);
+        try {
+            GameRandom random = new GameRandom(journal.getSeed());
+            Character hero = journal.createHero(characterFactory);
+            Character enemies = journal.createEnemies(new EnemyFactory(random));
+
+            BattleManager battle = new BattleManager(hero, enemies, random);
+            battle.stopJournal(); // La repetición no se graba a sí misma
+
+            for (int i = 0; i < journal.getActionCount(); i++) {
+                apply(battle, journal.getAction(i));
+            }
+            return battle;
+        } finally {
+            BossAI.setFixedDepth(previousDepth);
+            CombatLog.setSilent(previous);
+        }
+    }
+
+    /**
+     * @return true si la repetición termina con el mismo HP de héroe y enemigos
+     *         que la batalla original (false si el diario está truncado).
+     */
+    public boolean verify(BattleJournal journal) {
+        if (journal.isTruncated()) {
+            return false;
+        }
+        BattleManager battle = replay(journal);
+        return battle.getPlayer().getCurrentHp() == journal.getFinalHeroHp()
+            && battle.getEnemies().getCurrentHp() == journal.getFinalEnemyHp();
+    }
+
+    /**
+     * Verifica una serie de diarios serializados (ej. leídos de disco), de uno en uno.
+     * @return Cuántos NO se reprodujeron igual
+     * @throws IOException Si algún diario está corrupto
+     */
+    public int verifyAll(Iterable<byte[]> journals) throws IOException {
+        int mismatches = 0;
+        for (byte[] data : journals) {
+            if (!verify(BattleJournal.fromByteArray(data))) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static void apply(BattleManager battle, byte action) {
+        switch (action) {
+            case BattleJournal.PLAYER_TURN:
+                battle.playerTurn();
+                break;
+            case BattleJournal.ATTACK:
+                battle.playerAttack();
+                break;
+            case BattleJournal.SPECIAL:
+                battle.playerSpecialAbility();
+                break;
+            case BattleJournal.DEFEND:
+                battle.playerDefend();
+                break;
+            case BattleJournal.FLEE:
+                battle.tryFlee();
+                break;
+            case BattleJournal.ENEMY_TURN:
+                battle.enemyTurn();
+                break;
+            case BattleJournal.CURRENT_ENEMY_TURN:
+                battle.currentEnemyTurn();
+                break;
+            default:
+                throw new IllegalArgumentException("Acción de diario desconocida: " + action);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package rpg.session;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import rpg.core.GameContext;
+import rpg.persistence.SessionJournal;
+
+/**
+ * Una partida alojada en un GameSessionHost.
+ *
+ * PROPÓSITO:
+ * - Envuelve un GameContext y ejecuta sus acciones en el Executor del host
+ * - Las acciones de UNA sesión corren de una en una y en orden (GameContext
+ *   no es thread-safe), pero sesiones distintas corren en paralelo
+ * - Cada acción corre con el contexto de la sesión activo (GameContext.current())
+ *
+ * FUNCIONAMIENTO (tipo "actor"):
+ * - submit() encola la acción; si la sesión no estaba corriendo, se agenda
+ *   en el Executor un drenado de la cola
+ * - Sin locks: una cola lock-free y un flag atómico por sesión
+ *
+ * DIARIO (opcional): startJournal() anota la partida en disco con un
+ * SessionJournal para poder recuperarla tras una caída
+ * (GameSessionHost.recoverSession()); se cierra al cerrar la sesión.
+ *
+ * USO:
+ * GameSession session = host.openSession();
+ * session.execute(ctx -> ctx.startNewGame(CharacterType.WARRIOR, "Gnos"));
+ * session.startJournal(Paths.get("sessions", String.valueOf(session.getId())));
+ * CompletableFuture<String> result = session.submit(ctx -> ctx.playerAttack());
+ */
+public class GameSession {
+
+    // Máximo de acciones seguidas antes de ceder el hilo a otras sesiones
+    private static final int MAX_ACTIONS_PER_RUN = 64;
+
+    private final long id;
+    private final GameContext context;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private SessionJournal journal; // Solo se toca desde las acciones de la sesión
+
+    GameSession(long id, GameContext context, Executor executor) {
+        this.id = id;
+        this.context = context;
+        this.executor = executor;
+    }
+
+    /**
+     * Encola una acción sobre la partida.
+     * @return El resultado, cuando la acción haya corrido
+     */
+    public <T> CompletableFuture<T> submit(Function<GameContext, T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                result.complete(action.apply(context));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * Encola una acción sin resultado.
+     */
+    public CompletableFuture<Void> execute(Consumer<GameContext> action) {
+        return submit(context -> {
+            action.accept(context);
+            return null;
+        });
+    }
+
+    /**
+     * Empieza a anotar la partida en 'directory' (ver SessionJournal). La
+     * partida ya debe tener jugador; si ya había un diario, se cierra antes.
+     * @return Falla si no se pudo abrir el diario
+     */
+    public CompletableFuture<Void> startJournal(Path directory) {
+        return execute(context -> {
+            closeJournal();
+            try {
+                journal = SessionJournal.attach(context, directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Deja de anotar la partida (con un último snapshot), después de las
+     * acciones ya encoladas.
+     */
+    public CompletableFuture<Void> stopJournal() {
+        return execute(context -> closeJournal());
+    }
+
+    private void closeJournal() {
+        SessionJournal closing = journal;
+        if (closing == null) {
+            return;
+        }
+        journal = null;
+        try {
+            closing.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        GameContext previous = GameContext.bind(context);
+        try {
+            Runnable action;
+            int ran = 0;
+            while (ran < MAX_ACTIONS_PER_RUN && (action = mailbox.poll()) != null) {
+                action.run();
+                ran++;
+            }
+        } finally {
+            GameContext.bind(previous);
+            scheduled.set(false);
+        }
+        // Si llegaron acciones mientras terminábamos (o cedimos el hilo), volver a agendar
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return El contexto de la partida. Solo debe tocarse desde submit()/execute().
+     */
+    public GameContext getContext() {
+        return context;
+    }
+}
@@ -0,0 +1,131 @@
+package rpg.session;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import rpg.core.GameContext;
+import rpg.persistence.GameState;
+import rpg.persistence.SessionJournal;
+
+/**
+ * Servidor de partidas: aloja muchas sesiones (GameContext) en la misma JVM.
+ *
+ * PROPÓSITO:
+ * - Cada sesión tiene su propio jugador, batalla, misiones, eventos y RNG
+ * - Miles de sesiones comparten un pool de hilos, sin contención entre ellas:
+ *   lo único compartido es el Executor y el mapa de sesiones abiertas
+ *
+ * HILOS:
+ * - Por defecto usa un pool fijo con un hilo por núcleo; cada GameSession
+ *   ejecuta sus acciones en orden sobre ese pool (ver GameSession)
+ * - Se puede pasar cualquier ExecutorService (ej. en Java 21+,
+ *   Executors.newVirtualThreadPerTaskExecutor() para un hilo virtual por tarea)
+ *
+ * USO:
+ * try (GameSessionHost host = new GameSessionHost()) {
+ *     GameSession session = host.openSession();
+ *     session.execute(ctx -> ctx.startNewGame(CharacterType.MAGE, "Ana"));
+ *     session.execute(GameContext::startBattle);
+ *     ...
+ *     host.closeSession(session);
+ * }
+ *
+ * Tras una caída, una sesión con diario (GameSession.startJournal()) se
+ * reabre con recoverSession(directorio).
+ */
+public class GameSessionHost implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    public GameSessionHost() {
+        this(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()), true);
+    }
+
+    /**
+     * @param executor Pool donde corren las sesiones (lo sigue gestionando quien lo pasa)
+     */
+    public GameSessionHost(ExecutorService executor) {
+        this(executor, false);
+    }
+
+    private GameSessionHost(ExecutorService executor, boolean ownsExecutor) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Abre una partida nueva con su propio contexto.
+     */
+    public GameSession openSession() {
+        return openSession(new GameContext());
+    }
+
+    /**
+     * Aloja una partida con un contexto ya creado (ej. con una semilla fija).
+     */
+    public GameSession openSession(GameContext context) {
+        GameSession session = new GameSession(nextId.getAndIncrement(), context, executor);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Reabre una partida desde su diario (SessionJournal.recover()) y sigue
+     * anotándola en el mismo directorio.
+     * @return La sesión, o null si el directorio no tiene snapshot
+     */
+    public GameSession recoverSession(Path directory) throws IOException {
+        GameState state = SessionJournal.recover(directory);
+        if (state == null) {
+            return null;
+        }
+        GameSession session = openSession();
+        session.execute(context -> context.loadPlayer(state.getPlayer(), state.getCharacterType()));
+        session.startJournal(directory);
+        return session;
+    }
+
+    public GameSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Cierra la sesión (y su diario, tras las acciones ya encoladas).
+     */
+    public void closeSession(GameSession session) {
+        sessions.remove(session.getId());
+        session.stopJournal();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Cierra el host y los diarios de sus sesiones. Si creó su propio pool,
+     * espera a que terminen las acciones encoladas.
+     */
+    @Override
+    public void close() {
+        for (GameSession session : sessions.values()) {
+            session.stopJournal();
+        }
+        sessions.clear();
+        if (ownsExecutor) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package rpg.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import rpg.core.BalanceParameters;
+import rpg.core.BalanceParameters.Knob;
+
+/**
+ * Barrido de parámetros de balanceo: prueba una rejilla de valores y
+ * simula cada punto con miles de batallas en paralelo.
+ *
+ * PROPÓSITO:
+ * - Antes, cada ajuste de GameConstants era: cambiar, recompilar, jugar, repetir
+ * - Aquí se dan rangos para algunos valores (Range), unos enfrentamientos y
+ *   un objetivo (Target); el barrido devuelve qué combinaciones lo cumplen
+ *
+ * USO:
+ * BalanceSweep sweep = new BalanceSweep(new BattleSimulator(),
+ *     Arrays.asList(Matchup.single(CharacterType.WARRIOR, EnemyType.ORC)), 5_000, 42L);
+ * List<BalanceSweep.Point> points = sweep.run(
+ *     Arrays.asList(BalanceSweep.Range.of(Knob.DEFENSE_DAMAGE_MULTIPLIER, 0.3, 0.7, 0.1),
+ *                   BalanceSweep.Range.of(Knob.HERO_HP_BONUS, 0, 40, 10)),
+ *     BalanceSweep.Target.winRate(0.6, 0.8).maxTurnsToKill(8));
+ * // points.get(0) es el más cercano al objetivo
+ *
+ * PARALELISMO:
+ * - Los puntos nuevos de la rejilla se evalúan a la vez (Fork/Join), y las
+ *   batallas de cada punto se reparten como en BattleSimulator.simulate()
+ * - Cada punto corre con sus BalanceParameters activos solo en sus hilos
+ *   (BattleSimulator.withBalance()), así que los puntos no se mezclan
+ *
+ * MEMOIZACIÓN:
+ * - Todos los puntos usan la misma semilla base (mismas batallas, solo
+ *   cambian los parámetros), así que un punto siempre da el mismo resultado
+ * - Los reportes se guardan por BalanceParameters: si una rejilla posterior
+ *   (ej. un rango más fino alrededor del mejor punto) repite un punto,
+ *   no se vuelve a simular
+ *
+ * THREAD-SAFE: se puede llamar a run() desde varios hilos.
+ *
+ * @see BalanceParameters
+ * @see BattleSimulator
+ */
+public class BalanceSweep {
+
+    private final BattleSimulator simulator;
+    private final List<Matchup> matchups;
+    private final int battlesPerMatchup;
+    private final long baseSeed;
+
+    // Reportes ya calculados (en el orden de 'matchups') por punto de la rejilla
+    private final Map<BalanceParameters, List<SimulationReport>> memo = new ConcurrentHashMap<>();
+
+    /**
+     * @param simulator Simulador a usar; sus parámetros son el punto de partida de la rejilla
+     * @param matchups Enfrentamientos que se evalúan en cada punto
+     * @param battlesPerMatchup Batallas por enfrentamiento y punto
+     * @param baseSeed Semilla de todas las series
+     */
+    public BalanceSweep(BattleSimulator simulator, List<Matchup> matchups, int battlesPerMatchup, long baseSeed) {
+        if (matchups.isEmpty()) {
+            throw new IllegalArgumentException("El barrido necesita al menos un enfrentamiento");
+        }
+        if (battlesPerMatchup < 1) {
+            throw new IllegalArgumentException("Batallas por enfrentamiento debe ser al menos 1: " + battlesPerMatchup);
+        }
+        this.simulator = simulator;
+        this.matchups = Collections.unmodifiableList(new ArrayList<>(matchups));
+        this.battlesPerMatchup = battlesPerMatchup;
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Evalúa todas las combinaciones de los rangos (producto cartesiano).
+     * @return Un Point por combinación, de más a menos cercano al objetivo
+     *         (los que lo cumplen primero; empates en el orden de la rejilla)
+     */
+    public List<Point> run(List<Range> ranges, Target target) {
+        Set<BalanceParameters> grid = grid(ranges);
+
+        // Solo se simulan los puntos que no estén en la memoria
+        List<Callable<List<SimulationReport>>> pending = new ArrayList<>();
+        for (BalanceParameters params : grid) {
+            if (!memo.containsKey(params)) {
+                pending.add(() -> evaluate(params));
+            }
+        }
+        if (!pending.isEmpty()) {
+            List<ForkJoinTask<List<SimulationReport>>> tasks = new ArrayList<>(pending.size());
+            for (Callable<List<SimulationReport>> callable : pending) {
+                tasks.add(ForkJoinTask.adapt(callable));
+            }
+            simulator.getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+
+        List<Point> points = new ArrayList<>(grid.size());
+        for (BalanceParameters params : grid) {
+            points.add(new Point(params, memo.get(params), target));
+        }
+        points.sort(Comparator.comparingDouble(Point::getDistance));
+        return points;
+    }
+
+    /**
+     * @return Los reportes de un punto (simulándolo si no está en la memoria)
+     */
+    public List<SimulationReport> evaluate(BalanceParameters params) {
+        List<SimulationReport> cached = memo.get(params);
+        if (cached != null) {
+            return cached;
+        }
+        BattleSimulator pointSimulator = simulator.withBalance(params);
+        List<SimulationReport> reports = new ArrayList<>(matchups.size());
+        for (Matchup matchup : matchups) {
+            reports.add(pointSimulator.simulate(matchup, battlesPerMatchup, baseSeed));
+        }
+        reports = Collections.unmodifiableList(reports);
+        List<SimulationReport> previous = memo.putIfAbsent(params, reports);
+        return previous != null ? previous : reports;
+    }
+
+    /**
+     * @return Cuántos puntos distintos se han simulado hasta ahora
+     */
+    public int getEvaluatedCount() {
+        return memo.size();
+    }
+
+    public List<Matchup> getMatchups() {
+        return matchups;
+    }
+
+    // Producto cartesiano de los rangos, partiendo de los parámetros del simulador
+    private Set<BalanceParameters> grid(List<Range> ranges) {
+        Set<BalanceParameters> grid = new LinkedHashSet<>();
+        grid.add(simulator.getBalance());
+        for (Range range : ranges) {
+            Set<BalanceParameters> next = new LinkedHashSet<>();
+            for (BalanceParameters params : grid) {
+                for (double value : range.values) {
+                    next.add(params.with(range.knob, value));
+                }
+            }
+            grid = next;
+        }
+        return grid;
+    }
+
+    /**
+     * Valores a probar para un Knob.
+     */
+    public static final class Range {
+        private final Knob knob;
+        private final double[] values;
+
+        private Range(Knob knob, double[] values) {
+            if (values.length == 0) {
+                throw new IllegalArgumentException("Rango vacío para " + knob);
+            }
+            this.knob = knob;
+            this.values = values;
+        }
+
+        /**
+         * De 'from' a 'to' (ambos incluidos) en pasos de 'step'.
+         */
+        public static Range of(Knob knob, double from, double to, double step) {
+            if (step <= 0 || to < from) {
+                throw new IllegalArgumentException("Rango inválido para " + knob + ": "
+                    + from + ".." + to + " paso " + step);
+            }
+            int count = (int) Math.floor((to - from) / step + 1e-9) + 1;
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                // Redondeo para que 0.1 + 0.2 sea la misma clave que 0.3
+                values[i] = Math.round((from + i * step) * 1e9) / 1e9;
+            }
+            return new Range(knob, values);
+        }
+
+        /**
+         * Una lista concreta de valores.
+         */
+        public static Range values(Knob knob, double... values) {
+            return new Range(knob, values.clone());
+        }
+
+        public Knob getKnob() { return knob; }
+        public double[] getValues() { return values.clone(); }
+
+        @Override
+        public String toString() {
+            return knob + " " + Arrays.toString(values);
+        }
+    }
+
+    /**
+     * Objetivo de balanceo: tasa de victoria en [min, max] y, opcionalmente,
+     * un máximo de turnos para matar (media de las batallas ganadas).
+     * Se exige en CADA enfrentamiento del barrido.
+     */
+    public static final class Target {
+        private final double minWinRate;
+        private final double maxWinRate;
+        private final double maxTurnsToKill; // 0 = sin límite
+
+        private Target(double minWinRate, double maxWinRate, double maxTurnsToKill) {
+            this.minWinRate = minWinRate;
+            this.maxWinRate = maxWinRate;
+            this.maxTurnsToKill = maxTurnsToKill;
+        }
+
+        public static Target winRate(double min, double max) {
+            if (min > max) {
+                throw new IllegalArgumentException("Tasa de victoria mínima mayor que la máxima: " + min + " > " + max);
+            }
+            return new Target(min, max, 0);
+        }
+
+        public Target maxTurnsToKill(double turns) {
+            return new Target(minWinRate, maxWinRate, turns);
+        }
+
+        /**
+         * @return 0 si el reporte cumple el objetivo; si no, cuánto se aleja
+         *         (puntos de tasa de victoria + fracción de turnos de más)
+         */
+        double distance(SimulationReport report) {
+            double winRate = report.getWinRate();
+            double distance = Math.max(0, minWinRate - winRate) + Math.max(0, winRate - maxWinRate);
+            if (maxTurnsToKill > 0 && report.getWins() > 0) {
+                double turns = report.getTurnsToKill().getMean();
+                distance += Math.max(0, turns - maxTurnsToKill) / maxTurnsToKill;
+            }
+            return distance;
+        }
+
+        @Override
+        public String toString() {
+            String s = String.format("victoria %.0f%%-%.0f%%", minWinRate * 100, maxWinRate * 100);
+            return maxTurnsToKill > 0 ? s + String.format(", <= %.1f turnos", maxTurnsToKill) : s;
+        }
+    }
+
+    /**
+     * Un punto evaluado de la rejilla.
+     */
+    public static final class Point {
+        private final BalanceParameters params;
+        private final List<SimulationReport> reports;
+        private final double distance;
+
+        private Point(BalanceParameters params, List<SimulationReport> reports, Target target) {
+            this.params = params;
+            this.reports = reports;
+            double total = 0;
+            for (SimulationReport report : reports) {
+                total += target.distance(report);
+            }
+            this.distance = total;
+        }
+
+        public BalanceParameters getParams() { return params; }
+        public List<SimulationReport> getReports() { return reports; }
+
+        /**
+         * @return Suma de lo que se aleja cada enfrentamiento del objetivo (0 = lo cumple)
+         */
+        public double getDistance() { return distance; }
+
+        public boolean meetsTarget() { return distance == 0; }
+
+        /**
+         * Una línea por enfrentamiento: tasa de victoria y turnos para matar.
+         */
+        public String getSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(meetsTarget() ? "[OK] " : "[--] ").append(params);
+            sb.append(String.format(" (distancia %.3f)", distance));
+            for (SimulationReport report : reports) {
+                sb.append(String.format("%n  %s: victoria %.1f%%, turnos para matar %.1f",
+                    report.getMatchupName(), report.getWinRate() * 100, report.getTurnsToKill().getMean()));
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return getSummary();
+        }
+    }
+}
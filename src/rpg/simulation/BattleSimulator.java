@@ -0,0 +1,231 @@
+package rpg.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import rpg.combat.BattleManager;
+import rpg.combat.BattleRewards;
+import rpg.core.BalanceParameters;
+import rpg.core.Character;
+import rpg.core.GameRandom;
+import rpg.events.CombatLog;
+import rpg.factory.CharacterFactory;
+import rpg.factory.EnemyFactory;
+
+/**
+ * Simulador de batallas Monte Carlo, sin interfaz gráfica (headless).
+ *
+ * PROPÓSITO:
+ * - Balancear contenido corriendo miles de batallas por enfrentamiento
+ * - Usa el mismo BattleManager, Character y EnemyAI que el juego real
+ * - Reparte el trabajo entre todos los núcleos con Fork/Join
+ *
+ * REPRODUCIBILIDAD:
+ * - La batalla i de una serie usa la semilla GameRandom.seedFor(semillaBase, i)
+ * - El resultado no depende del número de hilos ni del reparto de trabajo
+ * - simulateSeed() repite exactamente una batalla concreta
+ *
+ * GARANTÍAS:
+ * - Nunca toca Swing
+ * - Los hilos del simulador corren en modo silencioso (CombatLog):
+ *   no escriben en System.out ni disparan eventos del GameEventManager
+ *
+ * USO:
+ * BattleSimulator simulator = new BattleSimulator();
+ * SimulationReport report = simulator.simulate(
+ *     Matchup.single(CharacterType.WARRIOR, EnemyType.GOBLIN), 100_000, 42L);
+ * String resumen = report.getSummary();
+ *
+ * POLÍTICA DEL HÉROE:
+ * El héroe ataca en cada turno (igual que BattleManager.playerTurn()).
+ *
+ * MOTOR COMPACTO:
+ * Con packedEngine = true, las batallas que PackedBattle sabe reproducir se
+ * resuelven sobre arrays primitivos (mismo resultado, mucho más rápido con
+ * hordas grandes, ej. Matchup.swarm(..., 5000)). Las demás usan BattleManager.
+ *
+ * PARÁMETROS DE BALANCEO:
+ * withBalance(params) devuelve un simulador cuyas batallas corren con esos
+ * BalanceParameters activos en cada hilo (ver BalanceSweep). El simulador
+ * original no cambia, así que se pueden simular varios valores a la vez.
+ *
+ * @see SimulationReport
+ * @see Matchup
+ */
+public class BattleSimulator {
+
+    /** Límite de turnos por batalla (evita bucles infinitos, ej. Priest vs Slime) */
+    public static final int DEFAULT_MAX_TURNS = 200;
+
+    private final ForkJoinPool pool;
+    private final int maxTurns;
+    private final boolean packedEngine;
+    private final BalanceParameters balance;
+
+    public BattleSimulator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MAX_TURNS);
+    }
+
+    public BattleSimulator(ForkJoinPool pool, int maxTurns) {
+        this(pool, maxTurns, false);
+    }
+
+    /**
+     * @param packedEngine true para usar PackedBattle siempre que sea posible
+     */
+    public BattleSimulator(ForkJoinPool pool, int maxTurns, boolean packedEngine) {
+        this(pool, maxTurns, packedEngine, BalanceParameters.DEFAULTS);
+    }
+
+    private BattleSimulator(ForkJoinPool pool, int maxTurns, boolean packedEngine, BalanceParameters balance) {
+        this.pool = pool;
+        this.maxTurns = maxTurns;
+        this.packedEngine = packedEngine;
+        this.balance = balance;
+    }
+
+    /**
+     * @return Un simulador igual a este que usa otros parámetros de balanceo
+     */
+    public BattleSimulator withBalance(BalanceParameters balance) {
+        return new BattleSimulator(pool, maxTurns, packedEngine, balance);
+    }
+
+    public BalanceParameters getBalance() {
+        return balance;
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Simula 'battles' batallas de un enfrentamiento en paralelo (semilla nueva).
+     */
+    public SimulationReport simulate(Matchup matchup, int battles) {
+        return simulate(matchup, battles, GameRandom.create().getSeed());
+    }
+    
+    /**
+     * Simula 'battles' batallas de un enfrentamiento en paralelo.
+     * @param baseSeed Semilla de la serie: misma semilla, mismo reporte
+     */
+    public SimulationReport simulate(Matchup matchup, int battles, long baseSeed) {
+        return pool.invoke(new SimulationTask(this, matchup, baseSeed, 0, battles));
+    }
+    
+    /**
+     * Repite una sola batalla a partir de su semilla (ej. GameRandom.seedFor(base, i)).
+     */
+    public SimulationReport simulateSeed(Matchup matchup, long battleSeed) {
+        SimulationReport report = new SimulationReport(matchup.getName());
+        CharacterFactory charFactory = new CharacterFactory();
+        boolean previous = CombatLog.setSilent(true);
+        BalanceParameters previousBalance = BalanceParameters.bind(balance);
+        try {
+            runBattle(matchup, charFactory, battleSeed, report);
+        } finally {
+            BalanceParameters.bind(previousBalance);
+            CombatLog.setSilent(previous);
+        }
+        return report;
+    }
+
+    /**
+     * Simula todos los enfrentamientos de Matchup.all().
+     */
+    public List<SimulationReport> simulateAll(int battlesPerMatchup) {
+        List<SimulationReport> reports = new ArrayList<>();
+        for (Matchup matchup : Matchup.all()) {
+            reports.add(simulate(matchup, battlesPerMatchup));
+        }
+        return reports;
+    }
+
+    /**
+     * Corre secuencialmente un rango de batallas en el hilo actual.
+     * Lo llama SimulationTask cuando el rango es suficientemente pequeño.
+     */
+    SimulationReport runRange(Matchup matchup, long baseSeed, int from, int to) {
+        SimulationReport report = new SimulationReport(matchup.getName());
+        CharacterFactory charFactory = new CharacterFactory();
+
+        boolean previous = CombatLog.setSilent(true);
+        BalanceParameters previousBalance = BalanceParameters.bind(balance);
+        try {
+            for (int i = from; i < to; i++) {
+                runBattle(matchup, charFactory, GameRandom.seedFor(baseSeed, i), report);
+            }
+        } finally {
+            BalanceParameters.bind(previousBalance);
+            CombatLog.setSilent(previous);
+        }
+        return report;
+    }
+
+    private void runBattle(Matchup matchup, CharacterFactory charFactory,
+                           long battleSeed, SimulationReport report) {
+        // Una sola fuente aleatoria por batalla: encuentro, combate, IA y loot
+        GameRandom random = new GameRandom(battleSeed);
+        Character hero = matchup.createHero(charFactory);
+        int hpBonus = balance.getHeroHpBonus();
+        if (hpBonus != 0) {
+            hero.addMaxHp(hpBonus);
+            hero.setCurrentHp(hero.getMaxHp());
+        }
+        Character enemies = matchup.createEncounter(new EnemyFactory(random));
+        BattleManager battle = new BattleManager(hero, enemies, random);
+        battle.stopJournal(); // Se puede repetir con simulateSeed(), no hace falta diario
+
+        if (packedEngine && PackedBattle.canPack(hero, enemies)) {
+            runPackedBattle(battle, random, report);
+            return;
+        }
+
+        int turns = 0;
+        long damageDealt = 0;
+        while (!battle.isBattleOver() && turns < maxTurns) {
+            turns++;
+
+            int hpBefore = enemies.getCurrentHp();
+            battle.playerTurn();
+            damageDealt += Math.max(0, hpBefore - enemies.getCurrentHp());
+            if (battle.isBattleOver()) break;
+
+            battle.enemyTurn();
+        }
+
+        BattleRewards rewards = battle.getRewards();
+        boolean won = rewards != null;
+        int damagePerTurn = turns == 0 ? 0 : (int) Math.round((double) damageDealt / turns);
+        report.recordBattle(won, !battle.isBattleOver(), turns, damagePerTurn,
+            won ? rewards.getGold() : 0,
+            won ? rewards.getExperience() : 0);
+    }
+
+    private void runPackedBattle(BattleManager battle, GameRandom random, SimulationReport report) {
+        PackedBattle packed = new PackedBattle(battle.getPlayer(), battle.getEnemies(), random);
+
+        int turns = 0;
+        long damageDealt = 0;
+        while (!packed.isBattleOver() && turns < maxTurns) {
+            turns++;
+
+            int hpBefore = packed.getEnemyHp();
+            packed.playerTurn();
+            damageDealt += Math.max(0, hpBefore - packed.getEnemyHp());
+            if (packed.isBattleOver()) break;
+
+            packed.enemyTurn();
+        }
+
+        // De vuelta a los objetos: BattleManager reparte XP, oro y loot como siempre
+        packed.writeBack();
+        boolean won = packed.isPlayerVictory() && battle.checkVictory();
+        BattleRewards rewards = battle.getRewards();
+        int damagePerTurn = turns == 0 ? 0 : (int) Math.round((double) damageDealt / turns);
+        report.recordBattle(won, !packed.isBattleOver(), turns, damagePerTurn,
+            won ? rewards.getGold() : 0,
+            won ? rewards.getExperience() : 0);
+    }
+}
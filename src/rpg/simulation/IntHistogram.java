@@ -0,0 +1,84 @@
+package rpg.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Histograma de valores enteros no negativos (turnos, oro, XP, daño...).
+ *
+ * PROPÓSITO:
+ * - Guarda la distribución completa, no solo la media
+ * - Se puede fusionar (merge) para combinar resultados de varios hilos
+ * - Registrar un valor es O(1) y no crea objetos (salvo al crecer)
+ *
+ * Los valores negativos se registran como 0.
+ */
+public class IntHistogram {
+
+    private long[] counts = new long[64];
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    /**
+     * Registra una observación.
+     */
+    public void record(int value) {
+        if (value < 0) value = 0;
+        if (value >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(value + 1, counts.length * 2));
+        }
+        counts[value]++;
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Suma las observaciones de otro histograma a este.
+     */
+    public void merge(IntHistogram other) {
+        if (other.count == 0) return;
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() { return count; }
+    public int getMin() { return count == 0 ? 0 : min; }
+    public int getMax() { return count == 0 ? 0 : max; }
+
+    public double getMean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * @param fraction Percentil entre 0.0 y 1.0 (ej. 0.5 = mediana)
+     * @return El menor valor v tal que al menos 'fraction' de las observaciones son <= v
+     */
+    public int getPercentile(double fraction) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, fraction)) * count);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return i;
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("media=%.2f p50=%d p90=%d min=%d max=%d",
+            getMean(), getPercentile(0.5), getPercentile(0.9), getMin(), getMax());
+    }
+}
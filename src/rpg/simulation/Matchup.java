@@ -0,0 +1,125 @@
+package rpg.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import rpg.core.Character;
+import rpg.factory.CharacterFactory;
+import rpg.factory.CharacterType;
+import rpg.factory.EnemyFactory;
+import rpg.factory.EnemyType;
+
+/**
+ * Un enfrentamiento a simular: una clase de héroe contra un tipo de encuentro.
+ *
+ * TIPOS DE ENCUENTRO:
+ * - SINGLE: un solo enemigo de un EnemyType concreto
+ * - PATROL / HORDE / DANGEROUS: las composiciones de EnemyFactory.createEncounter()
+ * - RANDOM: el propio createEncounter() (mezcla con sus probabilidades)
+ * - SWARM: horda masiva de N enemigos del mismo EnemyType (no entra en all())
+ *
+ * Cada batalla crea personajes nuevos, así que un Matchup es inmutable
+ * y se puede compartir entre hilos.
+ */
+public class Matchup {
+
+    public enum EncounterKind {
+        SINGLE,
+        PATROL,
+        HORDE,
+        DANGEROUS,
+        RANDOM,
+        SWARM
+    }
+
+    private final CharacterType heroType;
+    private final EncounterKind kind;
+    private final EnemyType enemyType; // Solo para SINGLE y SWARM
+    private final int swarmSize;       // Solo para SWARM
+
+    private Matchup(CharacterType heroType, EncounterKind kind, EnemyType enemyType, int swarmSize) {
+        this.heroType = heroType;
+        this.kind = kind;
+        this.enemyType = enemyType;
+        this.swarmSize = swarmSize;
+    }
+
+    public static Matchup single(CharacterType heroType, EnemyType enemyType) {
+        return new Matchup(heroType, EncounterKind.SINGLE, enemyType, 1);
+    }
+
+    public static Matchup encounter(CharacterType heroType, EncounterKind kind) {
+        if (kind == EncounterKind.SINGLE) {
+            throw new IllegalArgumentException("SINGLE necesita un EnemyType, usa Matchup.single()");
+        }
+        if (kind == EncounterKind.SWARM) {
+            throw new IllegalArgumentException("SWARM necesita un EnemyType y un tamaño, usa Matchup.swarm()");
+        }
+        return new Matchup(heroType, kind, null, 0);
+    }
+
+    public static Matchup swarm(CharacterType heroType, EnemyType enemyType, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("El tamaño de la horda debe ser al menos 1: " + size);
+        }
+        return new Matchup(heroType, EncounterKind.SWARM, enemyType, size);
+    }
+
+    /**
+     * Todas las combinaciones: cada CharacterType contra cada EnemyType
+     * y contra cada composición de createEncounter().
+     */
+    public static List<Matchup> all() {
+        List<Matchup> matchups = new ArrayList<>();
+        for (CharacterType hero : CharacterType.values()) {
+            for (EnemyType enemy : EnemyType.values()) {
+                matchups.add(single(hero, enemy));
+            }
+            for (EncounterKind kind : EncounterKind.values()) {
+                if (kind != EncounterKind.SINGLE && kind != EncounterKind.SWARM) {
+                    matchups.add(encounter(hero, kind));
+                }
+            }
+        }
+        return matchups;
+    }
+
+    Character createHero(CharacterFactory factory) {
+        return factory.createCharacter(heroType, heroType.name());
+    }
+
+    Character createEncounter(EnemyFactory factory) {
+        switch (kind) {
+            case SINGLE:
+                return factory.createEnemy(enemyType);
+            case PATROL:
+                return factory.createPatrol();
+            case HORDE:
+                return factory.createHorde();
+            case DANGEROUS:
+                return factory.createDangerousEncounter();
+            case RANDOM:
+                return factory.createEncounter();
+            case SWARM:
+                return factory.createHorde(enemyType, swarmSize);
+            default:
+                throw new IllegalArgumentException("Tipo de encuentro desconocido: " + kind);
+        }
+    }
+
+    public CharacterType getHeroType() { return heroType; }
+    public EncounterKind getKind() { return kind; }
+    public EnemyType getEnemyType() { return enemyType; }
+    public int getSwarmSize() { return swarmSize; }
+
+    public String getName() {
+        if (kind == EncounterKind.SWARM) {
+            return heroType + " vs " + swarmSize + "x " + enemyType.name();
+        }
+        return heroType + " vs " + (kind == EncounterKind.SINGLE ? enemyType.name() : kind.name());
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
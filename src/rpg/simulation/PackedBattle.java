@@ -0,0 +1,563 @@
+package rpg.simulation;
+
+import rpg.ai.AggressiveAI;
+import rpg.ai.DefensiveAI;
+import rpg.ai.EnemyAI;
+import rpg.ai.EvasiveAI;
+import rpg.ai.MageAI;
+import rpg.combat.AttackStrategy;
+import rpg.combat.MagicAttack;
+import rpg.combat.MeleeAttack;
+import rpg.combat.PassiveStrategy;
+import rpg.combat.RangedAttack;
+import rpg.core.BalanceParameters;
+import rpg.core.Bandit;
+import rpg.core.Character;
+import rpg.core.DarkMage;
+import rpg.core.DragonWhelp;
+import rpg.core.Enemy;
+import rpg.core.EnemyGroup;
+import rpg.core.GameConstants;
+import rpg.core.GameRandom;
+import rpg.core.Goblin;
+import rpg.core.OrcWarrior;
+import rpg.core.Skeleton;
+import rpg.core.Slime;
+import rpg.core.Wolf;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Motor de combate compacto (struct-of-arrays) para batallas con muchos enemigos.
+ *
+ * PROPÓSITO:
+ * - Cada Enemy es un objeto completo (Inventory, Equipment, AttackStrategy, IA)
+ *   y cada turno de BattleManager hace llamadas virtuales por miembro
+ * - Aquí el estado de todos los enemigos vive en arrays primitivos paralelos
+ *   (hp[], mana[], attack[], magic[], defense[], defending[], ...)
+ * - Un turno completo se resuelve en bucles sobre esos arrays: sin Strings,
+ *   sin eventos, sin objetos nuevos
+ * - Los Character originales solo se tocan al final, con writeBack()
+ *
+ * REGLAS:
+ * Reproduce las reglas de BattleManager + Character.takeDamage() + AttackStrategy
+ * + EnemyAI + las habilidades especiales de cada enemigo, consumiendo la
+ * aleatoriedad en el MISMO orden. Con la misma semilla, el resultado es idéntico
+ * al de BattleManager. Si cambias una regla en esas clases, cámbiala también aquí.
+ *
+ * LIMITACIONES (ver canPack()):
+ * - El héroe no puede ser un Enemy ni un grupo
+ * - Los enemigos deben ser un Enemy o un EnemyGroup de Enemy de clases conocidas,
+ *   con IA y AttackStrategy del juego base
+ * - Todos con GameConstants.BASE_SPEED: se asume un turno por ronda, en el
+ *   orden del grupo (sin TurnScheduler)
+ * - Sin amenaza (EnemyGroup.setThreatTargeting()): los golpes son uniformes
+ * - Pensado para batallas nuevas: el estado interno de la IA (contador de furia,
+ *   alternancia defensiva, modo furia del dragón) empieza desde cero
+ *
+ * USO:
+ * BattleManager battle = new BattleManager(hero, horda, random);
+ * PackedBattle packed = new PackedBattle(hero, horda, random);
+ * while (!packed.isBattleOver()) {
+ *     packed.playerTurn();
+ *     packed.enemyTurn();
+ * }
+ * packed.writeBack();
+ * battle.checkVictory(); // XP, oro y loot como siempre
+ *
+ * @see BattleSimulator
+ */
+public class PackedBattle {
+
+    // Tipos de ataque (AttackStrategy)
+    private static final byte ATTACK_NONE = 0;
+    private static final byte ATTACK_PHYSICAL = 1; // MeleeAttack y RangedAttack
+    private static final byte ATTACK_MAGIC = 2;
+
+    // Tipos de IA (EnemyAI)
+    private static final byte AI_NONE = 0; // Sin IA: ataca siempre
+    private static final byte AI_AGGRESSIVE = 1;
+    private static final byte AI_DEFENSIVE = 2;
+    private static final byte AI_EVASIVE = 3;
+    private static final byte AI_MAGE = 4;
+
+    // Habilidades especiales (specialAbility() de cada clase)
+    private static final byte SPECIAL_BASIC = 0;
+    private static final byte SPECIAL_SLIME = 1;
+    private static final byte SPECIAL_SKELETON = 2;
+    private static final byte SPECIAL_GOBLIN = 3;
+    private static final byte SPECIAL_WOLF = 4;
+    private static final byte SPECIAL_ORC = 5;
+    private static final byte SPECIAL_BANDIT = 6;
+    private static final byte SPECIAL_DARK_MAGE = 7;
+    private static final byte SPECIAL_DRAGON = 8;
+    private static final byte SPECIAL_UNKNOWN = -1;
+
+    private final GameRandom random;
+
+    // Reglas de daño de los parámetros de balanceo activos al empaquetar
+    private final int minimumDamage;
+    private final double defenseMultiplier;
+
+    // --- Héroe ---
+    private final Character hero;
+    private int heroHp;
+    private final int heroMaxHp;
+    private int heroMana;
+    private final int heroAttack;
+    private final int heroMagic;
+    private final int heroDefense;
+    private boolean heroDefending;
+    private final byte heroAttackKind;
+
+    // --- Enemigos (un índice por miembro, en el orden del grupo) ---
+    private final Character[] members;
+    private final boolean grouped;
+    private final int[] hp;
+    private final int[] maxHp;
+    private final int[] mana;
+    private final int[] attack;
+    private final int[] magic;
+    private final int[] defense;
+    private final boolean[] defending;
+    private final byte[] attackKind;
+    private final byte[] aiKind;
+    private final byte[] special;
+
+    // Estado de la IA
+    private final int[] aiTurnCounter;     // AggressiveAI
+    private final boolean[] shouldDefend;  // DefensiveAI
+    private final boolean[] fury;          // DragonWhelp
+
+    // Índices de los miembros vivos, con swap-remove igual que EnemyGroup
+    private final int[] living;
+    private final int[] livingSlot; // Posición de cada miembro en 'living' (-1 = muerto)
+    private int livingCount;
+    private int enemyHp;
+
+    private boolean battleOver = false;
+    private boolean won = false;
+
+    public PackedBattle(Character hero, Character enemies, GameRandom random) {
+        if (!canPack(hero, enemies)) {
+            throw new IllegalArgumentException("No se puede empaquetar la batalla: "
+                + hero.getName() + " vs " + enemies.getName());
+        }
+        this.random = random;
+        BalanceParameters balance = BalanceParameters.current();
+        this.minimumDamage = balance.getMinimumDamage();
+        this.defenseMultiplier = balance.getDefenseDamageMultiplier();
+
+        this.hero = hero;
+        this.heroHp = hero.getCurrentHp();
+        this.heroMaxHp = hero.getMaxHp();
+        this.heroMana = hero.getCurrentMana();
+        this.heroAttack = hero.getBaseAttack();
+        this.heroMagic = hero.getBaseMagic();
+        this.heroDefense = hero.getDefense();
+        this.heroDefending = hero.isDefending();
+        this.heroAttackKind = attackKindOf(hero.getAttackStrategy());
+
+        this.grouped = enemies instanceof EnemyGroup;
+        this.members = grouped
+            ? ((EnemyGroup) enemies).getMembers().toArray(new Character[0])
+            : new Character[] { enemies };
+
+        int n = members.length;
+        hp = new int[n];
+        maxHp = new int[n];
+        mana = new int[n];
+        attack = new int[n];
+        magic = new int[n];
+        defense = new int[n];
+        defending = new boolean[n];
+        attackKind = new byte[n];
+        aiKind = new byte[n];
+        special = new byte[n];
+        aiTurnCounter = new int[n];
+        shouldDefend = new boolean[n];
+        fury = new boolean[n];
+        living = new int[n];
+        livingSlot = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            Enemy enemy = (Enemy) members[i];
+            hp[i] = enemy.getCurrentHp();
+            maxHp[i] = enemy.getMaxHp();
+            mana[i] = enemy.getCurrentMana();
+            attack[i] = enemy.getBaseAttack();
+            magic[i] = enemy.getBaseMagic();
+            defense[i] = enemy.getDefense();
+            defending[i] = enemy.isDefending();
+            attackKind[i] = attackKindOf(enemy.getAttackStrategy());
+            aiKind[i] = aiKindOf(enemy.getAI());
+            special[i] = specialOf(enemy);
+            livingSlot[i] = -1;
+            enemyHp += hp[i];
+        }
+
+        // Los vivos en el mismo orden que el grupo, para elegir objetivos igual
+        if (grouped) {
+            Map<Character, Integer> indexOf = new IdentityHashMap<>();
+            for (int i = 0; i < n; i++) {
+                indexOf.put(members[i], i);
+            }
+            List<Character> groupLiving = ((EnemyGroup) enemies).getLivingMembers();
+            for (Character member : groupLiving) {
+                addLiving(indexOf.get(member));
+            }
+        } else if (hp[0] > 0) {
+            addLiving(0);
+        }
+    }
+
+    /**
+     * @return true si este motor sabe reproducir la batalla entre 'hero' y 'enemies'.
+     */
+    public static boolean canPack(Character hero, Character enemies) {
+        if (hero instanceof Enemy || hero instanceof EnemyGroup) {
+            return false;
+        }
+        if (attackKindOf(hero.getAttackStrategy()) < 0 || hero.getSpeed() != GameConstants.BASE_SPEED) {
+            return false;
+        }
+        if (enemies instanceof EnemyGroup) {
+            if (((EnemyGroup) enemies).isThreatTargeting()) {
+                return false; // Reparte los golpes de manera uniforme
+            }
+            for (Character member : ((EnemyGroup) enemies).getMembers()) {
+                if (!canPackEnemy(member)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return canPackEnemy(enemies);
+    }
+
+    private static boolean canPackEnemy(Character character) {
+        if (!(character instanceof Enemy)) {
+            return false;
+        }
+        Enemy enemy = (Enemy) character;
+        return enemy.getSpeed() == GameConstants.BASE_SPEED
+            && attackKindOf(enemy.getAttackStrategy()) >= 0
+            && aiKindOf(enemy.getAI()) >= 0
+            && specialOf(enemy) != SPECIAL_UNKNOWN;
+    }
+
+    // --- Turnos (mismo contrato que BattleManager) ---
+
+    /**
+     * El héroe ataca con su AttackStrategy a un enemigo vivo al azar.
+     */
+    public void playerTurn() {
+        if (battleOver) return;
+        if (heroHp <= 0) {
+            battleOver = true;
+            return;
+        }
+
+        heroDefending = false; // Atacar rompe la defensa
+        switch (heroAttackKind) {
+            case ATTACK_PHYSICAL:
+                hitEnemy(heroAttack);
+                break;
+            case ATTACK_MAGIC:
+                if (heroMana >= GameConstants.MAGIC_ATTACK_MANA_COST) {
+                    heroMana -= GameConstants.MAGIC_ATTACK_MANA_COST;
+                    hitEnemy(heroMagic);
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (livingCount == 0) {
+            battleOver = true;
+            won = true;
+        }
+    }
+
+    /**
+     * Cada enemigo vivo actúa según su IA, en el orden del grupo.
+     */
+    public void enemyTurn() {
+        if (battleOver) return;
+        if (livingCount == 0) {
+            battleOver = true;
+            return;
+        }
+
+        for (int i = 0; i < members.length && heroHp > 0; i++) {
+            if (hp[i] > 0) {
+                act(i);
+            }
+        }
+
+        if (heroHp <= 0) {
+            battleOver = true;
+        }
+    }
+
+    /**
+     * Copia el estado final (HP y maná) a los Character originales.
+     */
+    public void writeBack() {
+        hero.setCurrentHp(heroHp);
+        hero.setCurrentMana(heroMana);
+        for (int i = 0; i < members.length; i++) {
+            members[i].setCurrentHp(hp[i]);
+            members[i].setCurrentMana(mana[i]);
+        }
+    }
+
+    public boolean isBattleOver() { return battleOver; }
+    public boolean isPlayerVictory() { return won; }
+    public int getHeroHp() { return heroHp; }
+    public int getEnemyHp() { return enemyHp; }
+    public int getLivingEnemies() { return livingCount; }
+    public int getEnemyCount() { return members.length; }
+
+    // --- Ataques del héroe ---
+
+    // Equivale a EnemyGroup.takeDamage(): elige un miembro vivo al azar
+    private void hitEnemy(int amount) {
+        int i;
+        if (grouped) {
+            if (livingCount == 0) return;
+            i = living[random.nextInt(livingCount)];
+        } else {
+            i = 0;
+        }
+
+        // Skeleton: 20% de esquivar el golpe por completo
+        if (special[i] == SPECIAL_SKELETON && random.chance(0.20)) {
+            return;
+        }
+
+        int damage = amount - defense[i];
+        if (damage < minimumDamage) damage = minimumDamage;
+        if (defending[i]) {
+            damage = (int) (damage * defenseMultiplier);
+            defending[i] = false;
+        }
+
+        int before = hp[i];
+        hp[i] = Math.max(0, before - damage);
+        enemyHp -= before - hp[i];
+        if (before > 0 && hp[i] == 0) {
+            removeLiving(i);
+        }
+    }
+
+    private void addLiving(int i) {
+        livingSlot[i] = livingCount;
+        living[livingCount++] = i;
+    }
+
+    // Swap-remove: el último vivo ocupa el hueco del que muere
+    private void removeLiving(int i) {
+        int slot = livingSlot[i];
+        int moved = living[--livingCount];
+        living[slot] = moved;
+        livingSlot[moved] = slot;
+        livingSlot[i] = -1;
+    }
+
+    // --- Acciones enemigas ---
+
+    private void act(int i) {
+        if (special[i] == SPECIAL_DRAGON) {
+            dragonPassives(i);
+        }
+
+        switch (aiKind[i]) {
+            case AI_AGGRESSIVE:
+                aiTurnCounter[i]++;
+                if (aiTurnCounter[i] % 3 == 0) {
+                    specialAbility(i);
+                } else {
+                    attackHero(i);
+                }
+                break;
+
+            case AI_DEFENSIVE:
+                double hpPercent = (double) hp[i] / maxHp[i];
+                if (hpPercent < 0.5) {
+                    if (shouldDefend[i] || random.chance(0.66)) {
+                        defending[i] = true;
+                        shouldDefend[i] = false;
+                    } else {
+                        attackHero(i);
+                        shouldDefend[i] = true;
+                    }
+                } else if (shouldDefend[i]) {
+                    defending[i] = true;
+                    shouldDefend[i] = false;
+                } else {
+                    attackHero(i);
+                    shouldDefend[i] = true;
+                }
+                break;
+
+            case AI_EVASIVE:
+                double roll = random.nextDouble();
+                if (roll < 0.50) {
+                    attackHero(i);
+                } else if (roll < 0.80) {
+                    defending[i] = true;
+                } else {
+                    specialAbility(i);
+                }
+                break;
+
+            case AI_MAGE:
+                if ((double) hp[i] / maxHp[i] < 0.30) {
+                    defending[i] = true;
+                } else {
+                    attackHero(i);
+                }
+                break;
+
+            default:
+                attackHero(i);
+                break;
+        }
+    }
+
+    // DragonWhelp.performAIAction(): regeneración y modo furia antes de la IA
+    private void dragonPassives(int i) {
+        if (hp[i] < maxHp[i]) {
+            int before = hp[i];
+            hp[i] = Math.min(hp[i] + 5, maxHp[i]);
+            enemyHp += hp[i] - before;
+        }
+        if ((double) hp[i] / maxHp[i] < 0.30 && !fury[i]) {
+            fury[i] = true;
+            attack[i] += 5;
+            magic[i] += 5;
+        }
+    }
+
+    private void attackHero(int i) {
+        defending[i] = false; // Atacar rompe la defensa
+        switch (attackKind[i]) {
+            case ATTACK_PHYSICAL:
+                hitHero(attack[i]);
+                break;
+            case ATTACK_MAGIC:
+                if (mana[i] >= GameConstants.MAGIC_ATTACK_MANA_COST) {
+                    mana[i] -= GameConstants.MAGIC_ATTACK_MANA_COST;
+                    hitHero(magic[i]);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void specialAbility(int i) {
+        int damage;
+        switch (special[i]) {
+            case SPECIAL_SLIME:
+                hitHero((int) (attack[i] * 1.3));
+                break;
+            case SPECIAL_SKELETON:
+                hitHero((int) (attack[i] * 1.7));
+                break;
+            case SPECIAL_GOBLIN:
+                hitHero((int) (attack[i] * 1.5));
+                random.chance(0.40); // Arena en los ojos: solo visual, pero consume la tirada
+                break;
+            case SPECIAL_WOLF:
+                damage = (int) (attack[i] * 1.8);
+                if ((double) heroHp / heroMaxHp < 0.50) {
+                    damage = (int) (damage * 1.5);
+                }
+                hitHero(damage);
+                break;
+            case SPECIAL_ORC:
+                hitHero((int) (attack[i] * 2.0));
+                break;
+            case SPECIAL_BANDIT:
+                damage = (int) (attack[i] * 2.2);
+                if (random.chance(0.30)) {
+                    damage = (int) (attack[i] * 3.0);
+                }
+                hitHero(damage);
+                break;
+            case SPECIAL_DARK_MAGE:
+                if (mana[i] < GameConstants.DARK_MAGE_DRAIN_MANA_COST) {
+                    break; // Sin maná, el drenaje falla
+                }
+                mana[i] -= GameConstants.DARK_MAGE_DRAIN_MANA_COST;
+                damage = (int) (magic[i] * 1.8);
+                hitHero(damage);
+                int before = hp[i];
+                hp[i] = Math.min(hp[i] + damage / 2, maxHp[i]);
+                enemyHp += hp[i] - before;
+                break;
+            case SPECIAL_DRAGON:
+                if (mana[i] < GameConstants.DRAGON_BREATH_MANA_COST) {
+                    break; // Sin maná, el aliento falla
+                }
+                mana[i] -= GameConstants.DRAGON_BREATH_MANA_COST;
+                hitHero((int) (magic[i] * 2.5));
+                break;
+            default:
+                hitHero((int) (attack[i] * 1.5));
+                break;
+        }
+    }
+
+    // Equivale a Character.takeDamage() sobre el héroe
+    private void hitHero(int amount) {
+        int damage = amount - heroDefense;
+        if (damage < minimumDamage) damage = minimumDamage;
+        if (heroDefending) {
+            damage = (int) (damage * defenseMultiplier);
+            heroDefending = false;
+        }
+        heroHp = Math.max(0, heroHp - damage);
+    }
+
+    // --- Clasificación de los Character al empaquetar ---
+
+    private static byte attackKindOf(AttackStrategy strategy) {
+        if (strategy instanceof MeleeAttack || strategy instanceof RangedAttack) {
+            return ATTACK_PHYSICAL;
+        }
+        if (strategy instanceof MagicAttack) {
+            return ATTACK_MAGIC;
+        }
+        if (strategy instanceof PassiveStrategy) {
+            return ATTACK_NONE;
+        }
+        return -1;
+    }
+
+    private static byte aiKindOf(EnemyAI ai) {
+        if (ai == null) return AI_NONE;
+        if (ai instanceof AggressiveAI) return AI_AGGRESSIVE;
+        if (ai instanceof DefensiveAI) return AI_DEFENSIVE;
+        if (ai instanceof EvasiveAI) return AI_EVASIVE;
+        if (ai instanceof MageAI) return AI_MAGE;
+        return -1;
+    }
+
+    private static byte specialOf(Enemy enemy) {
+        Class<?> type = enemy.getClass();
+        if (type == Enemy.class) return SPECIAL_BASIC;
+        if (type == Slime.class) return SPECIAL_SLIME;
+        if (type == Skeleton.class) return SPECIAL_SKELETON;
+        if (type == Goblin.class) return SPECIAL_GOBLIN;
+        if (type == Wolf.class) return SPECIAL_WOLF;
+        if (type == OrcWarrior.class) return SPECIAL_ORC;
+        if (type == Bandit.class) return SPECIAL_BANDIT;
+        if (type == DarkMage.class) return SPECIAL_DARK_MAGE;
+        if (type == DragonWhelp.class) return SPECIAL_DRAGON;
+        return SPECIAL_UNKNOWN;
+    }
+}
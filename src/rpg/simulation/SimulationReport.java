@@ -0,0 +1,91 @@
+package rpg.simulation;
+
+/**
+ * Resultado agregado de muchas batallas simuladas de un mismo enfrentamiento.
+ *
+ * MÉTRICAS:
+ * - Tasa de victoria
+ * - Turnos para matar (solo batallas ganadas)
+ * - Daño por turno infligido por el héroe
+ * - Oro y XP por batalla (0 en las derrotas)
+ *
+ * Los reportes parciales de cada hilo se combinan con merge().
+ */
+public class SimulationReport {
+
+    private final String matchupName;
+    private long battles;
+    private long wins;
+    private long timeouts; // Batallas cortadas por el límite de turnos
+
+    private final IntHistogram turnsToKill = new IntHistogram();
+    private final IntHistogram damagePerTurn = new IntHistogram();
+    private final IntHistogram goldPerBattle = new IntHistogram();
+    private final IntHistogram xpPerBattle = new IntHistogram();
+
+    public SimulationReport(String matchupName) {
+        this.matchupName = matchupName;
+    }
+
+    /**
+     * Registra el resultado de una batalla.
+     */
+    void recordBattle(boolean won, boolean timedOut, int turns, int damagePerTurnValue, int gold, int xp) {
+        battles++;
+        if (won) {
+            wins++;
+            turnsToKill.record(turns);
+        }
+        if (timedOut) {
+            timeouts++;
+        }
+        damagePerTurn.record(damagePerTurnValue);
+        goldPerBattle.record(gold);
+        xpPerBattle.record(xp);
+    }
+
+    /**
+     * Combina otro reporte (del mismo enfrentamiento) con este.
+     */
+    public SimulationReport merge(SimulationReport other) {
+        battles += other.battles;
+        wins += other.wins;
+        timeouts += other.timeouts;
+        turnsToKill.merge(other.turnsToKill);
+        damagePerTurn.merge(other.damagePerTurn);
+        goldPerBattle.merge(other.goldPerBattle);
+        xpPerBattle.merge(other.xpPerBattle);
+        return this;
+    }
+
+    // Getters
+    public String getMatchupName() { return matchupName; }
+    public long getBattles() { return battles; }
+    public long getWins() { return wins; }
+    public long getTimeouts() { return timeouts; }
+    public IntHistogram getTurnsToKill() { return turnsToKill; }
+    public IntHistogram getDamagePerTurn() { return damagePerTurn; }
+    public IntHistogram getGoldPerBattle() { return goldPerBattle; }
+    public IntHistogram getXpPerBattle() { return xpPerBattle; }
+
+    public double getWinRate() {
+        return battles == 0 ? 0.0 : (double) wins / battles;
+    }
+
+    /**
+     * Resumen legible (para herramientas de balanceo, no para la consola del juego).
+     */
+    public String getSummary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(matchupName).append(": ").append(battles).append(" batallas, ");
+        sb.append(String.format("victoria %.1f%%", getWinRate() * 100));
+        if (timeouts > 0) {
+            sb.append(", ").append(timeouts).append(" sin terminar");
+        }
+        sb.append("\n  Turnos para matar: ").append(turnsToKill);
+        sb.append("\n  Daño por turno:    ").append(damagePerTurn);
+        sb.append("\n  Oro por batalla:   ").append(goldPerBattle);
+        sb.append("\n  XP por batalla:    ").append(xpPerBattle);
+        return sb.toString();
+    }
+}
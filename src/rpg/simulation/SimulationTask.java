@@ -0,0 +1,43 @@
+package rpg.simulation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Tarea Fork/Join que divide un rango de batallas hasta que es
+ * suficientemente pequeño para correrlo en un solo hilo.
+ */
+class SimulationTask extends RecursiveTask<SimulationReport> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Por debajo de este número de batallas no vale la pena dividir más
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final BattleSimulator simulator;
+    private final Matchup matchup;
+    private final long baseSeed;
+    private final int from;
+    private final int to;
+
+    SimulationTask(BattleSimulator simulator, Matchup matchup, long baseSeed, int from, int to) {
+        this.simulator = simulator;
+        this.matchup = matchup;
+        this.baseSeed = baseSeed;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected SimulationReport compute() {
+        if (to - from <= SEQUENTIAL_THRESHOLD) {
+            return simulator.runRange(matchup, baseSeed, from, to);
+        }
+
+        int middle = (from + to) >>> 1;
+        SimulationTask left = new SimulationTask(simulator, matchup, baseSeed, from, middle);
+        SimulationTask right = new SimulationTask(simulator, matchup, baseSeed, middle, to);
+        left.fork();
+        SimulationReport rightReport = right.compute();
+        return left.join().merge(rightReport);
+    }
+}
@@ -0,0 +1,63 @@
+package rpg.test;
+
+import java.util.Arrays;
+import java.util.List;
+import rpg.core.BalanceParameters.Knob;
+import rpg.factory.CharacterType;
+import rpg.factory.EnemyType;
+import rpg.simulation.BalanceSweep;
+import rpg.simulation.BattleSimulator;
+import rpg.simulation.Matchup;
+
+/**
+ * Ejemplo de barrido de balanceo (BalanceSweep) con todos los núcleos.
+ * 1. Barre la defensa y el HP extra del héroe contra enemigos de nivel medio
+ * 2. Muestra los 5 puntos más cercanos al objetivo
+ * 3. Refina alrededor del mejor: los puntos repetidos salen de la memoria
+ *
+ * Uso: java rpg.test.BalanceTuning [batallas por enfrentamiento]
+ */
+public class BalanceTuning {
+
+    private static final long SEED = 20240611L;
+
+    public static void main(String[] args) {
+        int battles = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        System.out.println("=== BARRIDO DE BALANCEO ===");
+
+        List<Matchup> matchups = Arrays.asList(
+            Matchup.single(CharacterType.WARRIOR, EnemyType.SKELETON),
+            Matchup.single(CharacterType.MAGE, EnemyType.BANDIT),
+            Matchup.single(CharacterType.ARCHER, EnemyType.WOLF));
+        BalanceSweep sweep = new BalanceSweep(new BattleSimulator(), matchups, battles, SEED);
+        BalanceSweep.Target target = BalanceSweep.Target.winRate(0.80, 0.95).maxTurnsToKill(10);
+        System.out.println("Objetivo: " + target);
+
+        // 1. Rejilla gruesa
+        long start = System.nanoTime();
+        List<BalanceSweep.Point> points = sweep.run(Arrays.asList(
+            BalanceSweep.Range.of(Knob.DEFENSE_DAMAGE_MULTIPLIER, 0.3, 0.7, 0.1),
+            BalanceSweep.Range.of(Knob.HERO_HP_BONUS, -40, 40, 20)), target);
+        System.out.printf("%n1. %d puntos en %.1f ms%n", points.size(), (System.nanoTime() - start) / 1e6);
+
+        // 2. Los mejores
+        for (BalanceSweep.Point point : points.subList(0, Math.min(5, points.size()))) {
+            System.out.println(point);
+        }
+
+        // 3. Rejilla fina alrededor del mejor punto
+        BalanceSweep.Point best = points.get(0);
+        double defense = best.getParams().get(Knob.DEFENSE_DAMAGE_MULTIPLIER);
+        double hpBonus = best.getParams().get(Knob.HERO_HP_BONUS);
+        int before = sweep.getEvaluatedCount();
+        start = System.nanoTime();
+        points = sweep.run(Arrays.asList(
+            BalanceSweep.Range.of(Knob.DEFENSE_DAMAGE_MULTIPLIER, defense - 0.1, defense + 0.1, 0.05),
+            BalanceSweep.Range.of(Knob.HERO_HP_BONUS, hpBonus - 10, hpBonus + 10, 10)), target);
+        System.out.printf("%n3. %d puntos (%d nuevos) en %.1f ms%n", points.size(),
+            sweep.getEvaluatedCount() - before, (System.nanoTime() - start) / 1e6);
+        System.out.println(points.get(0));
+
+        System.out.println("\n=== FIN DEL BARRIDO ===");
+    }
+}
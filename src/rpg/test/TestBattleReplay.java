@@ -0,0 +1,64 @@
+package rpg.test;
+
+import rpg.combat.BattleManager;
+import rpg.core.Character;
+import rpg.core.GameRandom;
+import rpg.events.CombatLog;
+import rpg.factory.CharacterFactory;
+import rpg.factory.CharacterType;
+import rpg.factory.EnemyFactory;
+import rpg.factory.EnemyType;
+import rpg.inventory.Equippable;
+import rpg.inventory.Ring;
+import rpg.inventory.Sword;
+import rpg.replay.BattleJournal;
+import rpg.replay.ReplayEngine;
+
+/**
+ * Las repeticiones (ReplayEngine.verify) de héroes equipados que usan su
+ * habilidad especial: el especial escala solo la stat base, así que el
+ * diario debe guardar los bonus de equipo por separado.
+ */
+public class TestBattleReplay {
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== VERIFICACIÓN DE REPETICIONES CON EQUIPO ===");
+        boolean previous = CombatLog.setSilent(true);
+        try {
+            check("Guerrero con Espada +10", CharacterType.WARRIOR, new Sword("Espada +10", "Prueba", 10));
+            check("Arquero con Espada +10", CharacterType.ARCHER, new Sword("Espada +10", "Prueba", 10));
+            check("Mago con Anillo +8 MAG", CharacterType.MAGE, new Ring("Anillo", "Prueba", 0, 8, 2));
+            check("Guerrero sin equipo", CharacterType.WARRIOR, null);
+        } finally {
+            CombatLog.setSilent(previous);
+        }
+        System.out.println("\n=== VERIFICACIÓN COMPLETADA ===");
+    }
+
+    private static void check(String label, CharacterType type, Equippable item) throws Exception {
+        System.out.println("\n" + label + "...");
+        Character hero = new CharacterFactory().createCharacter(type, "TestHero");
+        if (item != null) {
+            hero.equip(item);
+        }
+
+        // Solo especiales y turnos enemigos contra un enemigo con mucho HP
+        GameRandom random = new GameRandom(42);
+        Character enemy = new EnemyFactory(random).createEnemy(EnemyType.ORC);
+        BattleManager battle = new BattleManager(hero, enemy, random);
+        for (int turn = 0; turn < 6 && !battle.isBattleOver(); turn++) {
+            battle.playerSpecialAbility();
+            if (!battle.isBattleOver()) {
+                battle.currentEnemyTurn();
+            }
+        }
+
+        // Repetición desde los bytes, como un diario guardado
+        BattleJournal journal = BattleJournal.fromByteArray(battle.getJournal().toByteArray());
+        if (new ReplayEngine().verify(journal)) {
+            System.out.println("[OK] La repetición llega al mismo resultado ("
+                + journal.getActionCount() + " acciones)");
+        } else {
+            System.err.println("[ERROR] La repetición diverge de la batalla original");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package rpg.test;
+
+import java.util.Base64;
+import java.util.List;
+import rpg.core.Character;
+import rpg.inventory.Chestplate;
+import rpg.inventory.Equippable;
+import rpg.inventory.Item;
+import rpg.inventory.Sword;
+import rpg.persistence.GameState;
+import rpg.persistence.SaveCodec;
+
+/**
+ * Una partida guardada con las clases de antes de SaveCodec (serialización
+ * Java) debe seguir cargando: si cambia el serialVersionUID de un objeto
+ * guardado, decodeLegacy falla con InvalidClassException.
+ *
+ * LEGACY_SAVE es un .sav escrito por esas clases: un Warrior "Legado" con
+ * 123 de oro, una Espada (+7) y una Pechera (+5) equipadas, y otra de cada
+ * en la mochila.
+ *
+ * Uso: java rpg.test.TestLegacySave
+ */
+public class TestLegacySave {
+
+    private static final String LEGACY_SAVE =
+        "rO0ABXNyABlycGcucGVyc2lzdGVuY2UuR2FtZVN0YXRlAAAAAAAAAAECAAZJAA9wbGF5VGltZU1p" +
+        "bnV0ZXNMAA1jaGFyYWN0ZXJUeXBldAAbTHJwZy9mYWN0b3J5L0NoYXJhY3RlclR5cGU7TAALZ2Ft" +
+        "ZVZlcnNpb250ABJMamF2YS9sYW5nL1N0cmluZztMAAZwbGF5ZXJ0ABRMcnBnL2NvcmUvQ2hhcmFj" +
+        "dGVyO0wACHNhdmVEYXRldAAZTGphdmEvdGltZS9Mb2NhbERhdGVUaW1lO0wACHNhdmVOYW1lcQB+" +
+        "AAJ4cAAAAAB+cgAZcnBnLmZhY3RvcnkuQ2hhcmFjdGVyVHlwZQAAAAAAAAAAEgAAeHIADmphdmEu" +
+        "bGFuZy5FbnVtAAAAAAAAAAASAAB4cHQAB1dBUlJJT1J0AAMzLjBzcgAQcnBnLmNvcmUuV2Fycmlv" +
+        "cjbwot8QzIxvAgAAeHIAEnJwZy5jb3JlLkNoYXJhY3RlcgAAAAAAAAABAgASSQALYXR0YWNrQm9u" +
+        "dXNJAApiYXNlQXR0YWNrSQAJYmFzZU1hZ2ljSQAKY3VycmVudEV4cEkACWN1cnJlbnRIcEkAC2N1" +
+        "cnJlbnRNYW5hSQAMZGVmZW5zZUJvbnVzSQAOZXhwVG9OZXh0TGV2ZWxJAARnb2xkWgALaXNEZWZl" +
+        "bmRpbmdJAAVsZXZlbEkACm1hZ2ljQm9udXNJAAVtYXhIcEkAB21heE1hbmFMAA5hdHRhY2tTdHJh" +
+        "dGVneXQAG0xycGcvY29tYmF0L0F0dGFja1N0cmF0ZWd5O0wACWVxdWlwbWVudHQAGUxycGcvaW52" +
+        "ZW50b3J5L0VxdWlwbWVudDtMAAlpbnZlbnRvcnl0ABlMcnBnL2ludmVudG9yeS9JbnZlbnRvcnk7" +
+        "TAAEbmFtZXEAfgACeHAAAAAHAAAACgAAAAAAAAAAAAAAZAAAAAAAAAAFAAAAZAAAAHsAAAAAAQAA" +
+        "AAAAAABkAAAAAHNyABZycGcuY29tYmF0Lk1lbGVlQXR0YWNrAAAAAAAAAAECAAB4cHNyABdycGcu" +
+        "aW52ZW50b3J5LkVxdWlwbWVudAAAAAAAAAABAgABTAANZXF1aXBwZWRJdGVtc3QAD0xqYXZhL3V0" +
+        "aWwvTWFwO3hwc3IAEWphdmEudXRpbC5IYXNoTWFwBQfawcMWYNEDAAJGAApsb2FkRmFjdG9ySQAJ" +
+        "dGhyZXNob2xkeHA/QAAAAAAADHcIAAAAEAAAAAJ+cgAScnBnLmludmVudG9yeS5TbG90AAAAAAAA" +
+        "AAASAAB4cQB+AAd0AAZXRUFQT05zcgATcnBnLmludmVudG9yeS5Td29yZNqONl6BbDlgAgABSQAL" +
+        "YXR0YWNrQm9udXN4cgAScnBnLmludmVudG9yeS5JdGVtAAAAAAAAAAECAAJMAAtkZXNjcmlwdGlv" +
+        "bnEAfgACTAAEbmFtZXEAfgACeHB0ABpGb3JqYWRhIGFudGVzIGRlIFNhdmVDb2RlY3QAEUVzcGFk" +
+        "YSBkZWwgTGVnYWRvAAAAB35xAH4AGHQABUNIRVNUc3IAGHJwZy5pbnZlbnRvcnkuQ2hlc3RwbGF0" +
+        "ZQWCDCc6mL/7AgABSQAMZGVmZW5zZUJvbnVzeHEAfgAccQB+AB50ABJQZWNoZXJhIGRlbCBMZWdh" +
+        "ZG8AAAAFeHNyABdycGcuaW52ZW50b3J5LkludmVudG9yeQAAAAAAAAABAgACTAAJZXF1aXBtZW50" +
+        "cQB+AA5MAAVpdGVtc3QAEExqYXZhL3V0aWwvTGlzdDt4cHNxAH4AE3NxAH4AFj9AAAAAAAAAdwgA" +
+        "AAAQAAAAAHhzcgATamF2YS51dGlsLkFycmF5TGlzdHiB0h2Zx2GdAwABSQAEc2l6ZXhwAAAAAncE" +
+        "AAAAAnNxAH4AG3QADUVuIGxhIG1vY2hpbGF0ABBEYWdhIGRlIFJlcHVlc3RvAAAAA3NxAH4AInEA" +
+        "fgAtdAAKQ290YSBWaWVqYQAAAAJ4dAAGTGVnYWRvc3IADWphdmEudGltZS5TZXKVXYS6GyJIsgwA" +
+        "AHhwdw4FAAAH6goSBS4GMuq1OXh0AAxiYXNlbGluZS5zYXY=";
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== VERIFICACIÓN DE PARTIDAS GUARDADAS ANTIGUAS ===");
+
+        byte[] data = Base64.getDecoder().decode(LEGACY_SAVE);
+
+        // 1. Reconocer el formato antiguo
+        System.out.println("\n1. Verificando formato...");
+        if (SaveCodec.isLegacy(data) && !SaveCodec.isBinary(data)) {
+            System.out.println("[OK] El .sav se reconoce como serialización Java");
+        } else {
+            System.err.println("[ERROR] El .sav no se reconoce como formato antiguo");
+        }
+
+        // 2. Cargarlo
+        System.out.println("\n2. Cargando la partida antigua...");
+        GameState state;
+        try {
+            state = SaveCodec.decodeLegacy(data);
+            System.out.println("[OK] Partida cargada: " + state.getPlayer().getName());
+        } catch (Exception e) {
+            System.err.println("[ERROR] No se pudo cargar: " + e);
+            System.out.println("\n=== VERIFICACIÓN COMPLETADA ===");
+            return;
+        }
+        verify(state.getPlayer(), "partida antigua");
+
+        // 3. Migrarla al formato nuevo sin perder nada
+        System.out.println("\n3. Verificando migración a SaveCodec...");
+        byte[] migrated = SaveCodec.encode(state);
+        if (SaveCodec.isBinary(migrated)) {
+            verify(SaveCodec.decode(migrated).getPlayer(), "partida migrada");
+        } else {
+            System.err.println("[ERROR] La partida migrada no usa el formato de SaveCodec");
+        }
+
+        System.out.println("\n=== VERIFICACIÓN COMPLETADA ===");
+    }
+
+    private static void verify(Character player, String label) {
+        if (player.getName().equals("Legado") && player.getGold() == 123) {
+            System.out.println("[OK] " + label + ": nombre y oro correctos");
+        } else {
+            System.err.println("[ERROR] " + label + ": " + player.getName() + " con " + player.getGold() + " de oro");
+        }
+
+        Equippable weapon = player.getEquipment().getWeapon();
+        if (weapon instanceof Sword && ((Sword) weapon).getName().equals("Espada del Legado")
+                && ((Sword) weapon).getAttackBonus() == 7) {
+            System.out.println("[OK] " + label + ": Espada equipada (+7 ATK)");
+        } else {
+            System.err.println("[ERROR] " + label + ": arma equipada incorrecta: " + weapon);
+        }
+
+        Equippable chest = player.getEquipment().getChestplate();
+        if (chest instanceof Chestplate && ((Chestplate) chest).getName().equals("Pechera del Legado")
+                && ((Chestplate) chest).getDefenseBonus() == 5) {
+            System.out.println("[OK] " + label + ": Pechera equipada (+5 DEF)");
+        } else {
+            System.err.println("[ERROR] " + label + ": pechera equipada incorrecta: " + chest);
+        }
+
+        List<Item> items = player.getInventory().getItems();
+        if (contains(items, Sword.class, "Daga de Repuesto") && contains(items, Chestplate.class, "Cota Vieja")) {
+            System.out.println("[OK] " + label + ": Espada y Pechera de la mochila conservadas");
+        } else {
+            System.err.println("[ERROR] " + label + ": mochila incorrecta: " + items);
+        }
+    }
+
+    private static boolean contains(List<Item> items, Class<? extends Item> type, String name) {
+        for (Item item : items) {
+            if (type.isInstance(item) && item.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,136 @@
+package rpg.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import rpg.core.Character;
+import rpg.events.EventType;
+import rpg.factory.CharacterType;
+import rpg.persistence.SessionJournal;
+import rpg.session.GameSession;
+import rpg.session.GameSessionHost;
+
+/**
+ * Una partida con diario (GameSession.startJournal()) debe poder recuperarse
+ * tras una caída: GameSessionHost.recoverSession() vuelve al último oro,
+ * XP y HP anotados aunque la sesión nunca se cerrara.
+ *
+ * La caída se simula abandonando la sesión: su pool se apaga sin cerrar el
+ * diario (sin el snapshot final de close()), así que el oro, la XP y el HP
+ * solo están en los registros del diario.
+ *
+ * Uso: java rpg.test.TestSessionJournal
+ */
+public class TestSessionJournal {
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=== VERIFICACIÓN DEL DIARIO DE SESIÓN ===");
+
+        Path directory = Files.createTempDirectory("rpg-session-journal");
+        try {
+            run(directory);
+        } finally {
+            deleteRecursively(directory);
+        }
+
+        System.out.println("\n=== VERIFICACIÓN COMPLETADA ===");
+    }
+
+    private static void run(Path directory) throws Exception {
+        // 1. Abrir la sesión con diario
+        System.out.println("\n1. Abriendo una sesión con diario...");
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        GameSessionHost host = new GameSessionHost(pool);
+        GameSession session = host.openSession();
+        session.execute(context -> context.startNewGame(CharacterType.WARRIOR, "Diarista"));
+        try {
+            session.startJournal(directory).get();
+            System.out.println("[OK] Diario abierto en " + directory);
+        } catch (Exception e) {
+            System.err.println("[ERROR] No se pudo abrir el diario: " + e);
+            pool.shutdownNow();
+            return;
+        }
+
+        // 2. Jugar: oro, XP y daño (sin subir de nivel, que tomaría un snapshot)
+        System.out.println("\n2. Cambiando oro, XP y HP...");
+        int[] expected = session.submit(context -> {
+            Character player = context.getPlayer();
+            player.addGold(250);
+            player.removeGold(40);
+            player.gainExperience(30);
+            player.setCurrentHp(player.getCurrentHp() - 17);
+            return new int[] { player.getGold(), player.getCurrentExp(), player.getCurrentHp() };
+        }).get();
+        System.out.println("[OK] Oro " + expected[0] + ", XP " + expected[1] + ", HP " + expected[2]);
+
+        // 3. Gastar oro avisa con PLAYER_GOLD_CHANGED y no escribe ningún mensaje
+        System.out.println("\n3. Verificando los eventos de gastar oro...");
+        int[] counts = session.submit(context -> {
+            AtomicInteger goldEvents = new AtomicInteger();
+            AtomicInteger messages = new AtomicInteger();
+            context.getEvents().subscribe(EventType.PLAYER_GOLD_CHANGED, event -> goldEvents.incrementAndGet());
+            context.getEvents().subscribe(EventType.NEW_MESSAGE_LOGGED, event -> messages.incrementAndGet());
+            context.getPlayer().removeGold(10);
+            return new int[] { goldEvents.get(), messages.get() };
+        }).get();
+        expected[0] -= 10;
+        if (counts[0] == 1 && counts[1] == 0) {
+            System.out.println("[OK] Un PLAYER_GOLD_CHANGED y ningún mensaje");
+        } else {
+            System.err.println("[ERROR] PLAYER_GOLD_CHANGED: " + counts[0] + ", mensajes: " + counts[1]);
+        }
+
+        // 4. Caída: el pool se apaga sin cerrar la sesión ni el diario
+        System.out.println("\n4. Simulando una caída...");
+        pool.shutdownNow();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+        System.out.println("[OK] Sesión abandonada sin cerrar el diario");
+
+        // 5. Recuperar en un host nuevo
+        System.out.println("\n5. Recuperando la partida...");
+        try (GameSessionHost recoveryHost = new GameSessionHost()) {
+            GameSession recovered = recoveryHost.recoverSession(directory);
+            if (recovered == null) {
+                System.err.println("[ERROR] El directorio no tiene snapshot");
+                return;
+            }
+            int[] actual = recovered.submit(context -> {
+                Character player = context.getPlayer();
+                return new int[] { player.getGold(), player.getCurrentExp(), player.getCurrentHp() };
+            }).get();
+            if (actual[0] == expected[0] && actual[1] == expected[1] && actual[2] == expected[2]) {
+                System.out.println("[OK] Oro " + actual[0] + ", XP " + actual[1] + ", HP " + actual[2]);
+            } else {
+                System.err.println("[ERROR] Esperado oro " + expected[0] + ", XP " + expected[1] + ", HP "
+                    + expected[2] + "; recuperado oro " + actual[0] + ", XP " + actual[1] + ", HP " + actual[2]);
+            }
+
+            // 6. La sesión recuperada sigue anotando: otra caída no pierde lo nuevo
+            System.out.println("\n6. Verificando que la sesión recuperada sigue con diario...");
+            int gold = recovered.submit(context -> {
+                context.getPlayer().addGold(5);
+                return context.getPlayer().getGold();
+            }).get();
+            int recoveredGold = SessionJournal.recover(directory).getPlayer().getGold(); // Sin cerrarla
+            recoveryHost.closeSession(recovered);
+            if (recoveredGold == gold) {
+                System.out.println("[OK] El diario recuperado anotó el oro nuevo: " + recoveredGold);
+            } else {
+                System.err.println("[ERROR] Esperado " + gold + " de oro, recuperado " + recoveredGold);
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
@@ -2,12 +2,14 @@ package rpg.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import rpg.core.GameFacade;
 import rpg.core.Character;
 import rpg.core.Enemy;
-import rpg.core.GameConstants;
 import rpg.events.GameEventListener;
 import rpg.events.GameEventManager;
+import rpg.events.Subscription;
 import rpg.events.EventType;
 import rpg.ui.theme.UITheme;
 import rpg.ui.components.ModernButton;
@@ -17,6 +19,9 @@ import rpg.ui.components.ModernButton;
  */
 public class BattlePanel extends JPanel implements GameEventListener {
     private static final long serialVersionUID = 1L;
+
+    // Suscripciones al bus (se cierran en removeNotify())
+    private final transient List<Subscription> subscriptions = new ArrayList<>();
     
     private MainGameWindow mainWindow;
     private JTextArea battleLogArea;
@@ -38,8 +43,8 @@ public class BattlePanel extends JPanel implements GameEventListener {
         setBackground(UITheme.SECONDARY_DARK);
         setBorder(BorderFactory.createEmptyBorder(25, 25, 25, 25));
         
-        // Suscribirse a eventos de batalla
-        GameEventManager.getInstance().subscribe(EventType.NEW_MESSAGE_LOGGED, this);
+        // Suscribirse a eventos de batalla (débil: el panel descartado no queda retenido)
+        subscribeToEvents();
         
         // Panel superior: Información de combatientes
         JPanel combatantsPanel = createCombatantsPanel();
@@ -67,6 +72,30 @@ public class BattlePanel extends JPanel implements GameEventListener {
         
         refresh();
     }
+
+    private void subscribeToEvents() {
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.NEW_MESSAGE_LOGGED, this));
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (subscriptions.isEmpty()) {
+            subscribeToEvents(); // Vuelve a la ventana después de un removeNotify()
+        }
+    }
+
+    /**
+     * Fuera de la ventana: deja de escuchar (como MainGameWindow.dispose()).
+     */
+    @Override
+    public void removeNotify() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        super.removeNotify();
+    }
     
     private JLabel playerImageLabel;
     private JLabel enemyImageLabel;
@@ -290,13 +319,14 @@ public class BattlePanel extends JPanel implements GameEventListener {
     private void performDefend() {
         appendBattleLog("\n--- Turno del héroe ---");
         appendBattleLog(">>> Te pones en guardia defensiva");
+        GameFacade.getInstance().playerDefend();
         processTurn();
     }
     
     private void flee() {
         appendBattleLog(">>> Intentas huir...");
         
-        if (Math.random() < GameConstants.FLEE_SUCCESS_RATE) {
+        if (GameFacade.getInstance().tryFlee()) {
             appendBattleLog("¡Escapaste con éxito!");
             mainWindow.showPanel("EXPLORE");
         } else {
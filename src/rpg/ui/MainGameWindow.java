@@ -8,6 +8,7 @@ import rpg.factory.CharacterType;
 import rpg.events.GameEventListener;
 import rpg.events.EventType;
 import rpg.events.GameEventManager;
+import rpg.events.Subscription;
 
 /**
  * PROPÓSITO:
@@ -60,6 +61,9 @@ public class MainGameWindow extends JFrame implements GameEventListener {
     private StatsPanel statsPanel;
     private BattlePanel battlePanel;
     
+    // Suscripción a PLAYER_DIED (se quita en dispose())
+    private Subscription playerDiedSubscription;
+    
     /**
      * Constructor principal de la ventana.
      * Inicializa el flujo completo del juego comenzando con la pantalla de título.
@@ -77,8 +81,8 @@ public class MainGameWindow extends JFrame implements GameEventListener {
         // Obtener instancia del facade
         gameFacade = GameFacade.getInstance();
         
-        // Suscribirse al evento PLAYER_DIED
-        GameEventManager.getInstance().subscribe(EventType.PLAYER_DIED, this);
+        // Suscribirse al evento PLAYER_DIED (débil: una ventana cerrada no queda retenida)
+        playerDiedSubscription = GameEventManager.getInstance().subscribeWeak(EventType.PLAYER_DIED, this);
         
         // Configurar CardLayout principal
         mainCardLayout = new CardLayout();
@@ -138,6 +142,15 @@ public class MainGameWindow extends JFrame implements GameEventListener {
         mainContainer.add(gamePanel, "GAME");
     }
     
+    /**
+     * Cierra la ventana y deja de escuchar eventos.
+     */
+    @Override
+    public void dispose() {
+        playerDiedSubscription.close();
+        super.dispose();
+    }
+    
     /**
      * Crea el panel del juego principal con todos sus componentes.
      */
@@ -3,12 +3,15 @@ package rpg.ui;
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import rpg.core.GameFacade;
 import rpg.quest.Quest;
 import rpg.quest.QuestStatus;
 import rpg.events.GameEventListener;
 import rpg.events.EventType;
 import rpg.events.GameEventManager;
+import rpg.events.Subscription;
 
 /**
  * Panel de misiones que muestra las quests disponibles y activas.
@@ -20,6 +23,9 @@ import rpg.events.GameEventManager;
  */
 public class QuestPanel extends JPanel implements GameEventListener {
     private static final long serialVersionUID = 1L;
+
+    // Suscripciones al bus (se cierran en removeNotify())
+    private final transient List<Subscription> subscriptions = new ArrayList<>();
     
     private JTable questTable;
     private DefaultTableModel tableModel;
@@ -112,9 +118,32 @@ public class QuestPanel extends JPanel implements GameEventListener {
      * Suscribe este panel a los eventos relevantes.
      * Este panel se interesa en:
      * - QUEST_COMPLETED: cuando se completa una quest
+     * Suscripciones débiles: si el panel se descarta (nueva partida, cargar),
+     * se recoge y sus suscripciones desaparecen solas; al quitarlo de la
+     * ventana se cierran en removeNotify().
      */
     private void subscribeToEvents() {
-        GameEventManager.getInstance().subscribe(EventType.QUEST_COMPLETED, this);
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.QUEST_COMPLETED, this));
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (subscriptions.isEmpty()) {
+            subscribeToEvents(); // Vuelve a la ventana después de un removeNotify()
+        }
+    }
+
+    /**
+     * Fuera de la ventana: deja de escuchar (como MainGameWindow.dispose()).
+     */
+    @Override
+    public void removeNotify() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        super.removeNotify();
     }
     
     /**
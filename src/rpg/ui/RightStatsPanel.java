@@ -2,12 +2,18 @@ package rpg.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import rpg.core.Character;
+import rpg.core.GameConstants;
 import rpg.core.GameFacade;
+import rpg.core.StatBlock;
 import rpg.inventory.Equipment;
 import rpg.events.GameEventListener;
+import rpg.events.EventCoalescer;
 import rpg.events.EventType;
 import rpg.events.GameEventManager;
+import rpg.events.Subscription;
 
 /**
  * Panel derecho que muestra estadísticas detalladas del personaje.
@@ -19,9 +25,16 @@ import rpg.events.GameEventManager;
  */
 public class RightStatsPanel extends JPanel implements GameEventListener {
     private static final long serialVersionUID = 1L;
+
+    // Suscripciones al bus (se cierran en removeNotify())
+    private final transient List<Subscription> subscriptions = new ArrayList<>();
     
     private JTextArea statsArea;
     
+    // El bus solo lo referencia débilmente: el panel lo mantiene vivo
+    private final GameEventListener coalesced = new EventCoalescer(this, GameConstants.UI_FRAME_MILLIS,
+        SwingUtilities::invokeLater);
+    
     public RightStatsPanel() {
         setLayout(new BorderLayout());
         setBackground(new Color(50, 50, 55));
@@ -58,10 +71,35 @@ public class RightStatsPanel extends JPanel implements GameEventListener {
      * Este panel se interesa en:
      * - PLAYER_HP_CHANGED: el HP puede afectar la visualización
      * - PLAYER_LEVELED_UP: stats cambian con level
+     * Los cambios de HP se agrupan por frame (EventCoalescer): un refresco
+     * como mucho cada GameConstants.UI_FRAME_MILLIS.
+     * Suscripciones débiles: si el panel se descarta (nueva partida, cargar),
+     * se recoge y sus suscripciones desaparecen solas; al quitarlo de la
+     * ventana se cierran en removeNotify().
      */
     private void subscribeToEvents() {
-        GameEventManager.getInstance().subscribe(EventType.PLAYER_HP_CHANGED, this);
-        GameEventManager.getInstance().subscribe(EventType.PLAYER_LEVELED_UP, this);
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.PLAYER_HP_CHANGED, coalesced));
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.PLAYER_LEVELED_UP, this));
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (subscriptions.isEmpty()) {
+            subscribeToEvents(); // Vuelve a la ventana después de un removeNotify()
+        }
+    }
+
+    /**
+     * Fuera de la ventana: deja de escuchar (como MainGameWindow.dispose()).
+     */
+    @Override
+    public void removeNotify() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        super.removeNotify();
     }
     
     /**
@@ -88,9 +126,10 @@ public class RightStatsPanel extends JPanel implements GameEventListener {
         StringBuilder sb = new StringBuilder();
         sb.append("ESTADISTICAS\n");
         sb.append("━━━━━━━━━━━━━━━━━━\n\n");
-        sb.append("Ataque:  ").append(player.getAttack()).append("\n");
-        sb.append("Defensa: ").append(player.getDefense()).append("\n");
-        sb.append("Magia:   ").append(player.getMagic()).append("\n\n");
+        StatBlock stats = player.getStats(); // Los tres valores del mismo instante
+        sb.append("Ataque:  ").append(stats.getAttack()).append("\n");
+        sb.append("Defensa: ").append(stats.getDefense()).append("\n");
+        sb.append("Magia:   ").append(stats.getMagic()).append("\n\n");
         
         sb.append("EXPERIENCIA\n");
         sb.append("━━━━━━━━━━━━━━━━━━\n\n");
@@ -2,11 +2,17 @@ package rpg.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import rpg.core.Character;
+import rpg.core.GameConstants;
 import rpg.core.GameFacade;
+import rpg.core.StatBlock;
 import rpg.events.GameEventListener;
+import rpg.events.EventCoalescer;
 import rpg.events.EventType;
 import rpg.events.GameEventManager;
+import rpg.events.Subscription;
 
 /**
  * Panel de estadísticas detalladas del personaje.
@@ -18,9 +24,16 @@ import rpg.events.GameEventManager;
  */
 public class StatsPanel extends JPanel implements GameEventListener {
     private static final long serialVersionUID = 1L;
+
+    // Suscripciones al bus (se cierran en removeNotify())
+    private final transient List<Subscription> subscriptions = new ArrayList<>();
     
     private JTextArea statsArea;
     
+    // El bus solo lo referencia débilmente: el panel lo mantiene vivo
+    private final GameEventListener coalesced = new EventCoalescer(this, GameConstants.UI_FRAME_MILLIS,
+        SwingUtilities::invokeLater);
+    
     public StatsPanel() {
         setLayout(new BorderLayout(10, 10));
         setBackground(new Color(245, 245, 245));
@@ -58,11 +71,35 @@ public class StatsPanel extends JPanel implements GameEventListener {
      * - PLAYER_LEVELED_UP: las estadísticas cambian con cada nivel
      * - PLAYER_HP_CHANGED: mostrar HP actualizado
      * - PLAYER_MANA_CHANGED: mostrar maná actualizado
+     * Los cambios de HP y maná se agrupan por frame (EventCoalescer).
+     * Suscripciones débiles: si el panel se descarta (nueva partida, cargar),
+     * se recoge y sus suscripciones desaparecen solas; al quitarlo de la
+     * ventana se cierran en removeNotify().
      */
     private void subscribeToEvents() {
-        GameEventManager.getInstance().subscribe(EventType.PLAYER_LEVELED_UP, this);
-        GameEventManager.getInstance().subscribe(EventType.PLAYER_HP_CHANGED, this);
-        GameEventManager.getInstance().subscribe(EventType.PLAYER_MANA_CHANGED, this);
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.PLAYER_LEVELED_UP, this));
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.PLAYER_HP_CHANGED, coalesced));
+        subscriptions.add(GameEventManager.getInstance().subscribeWeak(EventType.PLAYER_MANA_CHANGED, coalesced));
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (subscriptions.isEmpty()) {
+            subscribeToEvents(); // Vuelve a la ventana después de un removeNotify()
+        }
+    }
+
+    /**
+     * Fuera de la ventana: deja de escuchar (como MainGameWindow.dispose()).
+     */
+    @Override
+    public void removeNotify() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        super.removeNotify();
     }
     
     /**
@@ -104,9 +141,10 @@ public class StatsPanel extends JPanel implements GameEventListener {
         sb.append("│              ATRIBUTOS                     │\n");
         sb.append("└────────────────────────────────────────────┘\n\n");
         
-        sb.append("Ataque:        ").append(player.getAttack()).append("\n");
-        sb.append("Defensa:       ").append(player.getDefense()).append("\n");
-        sb.append("Magia:         ").append(player.getMagic()).append("\n\n");
+        StatBlock stats = player.getStats(); // Los tres valores del mismo instante
+        sb.append("Ataque:        ").append(stats.getAttack()).append("\n");
+        sb.append("Defensa:       ").append(stats.getDefense()).append("\n");
+        sb.append("Magia:         ").append(stats.getMagic()).append("\n\n");
         
         sb.append("┌────────────────────────────────────────────┐\n");
         sb.append("│              EXPERIENCIA                   │\n");
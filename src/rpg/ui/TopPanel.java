@@ -2,11 +2,16 @@ package rpg.ui;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
 import rpg.core.Character;
+import rpg.core.GameConstants;
 import rpg.core.GameFacade;
 import rpg.events.GameEventListener;
+import rpg.events.EventCoalescer;
 import rpg.events.EventType;
 import rpg.events.GameEventManager;
+import rpg.events.Subscription;
 
 /**
  * Panel superior que muestra información vital del jugador.
@@ -19,6 +24,9 @@ import rpg.events.GameEventManager;
  */
 public class TopPanel extends JPanel implements GameEventListener {
     private static final long serialVersionUID = 1L;
+
+    // Suscripciones al bus (se cierran en removeNotify())
+    private final transient List<Subscription> subscriptions = new ArrayList<>();
     
     private JProgressBar hpBar;
     private JProgressBar manaBar;
@@ -28,6 +36,10 @@ public class TopPanel extends JPanel implements GameEventListener {
     private JLabel hpLabel;
     private JLabel manaLabel;
     
+    // El bus solo lo referencia débilmente: el panel lo mantiene vivo
+    private final GameEventListener coalesced = new EventCoalescer(this, GameConstants.UI_FRAME_MILLIS,
+        SwingUtilities::invokeLater);
+    
     public TopPanel() {
         setLayout(new BorderLayout(10, 5));
         setBackground(new Color(45, 45, 48));
@@ -106,12 +118,36 @@ public class TopPanel extends JPanel implements GameEventListener {
     /**
      * Suscribe este panel a los eventos que le interesan.
      * Cada panel es responsable de saber qué eventos necesita escuchar.
+     * Las barras de HP y maná se refrescan como mucho una vez por frame (EventCoalescer).
+     * Suscripciones débiles: si el panel se descarta (nueva partida, cargar),
+     * se recoge y sus suscripciones desaparecen solas; al quitarlo de la
+     * ventana se cierran en removeNotify().
      */
     private void subscribeToEvents() {
         GameEventManager eventManager = GameEventManager.getInstance();
-        eventManager.subscribe(EventType.PLAYER_HP_CHANGED, this);
-        eventManager.subscribe(EventType.PLAYER_MANA_CHANGED, this);
-        eventManager.subscribe(EventType.PLAYER_LEVELED_UP, this);
+        subscriptions.add(eventManager.subscribeWeak(EventType.PLAYER_HP_CHANGED, coalesced));
+        subscriptions.add(eventManager.subscribeWeak(EventType.PLAYER_MANA_CHANGED, coalesced));
+        subscriptions.add(eventManager.subscribeWeak(EventType.PLAYER_LEVELED_UP, this));
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (subscriptions.isEmpty()) {
+            subscribeToEvents(); // Vuelve a la ventana después de un removeNotify()
+        }
+    }
+
+    /**
+     * Fuera de la ventana: deja de escuchar (como MainGameWindow.dispose()).
+     */
+    @Override
+    public void removeNotify() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        super.removeNotify();
     }
     
     @Override